@@ -0,0 +1,26 @@
+package com.penny.expense.config;
+
+import com.penny.expense.service.columnar.ColumnarExpenseStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the in-memory columnar copy of the expenses table on startup,
+ * when {@code app.analytics.columnar.enabled} is set.
+ *
+ * Until it finishes (or if the table exceeds the memory budget) the
+ * dashboard and anomaly thresholds are served by the SQL path.
+ */
+@Component
+@RequiredArgsConstructor
+public class ColumnarStoreInitializer implements ApplicationRunner {
+
+    private final ColumnarExpenseStore columnarStore;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        columnarStore.reload();
+    }
+}
@@ -2,6 +2,8 @@ package com.penny.expense.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +26,11 @@ import java.net.URI;
  * This config parses the URI manually and builds a clean HikariDataSource
  * with credentials separated, so neither Spring nor HikariCP ever sees a
  * URL with embedded credentials.
+ *
+ * Because the pool is built here rather than by Boot's auto-configuration,
+ * its Micrometer tracker is attached explicitly, before the pool starts:
+ * {@code hikaricp.connections.*{pool=penny}} — active, idle, pending,
+ * acquire/usage/creation timings and timeouts.
  */
 @Configuration
 @Profile("prod")
@@ -34,10 +41,11 @@ public class DataSourceConfig {
     private String rawDatabaseUrl;
 
     @Bean
-    public DataSource dataSource() {
+    public DataSource dataSource(MeterRegistry meterRegistry) {
         URI uri = parseUri(rawDatabaseUrl);
 
-        String jdbcUrl = String.format("jdbc:postgresql://%s:%d%s?sslmode=require",
+        // reWriteBatchedInserts: the driver folds JDBC insert batches into multi-row INSERTs
+        String jdbcUrl = String.format("jdbc:postgresql://%s:%d%s?sslmode=require&reWriteBatchedInserts=true",
                 uri.getHost(),
                 uri.getPort() == -1 ? 5432 : uri.getPort(),
                 uri.getPath());
@@ -69,6 +77,9 @@ public class DataSourceConfig {
         config.setKeepaliveTime(300_000);
         config.setConnectionTestQuery("SELECT 1");
 
+        config.setPoolName("penny");
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
         return new HikariDataSource(config);
     }
 
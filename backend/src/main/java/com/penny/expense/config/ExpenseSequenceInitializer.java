@@ -0,0 +1,42 @@
+package com.penny.expense.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prod-profile guard for the switch from IDENTITY to the pooled
+ * {@code expense_seq} sequence.
+ *
+ * Databases created before the switch already hold rows whose ids came
+ * from the identity column, while {@code ddl-auto=update} creates the new
+ * sequence starting at 1. Without this step the first pooled block would
+ * hand out ids that already exist. On startup the sequence is moved past
+ * MAX(id) whenever it lags behind; otherwise nothing is touched.
+ *
+ * The H2 dev database is created fresh on every start and needs no help.
+ */
+@Component
+@Profile("prod")
+@RequiredArgsConstructor
+@Slf4j
+public class ExpenseSequenceInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long maxId     = jdbcTemplate.queryForObject("SELECT MAX(id) FROM expenses", Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM expense_seq", Long.class);
+        if (maxId == null || lastValue == null || maxId < lastValue) {
+            return;
+        }
+        // is_called = true: the next pooled block starts at maxId + 1
+        jdbcTemplate.queryForObject("SELECT setval('expense_seq', ?, true)", Long.class, maxId);
+        log.info("Advanced expense_seq past existing ids [maxId={}, previous={}]", maxId, lastValue);
+    }
+}
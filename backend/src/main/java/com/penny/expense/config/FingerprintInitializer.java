@@ -0,0 +1,96 @@
+package com.penny.expense.config;
+
+import com.penny.expense.model.ExpenseFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Gives fingerprints to expenses stored before they existed, so that
+ * re-uploading an old statement is recognised too.
+ *
+ * Rows are processed one date at a time (the fingerprint covers the date,
+ * so no two dates can interfere): fingerprints already on the date are
+ * taken first, then each remaining row, in id order, gets the lowest free
+ * occurrence ordinal for its content. Updates commit in batches, so an
+ * interrupted run simply resumes on the next start. Once every row has a
+ * fingerprint, startup costs one query.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FingerprintInitializer implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ROWS_ON_DATE = """
+            SELECT e.id, e.amount, v.name, e.description, e.fingerprint
+              FROM expenses e JOIN vendors v ON v.id = e.vendor_id
+             WHERE e.date = ?
+             ORDER BY e.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<LocalDate> dates = jdbcTemplate.queryForList(
+                "SELECT DISTINCT date FROM expenses WHERE fingerprint IS NULL ORDER BY date", LocalDate.class);
+        if (dates.isEmpty()) {
+            return;
+        }
+        List<Object[]> updates = new ArrayList<>(BATCH_SIZE);
+        int            filled  = 0;
+        for (LocalDate date : dates) {
+            for (Object[] update : fingerprintsFor(date)) {
+                updates.add(update);
+                if (updates.size() == BATCH_SIZE) {
+                    filled += flush(updates);
+                }
+            }
+        }
+        filled += flush(updates);
+        log.info("Fingerprinted existing expenses [rows={}, dates={}]", filled, dates.size());
+    }
+
+    /** {@code {fingerprint, id}} pairs for the date's unfingerprinted rows. */
+    private List<Object[]> fingerprintsFor(LocalDate date) {
+        List<Row> rows  = jdbcTemplate.query(ROWS_ON_DATE, (rs, i) -> new Row(
+                rs.getLong(1), rs.getBigDecimal(2), rs.getString(3), rs.getString(4), rs.getObject(5, UUID.class)), date);
+        Set<UUID> taken = new HashSet<>();
+        rows.stream().map(Row::fingerprint).filter(Objects::nonNull).forEach(taken::add);
+
+        List<Object[]> updates = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.fingerprint() != null) continue;
+            UUID fingerprint;
+            int  ordinal = 0;
+            do {
+                fingerprint = ExpenseFingerprint.of(date, row.amount(), row.vendorName(), row.description(), ordinal++);
+            } while (!taken.add(fingerprint));
+            updates.add(new Object[] {fingerprint, row.id()});
+        }
+        return updates;
+    }
+
+    private int flush(List<Object[]> updates) {
+        if (updates.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("UPDATE expenses SET fingerprint = ? WHERE id = ?", updates);
+        int count = updates.size();
+        updates.clear();
+        return count;
+    }
+
+    private record Row(long id, BigDecimal amount, String vendorName, String description, UUID fingerprint) {}
+}
@@ -1,14 +1,21 @@
 package com.penny.expense.config;
 
+import com.penny.expense.exception.AdminAccessDeniedException;
+import com.penny.expense.exception.BulkDeleteConflictException;
 import com.penny.expense.exception.ExpenseNotFoundException;
+import com.penny.expense.exception.ImportConflictException;
+import com.penny.expense.exception.ImportJobNotFoundException;
+import com.penny.expense.exception.ImportRejectedException;
 import com.penny.expense.exception.InvalidExpenseException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
@@ -41,12 +48,48 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorBody(404, ex.getMessage(), null));
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleImportNotFound(ImportJobNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorBody(404, ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(ImportRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleImportRejected(ImportRejectedException ex) {
+        log.warn("Import rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorBody(503, ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(BulkDeleteConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleBulkDeleteConflict(BulkDeleteConflictException ex) {
+        log.warn("Bulk delete conflict: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorBody(409, ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(ImportConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleImportConflict(ImportConflictException ex) {
+        log.warn("Import conflict: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorBody(409, ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(AdminAccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleAdminDenied(AdminAccessDeniedException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorBody(401, ex.getMessage(), null));
+    }
+
     @ExceptionHandler(InvalidExpenseException.class)
     public ResponseEntity<Map<String, Object>> handleInvalid(InvalidExpenseException ex) {
         log.warn("Invalid request: {}", ex.getMessage());
         return ResponseEntity.badRequest().body(errorBody(400, ex.getMessage(), null));
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleTooLarge(MaxUploadSizeExceededException ex) {
+        log.warn("Upload too large: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorBody(413, ex.getMessage(), null));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArg(IllegalArgumentException ex) {
         return ResponseEntity.badRequest().body(errorBody(400, ex.getMessage(), null));
@@ -0,0 +1,43 @@
+package com.penny.expense.config;
+
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.strategy.ExpenseImportWriter;
+import com.penny.expense.service.strategy.JpaBatchImportWriter;
+import com.penny.expense.service.strategy.PostgresCopyImportWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import javax.sql.DataSource;
+
+/**
+ * Exposes the active ExpenseImportWriter bean.
+ *
+ * OCP + DIP: ExpenseService depends on the ExpenseImportWriter interface.
+ * {@code app.import.mode=copy} opts the prod profile into PostgreSQL COPY
+ * ingest; every other combination — including {@code copy} on the H2 dev
+ * profile — falls back to JDBC batch inserts.
+ */
+@Configuration
+@Slf4j
+public class ImportWriterConfig {
+
+    @Value("${app.import.mode:batch}")
+    private String importMode;
+
+    @Bean
+    public ExpenseImportWriter expenseImportWriter(ExpenseRepository expenseRepository,
+                                                   DataSource dataSource,
+                                                   Environment environment) {
+        if ("copy".equalsIgnoreCase(importMode)) {
+            if (environment.acceptsProfiles(Profiles.of("prod"))) {
+                return new PostgresCopyImportWriter(dataSource);
+            }
+            log.warn("app.import.mode=copy needs the prod (PostgreSQL) profile — using batch inserts");
+        }
+        return new JpaBatchImportWriter(expenseRepository);
+    }
+}
@@ -0,0 +1,21 @@
+package com.penny.expense.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans. Boot times HTTP requests on its
+ * own; this aspect covers the service layer ({@code ExpenseService} is
+ * annotated at class level, so every public method gets a timer tagged
+ * with its name and any exception thrown).
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.penny.expense.config;
+
+import com.penny.expense.service.RollupMaintainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds category_stats and the dashboard rollups from the expenses
+ * table on startup, when they need it.
+ *
+ * The aggregates are kept exact by every write path in ExpenseService,
+ * but a database that predates these tables — or one edited by hand —
+ * would otherwise start with missing or stale sums. Checking the totals
+ * costs one aggregate over expenses, so a consistent database starts
+ * without the full rebuild; POST /api/admin/rollups/rebuild forces one.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollupInitializer implements ApplicationRunner {
+
+    private final RollupMaintainer rollupMaintainer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rollupMaintainer.isStale()) {
+            rollupMaintainer.rebuild();
+        } else {
+            log.info("Rollups match expenses; no rebuild needed");
+        }
+    }
+}
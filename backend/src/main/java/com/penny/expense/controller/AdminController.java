@@ -0,0 +1,60 @@
+package com.penny.expense.controller;
+
+import com.penny.expense.dto.RollupRebuildResult;
+import com.penny.expense.exception.AdminAccessDeniedException;
+import com.penny.expense.service.RollupMaintainer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Operational endpoints that are not part of the expense API itself.
+ *
+ * Only mapped when {@code app.admin.token} (ADMIN_TOKEN) is set, and every
+ * call must carry that token in {@code X-Admin-Token}; without it the
+ * endpoints do not exist.
+ *
+ * SRP: HTTP concerns only — the work is delegated to service components.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@ConditionalOnExpression("!'${app.admin.token:}'.isBlank()")
+@Tag(name = "Admin", description = "Maintenance operations")
+public class AdminController {
+
+    private final RollupMaintainer rollupMaintainer;
+    private final byte[]           adminToken;
+
+    public AdminController(RollupMaintainer rollupMaintainer,
+                           @Value("${app.admin.token}") String adminToken) {
+        this.rollupMaintainer = rollupMaintainer;
+        this.adminToken       = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/rollups/rebuild")
+    @Operation(summary = "Recompute category, monthly and vendor rollups from the expenses table")
+    public RollupRebuildResult rebuildRollups(@RequestHeader(name = "X-Admin-Token", required = false) String token) {
+        authorize(token);
+        RollupMaintainer.RebuildCounts counts = rollupMaintainer.rebuild();
+        return RollupRebuildResult.builder()
+                .categories(counts.categories())
+                .monthCategories(counts.monthCategories())
+                .vendors(counts.vendors())
+                .build();
+    }
+
+    private void authorize(String token) {
+        // Constant-time comparison: response timing must not reveal a matching prefix
+        if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new AdminAccessDeniedException();
+        }
+    }
+}
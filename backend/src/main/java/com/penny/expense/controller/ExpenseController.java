@@ -1,20 +1,39 @@
 package com.penny.expense.controller;
 
+import com.penny.expense.dto.BulkDeleteRequest;
+import com.penny.expense.dto.BulkDeleteResult;
 import com.penny.expense.dto.CsvUploadResult;
+import com.penny.expense.dto.DashboardFilter;
 import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.dto.ExpenseBatchResult;
+import com.penny.expense.dto.ExpenseFilter;
+import com.penny.expense.dto.ExpensePage;
 import com.penny.expense.dto.ExpenseRequest;
 import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.dto.ImportJobResponse;
+import com.penny.expense.service.DashboardCache;
+import com.penny.expense.service.ExpenseExportService;
 import com.penny.expense.service.ExpenseService;
+import com.penny.expense.service.ImportJobService;
 import com.penny.expense.service.strategy.CategorizationStrategy;
+import com.penny.expense.service.strategy.ExpenseExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -39,10 +58,20 @@ import java.util.NoSuchElementException;
 public class ExpenseController {
 
     private final ExpenseService          expenseService;
+    private final ImportJobService        importJobService;
+    private final ExpenseExportService    expenseExportService;
     private final CategorizationStrategy  categorizationStrategy;
 
     @GetMapping
-    @Operation(summary = "List all expenses ordered by date desc")
+    @Operation(summary = "List expenses newest first, one cursor-paginated page at a time")
+    public ExpensePage list(ExpenseFilter filter,
+                            @RequestParam(required = false) String cursor,
+                            @RequestParam(required = false) Integer limit) {
+        return expenseService.findPage(filter, cursor, limit);
+    }
+
+    @GetMapping(params = "unpaged=true")
+    @Operation(summary = "List all expenses ordered by date desc in one response")
     public List<ExpenseResponse> listAll() {
         return expenseService.findAll();
     }
@@ -64,6 +93,12 @@ public class ExpenseController {
         return expenseService.create(request);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Add many expenses from a JSON array, in one transaction; one result per element")
+    public ExpenseBatchResult createBatch(InputStream body) {
+        return expenseService.createBatch(body);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete an expense and re-evaluate anomaly flags for that category")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -75,9 +110,16 @@ public class ExpenseController {
         }
     }
 
+    @PostMapping("/bulk-delete")
+    @Operation(summary = "Delete the expenses matching an id list and/or category, date range or import batch; " +
+                         "each affected category is re-evaluated once")
+    public BulkDeleteResult bulkDelete(@RequestBody BulkDeleteRequest request) {
+        return expenseService.deleteMatching(request);
+    }
+
     @PostMapping("/upload-csv")
-    @Operation(summary = "Upload a CSV file to bulk-import expenses")
-    public ResponseEntity<CsvUploadResult> uploadCsv(@RequestParam("file") MultipartFile file) {
+    @Operation(summary = "Upload a CSV file (or .csv.gz) to bulk-import expenses in the background; poll the returned job")
+    public ResponseEntity<?> uploadCsv(@RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body(
                     CsvUploadResult.builder()
@@ -86,13 +128,43 @@ public class ExpenseController {
                             .build()
             );
         }
-        return ResponseEntity.ok(expenseService.uploadFile(file));
+        return accepted(importJobService.submit(file));
+    }
+
+    @PostMapping(value = "/upload-csv", consumes = {"text/csv", "application/gzip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Import a raw CSV request body, plain or gzip-compressed (Content-Encoding: gzip), " +
+                         "in the background; poll the returned job")
+    public ResponseEntity<ImportJobResponse> uploadCsvBody(InputStream body,
+                                                           @RequestParam(defaultValue = "upload.csv") String filename,
+                                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        return accepted(importJobService.submit(body, filename, contentType));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream every expense as NDJSON (default) or CSV")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        ExpenseExportFormat exportFormat = expenseExportService.format(format);
+        StreamingResponseBody body = out -> expenseExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("expenses." + exportFormat.fileExtension()).build().toString())
+                .body(body);
     }
 
     @GetMapping("/dashboard")
-    @Operation(summary = "Get dashboard: monthly category totals, top vendors, anomaly list")
-    public DashboardResponse dashboard() {
-        return expenseService.getDashboard();
+    @Operation(summary = "Get dashboard: monthly category totals, top vendors and the largest anomalies, " +
+                         "optionally scoped by from/to date and category")
+    public ResponseEntity<DashboardResponse> dashboard(DashboardFilter filter, WebRequest request) {
+        // Unchanged since the client's copy: 304 straight from the data version, no query
+        if (request.checkNotModified(expenseService.currentDashboardETag())) {
+            return null;
+        }
+        DashboardCache.Entry dashboard = expenseService.getDashboard(filter);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(dashboard.etag())
+                .body(dashboard.body());
     }
 
     @GetMapping("/categories")
@@ -100,4 +172,10 @@ public class ExpenseController {
     public Map<String, String> categories() {
         return categorizationStrategy.getRules();
     }
+
+    private static ResponseEntity<ImportJobResponse> accepted(ImportJobResponse job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/imports/" + job.getId()))
+                .body(job);
+    }
 }
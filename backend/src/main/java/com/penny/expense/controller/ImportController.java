@@ -0,0 +1,39 @@
+package com.penny.expense.controller;
+
+import com.penny.expense.dto.ImportJobResponse;
+import com.penny.expense.service.ImportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Progress and cancellation of the background imports started by
+ * {@code POST /api/expenses/upload-csv}.
+ *
+ * SRP: HTTP concerns only — the jobs themselves live in ImportJobService.
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "Background CSV import jobs")
+public class ImportController {
+
+    private final ImportJobService importJobService;
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Status of an import: rows processed and failed, throughput, final outcome")
+    public ImportJobResponse status(@PathVariable String id) {
+        return importJobService.status(id);
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancel an import; chunks already committed are kept")
+    public ImportJobResponse cancel(@PathVariable String id) {
+        return importJobService.cancel(id);
+    }
+}
@@ -0,0 +1,38 @@
+package com.penny.expense.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Which expenses {@code POST /api/expenses/bulk-delete} removes. Every
+ * set field narrows the match, bounds are inclusive, and at least one
+ * field must be set.
+ */
+@Data
+public class BulkDeleteRequest {
+
+    private List<Long> ids;
+    private String     category;
+    private LocalDate  from;
+    private LocalDate  to;
+
+    /** Id of the import job that wrote the rows */
+    private UUID importBatch;
+
+    public boolean isUnscoped() {
+        return (ids == null || ids.isEmpty()) && (category == null || category.isBlank())
+                && from == null && to == null && importBatch == null;
+    }
+
+    /** The category and date bounds, as the list filter understands them. */
+    public ExpenseFilter asFilter() {
+        ExpenseFilter filter = new ExpenseFilter();
+        filter.setCategory(category);
+        filter.setFrom(from);
+        filter.setTo(to);
+        return filter;
+    }
+}
@@ -0,0 +1,14 @@
+package com.penny.expense.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkDeleteResult {
+    private long deleted;
+    /** Categories whose anomaly flags are re-evaluated, once each */
+    private List<String> categories;
+}
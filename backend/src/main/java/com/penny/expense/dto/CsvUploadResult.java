@@ -9,6 +9,8 @@ import java.util.List;
 @Builder
 public class CsvUploadResult {
     private int added;
+    /** Rows left out because an identical row is already stored */
+    private int skippedDuplicates;
     private int failed;
     private List<String> errors;
 }
@@ -0,0 +1,36 @@
+package com.penny.expense.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional dashboard scope, bound from query parameters. Both dates are
+ * inclusive; with nothing set the dashboard covers all of history.
+ */
+@Data
+public class DashboardFilter {
+
+    private String category;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    /** True when no parameter narrows the dashboard. */
+    public boolean isUnscoped() {
+        return (category == null || category.isBlank()) && from == null && to == null;
+    }
+
+    /** The same scope as a list filter, for the predicates shared with GET /api/expenses. */
+    public ExpenseFilter toExpenseFilter() {
+        ExpenseFilter filter = new ExpenseFilter();
+        filter.setCategory(category);
+        filter.setFrom(from);
+        filter.setTo(to);
+        return filter;
+    }
+}
@@ -17,13 +17,21 @@ public class DashboardResponse {
     /** Top 5 vendors by total spend */
     private List<VendorStat> topVendors;
 
-    /** All-time spend per category */
+    /** Spend per category within the requested scope (all time by default) */
     private List<CategoryStat> categoryTotals;
 
-    /** All anomalous expenses */
+    /** The largest anomalous expenses in scope, at most app.dashboard.anomaly-limit */
     private List<ExpenseResponse> anomalies;
 
-    private int anomalyCount;
+    /** Every anomalous expense in scope, including those not embedded above */
+    private long anomalyCount;
+
+    /**
+     * List URL paging through all anomalies in scope, newest first (the
+     * list's order, not the largest-first order above); null when
+     * {@code anomalies} is complete
+     */
+    private String moreAnomalies;
 
     @Data @Builder
     public static class VendorStat {
@@ -0,0 +1,39 @@
+package com.penny.expense.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of {@code POST /api/expenses/batch}: totals, and one result per
+ * element of the posted array, in array order.
+ */
+@Data
+@Builder
+public class ExpenseBatchResult {
+
+    private int created;
+
+    /** Elements left out because an identical expense is already stored */
+    private int duplicates;
+
+    /** Elements rejected by validation */
+    private int failed;
+
+    private List<Item> results;
+
+    @Data @Builder
+    public static class Item {
+
+        /** Position in the posted array, from 0 */
+        private int index;
+
+        /** CREATED, DUPLICATE or INVALID */
+        private String status;
+
+        /** Field → message, for INVALID elements only */
+        private Map<String, String> errors;
+    }
+}
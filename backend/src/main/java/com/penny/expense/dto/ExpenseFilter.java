@@ -0,0 +1,27 @@
+package com.penny.expense.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Optional list filters, bound from query parameters. Every bound is
+ * inclusive; unset fields do not constrain the result.
+ */
+@Data
+public class ExpenseFilter {
+
+    private String category;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Boolean    anomaly;
+}
@@ -0,0 +1,17 @@
+package com.penny.expense.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of expenses, newest first. Pass {@code nextCursor} back as
+ * {@code cursor} to continue; it is null on the last page.
+ */
+@Data
+@Builder
+public class ExpensePage {
+    private List<ExpenseResponse> items;
+    private String                nextCursor;
+}
@@ -1,5 +1,6 @@
 package com.penny.expense.dto;
 
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -18,6 +19,7 @@ public class ExpenseRequest {
 
     @NotNull(message = "amount is required")
     @DecimalMin(value = "0.01", message = "Amount must be > 0")
+    @DecimalMax(value = "9999999999.99", message = "Amount must be at most 9999999999.99")
     private BigDecimal amount;
 
     @NotBlank(message = "vendorName is required")
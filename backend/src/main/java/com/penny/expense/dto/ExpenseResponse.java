@@ -1,5 +1,6 @@
 package com.penny.expense.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -14,9 +15,14 @@ import java.time.LocalDateTime;
  * The static factory method from(Expense) has been removed and moved to
  * ExpenseMapper, which is the correct place for entity↔DTO conversion.
  * A DTO should not know about the entity it represents.
+ *
+ * The public all-args constructor is the target of the repository's JPQL
+ * constructor expressions; keep its parameter order in step with
+ * ExpenseRepository.AS_RESPONSE.
  */
 @Data
 @Builder
+@AllArgsConstructor
 public class ExpenseResponse {
     private Long          id;
     private LocalDate     date;
@@ -0,0 +1,44 @@
+package com.penny.expense.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Snapshot of one asynchronous CSV import. Poll {@code GET /api/imports/{id}}
+ * until {@code status} is SUCCEEDED, FAILED or CANCELLED.
+ */
+@Data
+@Builder
+public class ImportJobResponse {
+
+    private String id;
+    private String fileName;
+
+    /** QUEUED, RUNNING, SUCCEEDED, FAILED or CANCELLED */
+    private String status;
+
+    /** Rows committed so far; each chunk commits on its own */
+    private long rowsProcessed;
+
+    /** Rows left out because an identical row is already stored */
+    private long skippedDuplicates;
+
+    /** Rows rejected by validation; known once the file has been read */
+    private long rowsFailed;
+
+    /** Committed rows per second since the job started */
+    private double rowsPerSecond;
+
+    /** Row-level validation errors; filled in once the file has been read */
+    private List<String> errors;
+
+    /** Why the job failed, if it did */
+    private String message;
+
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,13 @@
+package com.penny.expense.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/** Rows written to each aggregate table by a full rollup rebuild. */
+@Data
+@Builder
+public class RollupRebuildResult {
+    private int categories;
+    private int monthCategories;
+    private int vendors;
+}
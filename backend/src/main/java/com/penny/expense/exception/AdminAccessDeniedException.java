@@ -0,0 +1,13 @@
+package com.penny.expense.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/** Thrown when an admin endpoint is called without the configured admin token. */
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class AdminAccessDeniedException extends RuntimeException {
+
+    public AdminAccessDeniedException() {
+        super("Missing or invalid X-Admin-Token");
+    }
+}
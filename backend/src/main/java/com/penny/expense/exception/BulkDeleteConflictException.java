@@ -0,0 +1,13 @@
+package com.penny.expense.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/** Thrown when rows matching a bulk delete changed while it ran; nothing was deleted and the client may retry. */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class BulkDeleteConflictException extends RuntimeException {
+
+    public BulkDeleteConflictException(String message) {
+        super(message);
+    }
+}
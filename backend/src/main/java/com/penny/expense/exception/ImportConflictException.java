@@ -0,0 +1,17 @@
+package com.penny.expense.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a concurrent import stored some of the same rows while a
+ * single-transaction import ran; nothing was saved, and sending the file
+ * again skips those rows as duplicates.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ImportConflictException extends RuntimeException {
+
+    public ImportConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.penny.expense.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/** Thrown when a requested import job id is unknown or has been evicted. */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String id) {
+        super("Import job not found: " + id);
+    }
+}
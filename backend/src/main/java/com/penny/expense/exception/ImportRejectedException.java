@@ -0,0 +1,13 @@
+package com.penny.expense.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/** Thrown when every import slot and queue position is taken; the client should retry later. */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ImportRejectedException extends RuntimeException {
+
+    public ImportRejectedException(String message) {
+        super(message);
+    }
+}
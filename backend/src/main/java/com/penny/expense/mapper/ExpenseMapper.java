@@ -3,6 +3,7 @@ package com.penny.expense.mapper;
 import com.penny.expense.dto.ExpenseRequest;
 import com.penny.expense.dto.ExpenseResponse;
 import com.penny.expense.model.Expense;
+import com.penny.expense.model.Money;
 import org.springframework.stereotype.Component;
 
 /**
@@ -30,7 +31,7 @@ public class ExpenseMapper {
     public Expense toEntity(ExpenseRequest request, String category) {
         return Expense.builder()
                 .date(request.getDate())
-                .amount(request.getAmount())
+                .amount(Money.of(request.getAmount()).toBigDecimal())
                 .vendorName(request.getVendorName())
                 .description(request.getDescription() == null ? "" : request.getDescription().trim())
                 .category(category)
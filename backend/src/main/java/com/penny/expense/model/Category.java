@@ -0,0 +1,27 @@
+package com.penny.expense.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Dictionary row for a category name. Expenses reference it by
+ * {@code category_id}, so the name is stored once rather than on every row.
+ */
+@Entity
+@Table(name = "categories", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_category_name", columnNames = "name")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Category {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+}
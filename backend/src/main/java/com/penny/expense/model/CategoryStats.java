@@ -0,0 +1,43 @@
+package com.penny.expense.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Running sum and count of expense amounts per category.
+ *
+ * Maintained in the same transaction as every insert and delete, so the
+ * category mean used for anomaly detection is an O(1) primary-key read
+ * instead of a scan over every expense in the category. Keyed by
+ * {@code category_id}, like the expenses it sums, so a rollup row costs
+ * an integer key rather than the name.
+ */
+@Entity
+@Table(name = "category_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryStats {
+
+    @Id
+    @Column(name = "category_id")
+    private Integer categoryId;
+
+    /** Read-only view of the key, for joining the name in queries; never loaded by the app. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_category_stats_category"))
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Category categoryRef;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+}
@@ -9,12 +9,23 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "expenses", indexes = {
-    @Index(name = "idx_expense_category", columnList = "category"),
-    @Index(name = "idx_expense_date",     columnList = "date"),
-    @Index(name = "idx_expense_anomaly",  columnList = "is_anomaly")
+    @Index(name = "idx_expense_vendor",   columnList = "vendor_id"),
+    // Also serves category_id alone, e.g. the anomaly recalculation
+    @Index(name = "idx_expense_category_flag_amount", columnList = "category_id, is_anomaly, amount"),
+    // Keyset paging on (date DESC, id DESC), unfiltered and per list filter;
+    // their leading columns also serve date ranges and is_anomaly alone
+    @Index(name = "idx_expense_date_id",          columnList = "date, id"),
+    @Index(name = "idx_expense_category_date_id", columnList = "category_id, date, id"),
+    @Index(name = "idx_expense_anomaly_date_id",  columnList = "is_anomaly, date, id"),
+    @Index(name = "idx_expense_amount",           columnList = "amount"),
+    // Re-uploaded rows are recognised by content; see ExpenseFingerprint
+    @Index(name = "uk_expense_fingerprint",       columnList = "fingerprint", unique = true),
+    // Bulk delete of one import
+    @Index(name = "idx_expense_import_batch",     columnList = "import_batch")
 })
 @Getter
 @Setter
@@ -23,8 +34,14 @@ import java.time.LocalDateTime;
 @Builder
 public class Expense {
 
+    /**
+     * Pooled sequence rather than IDENTITY: Hibernate can hand out ids
+     * without a round trip per row, which is what lets CSV imports be
+     * flushed as real JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expense_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -36,17 +53,57 @@ public class Expense {
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal amount;
 
+    /**
+     * Vendor and category are stored as integer keys into the
+     * {@link Vendor} and {@link Category} dictionaries. The write path
+     * works with names and fills these in through DictionaryCache.
+     */
+    @Column(name = "vendor_id", nullable = false)
+    private Integer vendorId;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+
+    /** Read-only views of the keys above, for joins in queries; never loaded by the app. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vendor_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_expense_vendor"))
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Vendor vendorRef;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_expense_category"))
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Category categoryRef;
+
+    /** Vendor name on the write path; the row itself holds only vendor_id. */
     @NotBlank
-    @Column(name = "vendor_name", nullable = false, length = 200)
+    @Transient
     private String vendorName;
 
     @Column(length = 500)
     private String description;
 
+    /** Category name on the write path; the row itself holds only category_id. */
     @NotBlank
-    @Column(nullable = false, length = 100)
+    @Transient
     private String category;
 
+    /**
+     * {@link ExpenseFingerprint} of the row's content. Null only on rows
+     * written before fingerprints existed, until FingerprintInitializer
+     * fills them in.
+     */
+    @Column(name = "fingerprint")
+    private UUID fingerprint;
+
+    /** Id of the import job that wrote the row; null for rows entered one at a time. */
+    @Column(name = "import_batch")
+    private UUID importBatch;
+
     @Column(name = "is_anomaly", nullable = false)
     @Builder.Default
     private boolean isAnomaly = false;
@@ -0,0 +1,63 @@
+package com.penny.expense.model;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Content fingerprint of an expense: date, amount in cents, vendor name
+ * (trimmed, lower-cased, inner whitespace collapsed) and description, plus
+ * an occurrence ordinal, hashed into a name-based UUID.
+ *
+ * The ordinal tells identical rows apart: a statement may well list two
+ * identical coffees on one day, and they are the 0th and 1st occurrence of
+ * that content. Uploading the statement again yields the same ordinals,
+ * so each row meets its own earlier copy and nothing else.
+ *
+ * Fields are length-prefixed before hashing, so no choice of vendor and
+ * description text can make two different rows hash the same input.
+ */
+public final class ExpenseFingerprint {
+
+    private ExpenseFingerprint() {}
+
+    public static UUID of(Expense expense, int ordinal) {
+        return of(expense.getDate(), expense.getAmount(), expense.getVendorName(), expense.getDescription(), ordinal);
+    }
+
+    public static UUID of(LocalDate date, BigDecimal amount, String vendorName, String description, int ordinal) {
+        byte[] vendor = normalizeVendor(vendorName).getBytes(StandardCharsets.UTF_8);
+        byte[] notes  = (description == null ? "" : description.trim()).getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer content = ByteBuffer.allocate(8 + 8 + 4 + vendor.length + 4 + notes.length + 4)
+                .putLong(date.toEpochDay())
+                .putLong(Money.of(amount).cents())
+                .putInt(vendor.length).put(vendor)
+                .putInt(notes.length).put(notes)
+                .putInt(ordinal);
+        return UUID.nameUUIDFromBytes(content.array());
+    }
+
+    /** Vendor spelling differences that do not make a different transaction. */
+    static String normalizeVendor(String vendorName) {
+        if (vendorName == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(vendorName.length());
+        boolean       space      = false;
+        for (int i = 0; i < vendorName.length(); i++) {
+            char c = vendorName.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) normalized.append(' ');
+                normalized.append(c);
+                space = false;
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
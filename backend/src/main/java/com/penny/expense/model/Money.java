@@ -0,0 +1,93 @@
+package com.penny.expense.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money as a count of minor units (paise), for arithmetic on
+ * the hot paths — aggregation, rollup deltas and anomaly thresholds.
+ *
+ * A {@code long} adds and compares without allocating and never rounds
+ * the way {@code double} does. Every operation is exact: a result that
+ * does not fit in a {@code long} throws {@link ArithmeticException}
+ * instead of silently wrapping.
+ *
+ * Persistence and the REST API keep using {@link BigDecimal} with scale 2
+ * (as on {@code Expense.amount}); convert with {@link #of(BigDecimal)} and
+ * {@link #toBigDecimal()} at those boundaries only.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    /** Scale of stored amounts — two decimal places. */
+    public static final int SCALE = 2;
+
+    /** Largest amount a single expense can hold: NUMERIC(12, 2). */
+    public static final Money MAX_EXPENSE_AMOUNT = new Money(999_999_999_999L);
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * Converts a decimal amount, rounding half-up to two places as the
+     * NUMERIC(12, 2) column would on insert.
+     *
+     * @throws ArithmeticException if the amount does not fit in a long of minor units
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Amount out of range: " + amount.toPlainString());
+        }
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(cents));
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * {@code floor(this × numerator / denominator)}, to the cent. Used for
+     * thresholds such as {@code mean × multiplier}: an amount in whole
+     * cents exceeds the exact real value iff it exceeds this floor.
+     */
+    public Money timesRatioFloor(long numerator, long denominator) {
+        return new Money(Math.floorDiv(Math.multiplyExact(cents, numerator), denominator));
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.penny.expense.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/** Composite key of {@link MonthlyCategoryRollup}: one calendar month of one category. */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyCategoryKey implements Serializable {
+
+    @Column(name = "period_year", nullable = false)
+    private int year;
+
+    @Column(name = "period_month", nullable = false)
+    private int month;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+}
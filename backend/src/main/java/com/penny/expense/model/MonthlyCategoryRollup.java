@@ -0,0 +1,40 @@
+package com.penny.expense.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Running spend and count per (calendar month, category).
+ *
+ * Maintained by every write path in ExpenseService, in the same
+ * transaction as the write, so the dashboard's monthly chart never
+ * touches the expenses table.
+ */
+@Entity
+@Table(name = "monthly_category_rollup")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyCategoryRollup {
+
+    @EmbeddedId
+    private MonthlyCategoryKey id;
+
+    /** Read-only view of {@code id.categoryId}, for joining the name in queries. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_monthly_rollup_category"))
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Category categoryRef;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+}
@@ -0,0 +1,27 @@
+package com.penny.expense.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Dictionary row for a vendor name. Expenses reference it by
+ * {@code vendor_id}, so the name is stored once rather than on every row.
+ */
+@Entity
+@Table(name = "vendors", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_vendor_name", columnNames = "name")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Vendor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+}
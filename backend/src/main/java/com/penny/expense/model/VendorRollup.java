@@ -0,0 +1,41 @@
+package com.penny.expense.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Running spend and count per vendor, keyed by {@code vendor_id} and
+ * maintained alongside {@link MonthlyCategoryRollup} for the dashboard's
+ * top-vendor list.
+ */
+@Entity
+@Table(name = "vendor_rollup", indexes = {
+    @Index(name = "idx_vendor_rollup_total", columnList = "total")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VendorRollup {
+
+    @Id
+    @Column(name = "vendor_id")
+    private Integer vendorId;
+
+    /** Read-only view of the key, for joining the name in queries; never loaded by the app. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vendor_id", insertable = false, updatable = false,
+                foreignKey = @ForeignKey(name = "fk_vendor_rollup_vendor"))
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Vendor vendorRef;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+}
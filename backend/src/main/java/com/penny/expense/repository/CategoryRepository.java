@@ -0,0 +1,13 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Integer> {
+
+    Optional<Category> findByName(String name);
+}
@@ -0,0 +1,34 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.CategoryStats;
+import com.penny.expense.repository.projection.CategoryTotal;
+import com.penny.expense.repository.projection.RowTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, Integer> {
+
+    @Query("SELECT s FROM CategoryStats s JOIN s.categoryRef c WHERE c.name = :category")
+    Optional<CategoryStats> findByCategoryName(@Param("category") String category);
+
+    @Query("SELECT new com.penny.expense.repository.projection.CategoryTotal(c.name, s.total, s.expenseCount) " +
+           "FROM CategoryStats s JOIN s.categoryRef c WHERE s.expenseCount > 0 ORDER BY s.total DESC")
+    List<CategoryTotal> findNonEmptyByTotalDesc();
+
+    @Query("SELECT new com.penny.expense.repository.projection.RowTotals(SUM(s.expenseCount), SUM(s.total)) " +
+           "FROM CategoryStats s")
+    RowTotals totals();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO category_stats (category_id, total, expense_count) " +
+                   "SELECT e.category_id, SUM(e.amount), COUNT(*) FROM expenses e GROUP BY e.category_id",
+           nativeQuery = true)
+    int rebuildFromExpenses();
+}
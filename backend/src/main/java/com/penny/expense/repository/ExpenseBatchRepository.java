@@ -0,0 +1,25 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.Expense;
+
+import java.util.List;
+
+/**
+ * Custom Spring Data fragment for bulk writes that the derived
+ * JpaRepository methods cannot express efficiently.
+ *
+ * {@code saveAll} keeps every saved entity managed until the transaction
+ * ends, so a large import grows the persistence context row by row.
+ * This fragment persists one chunk at a time, flushes it as a JDBC batch
+ * and detaches it before the next chunk arrives.
+ */
+public interface ExpenseBatchRepository {
+
+    /**
+     * Insert the given expenses as a single JDBC batch, then flush and
+     * clear the persistence context. Must run inside a transaction.
+     *
+     * @param expenses new, unsaved expenses
+     */
+    void insertBatch(List<Expense> expenses);
+}
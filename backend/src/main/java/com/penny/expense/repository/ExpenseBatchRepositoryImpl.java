@@ -0,0 +1,37 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.Expense;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Hibernate-backed implementation of {@link ExpenseBatchRepository}.
+ * Picked up by Spring Data through the {@code Impl} naming convention.
+ */
+public class ExpenseBatchRepositoryImpl implements ExpenseBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertBatch(List<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        Session session  = entityManager.unwrap(Session.class);
+        Integer previous = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(expenses.size());
+        try {
+            expenses.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previous);
+        }
+    }
+}
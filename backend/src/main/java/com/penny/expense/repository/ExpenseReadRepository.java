@@ -0,0 +1,59 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.projection.CategoryTotal;
+import com.penny.expense.repository.projection.ExpenseColumnRow;
+import com.penny.expense.repository.projection.MonthlyCategoryTotal;
+import com.penny.expense.repository.projection.VendorTotal;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom Spring Data fragment for filtered reads that go straight into
+ * {@link ExpenseResponse}.
+ *
+ * Derived and Specification queries can only return entities, which
+ * Hibernate snapshots for dirty checking before they are copied into a
+ * DTO. This fragment selects a constructor expression instead, so each
+ * row becomes one response object and nothing enters the persistence
+ * context.
+ *
+ * The aggregates below are the scoped counterparts of the dashboard's
+ * JPQL GROUP BY queries: {@code spec} narrows the scan first, so a date
+ * range or category is pruned through the leading column of
+ * idx_expense_date_id / idx_expense_category_date_id before anything is
+ * summed.
+ */
+public interface ExpenseReadRepository {
+
+    /**
+     * Up to {@code limit} responses matching {@code spec}, ordered by
+     * (date DESC, id DESC).
+     */
+    List<ExpenseResponse> findResponses(Specification<Expense> spec, int limit);
+
+    /** Up to {@code limit} responses matching {@code spec}, largest amount first. */
+    List<ExpenseResponse> findLargestResponses(Specification<Expense> spec, int limit);
+
+    /**
+     * Forward-only cursor over the rows matching {@code spec}, as the
+     * fields the rollups and the columnar store key on. Close the stream,
+     * and keep it inside a transaction.
+     */
+    Stream<ExpenseColumnRow> streamColumnRows(Specification<Expense> spec);
+
+    /**
+     * Spend per (month, category) among rows matching {@code spec}, newest
+     * month first, then by each category's latest expense in the month.
+     */
+    List<MonthlyCategoryTotal> sumByMonthAndCategory(Specification<Expense> spec);
+
+    /** Spend and count per category among rows matching {@code spec}, largest first. */
+    List<CategoryTotal> sumByCategory(Specification<Expense> spec);
+
+    /** The {@code limit} vendors with the largest spend among rows matching {@code spec}. */
+    List<VendorTotal> sumByVendor(Specification<Expense> spec, int limit);
+}
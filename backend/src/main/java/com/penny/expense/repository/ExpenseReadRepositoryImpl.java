@@ -0,0 +1,140 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.model.Category;
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.Vendor;
+import com.penny.expense.repository.projection.CategoryTotal;
+import com.penny.expense.repository.projection.ExpenseColumnRow;
+import com.penny.expense.repository.projection.MonthlyCategoryTotal;
+import com.penny.expense.repository.projection.VendorTotal;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria-API implementation of {@link ExpenseReadRepository}.
+ * Picked up by Spring Data through the {@code Impl} naming convention.
+ */
+public class ExpenseReadRepositoryImpl implements ExpenseReadRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ExpenseResponse> findResponses(Specification<Expense> spec, int limit) {
+        return responses(spec, limit, false);
+    }
+
+    @Override
+    public List<ExpenseResponse> findLargestResponses(Specification<Expense> spec, int limit) {
+        return responses(spec, limit, true);
+    }
+
+    @Override
+    public Stream<ExpenseColumnRow> streamColumnRows(Specification<Expense> spec) {
+        CriteriaBuilder                 cb       = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseColumnRow> query    = cb.createQuery(ExpenseColumnRow.class);
+        Root<Expense>                   root     = query.from(Expense.class);
+        Join<Expense, Vendor>           vendor   = root.join("vendorRef");
+        Join<Expense, Category>         category = root.join("categoryRef");
+
+        query.select(cb.construct(ExpenseColumnRow.class,
+                root.get("id"), root.get("date"), root.get("amount"), category.get("name"), vendor.get("name")));
+        where(query, spec, root, cb);
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.valueOf(ExpenseRepository.EXPORT_FETCH_SIZE))
+                .getResultStream();
+    }
+
+    @Override
+    public List<MonthlyCategoryTotal> sumByMonthAndCategory(Specification<Expense> spec) {
+        CriteriaBuilder                     cb       = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MonthlyCategoryTotal> query    = cb.createQuery(MonthlyCategoryTotal.class);
+        Root<Expense>                       root     = query.from(Expense.class);
+        Join<Expense, Category>             category = root.join("categoryRef");
+        Expression<Integer>                 year     = cb.function("year", Integer.class, root.<LocalDate>get("date"));
+        Expression<Integer>                 month    = cb.function("month", Integer.class, root.<LocalDate>get("date"));
+        Expression<BigDecimal>              total    = cb.sum(root.get("amount"));
+        Expression<LocalDate>               latest   = cb.greatest(root.<LocalDate>get("date"));
+
+        query.select(cb.construct(MonthlyCategoryTotal.class, year, month, category.get("name"), total));
+        where(query, spec, root, cb);
+        query.groupBy(year, month, category.get("id"), category.get("name"));
+        query.orderBy(cb.desc(year), cb.desc(month), cb.desc(latest), cb.asc(category.get("name")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<CategoryTotal> sumByCategory(Specification<Expense> spec) {
+        CriteriaBuilder              cb       = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CategoryTotal> query    = cb.createQuery(CategoryTotal.class);
+        Root<Expense>                root     = query.from(Expense.class);
+        Join<Expense, Category>      category = root.join("categoryRef");
+        Expression<BigDecimal>       total    = cb.sum(root.get("amount"));
+
+        query.select(cb.construct(CategoryTotal.class, category.get("name"), total, cb.count(root)));
+        where(query, spec, root, cb);
+        query.groupBy(category.get("id"), category.get("name"));
+        query.orderBy(cb.desc(total));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<VendorTotal> sumByVendor(Specification<Expense> spec, int limit) {
+        CriteriaBuilder            cb     = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VendorTotal> query  = cb.createQuery(VendorTotal.class);
+        Root<Expense>              root   = query.from(Expense.class);
+        Join<Expense, Vendor>      vendor = root.join("vendorRef");
+        Expression<BigDecimal>     total  = cb.sum(root.get("amount"));
+
+        query.select(cb.construct(VendorTotal.class, vendor.get("name"), total, cb.count(root)));
+        where(query, spec, root, cb);
+        query.groupBy(vendor.get("id"), vendor.get("name"));
+        query.orderBy(cb.desc(total));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // ── Private helpers
+
+    private List<ExpenseResponse> responses(Specification<Expense> spec, int limit, boolean largestFirst) {
+        CriteriaBuilder                cb       = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseResponse> query    = cb.createQuery(ExpenseResponse.class);
+        Root<Expense>                  root     = query.from(Expense.class);
+        Join<Expense, Vendor>          vendor   = root.join("vendorRef");
+        Join<Expense, Category>        category = root.join("categoryRef");
+
+        query.select(cb.construct(ExpenseResponse.class,
+                root.get("id"), root.get("date"), root.get("amount"), vendor.get("name"),
+                root.get("description"), category.get("name"), root.get("isAnomaly"), root.get("createdAt")));
+        where(query, spec, root, cb);
+        Order first = largestFirst ? cb.desc(root.get("amount")) : cb.desc(root.get("date"));
+        query.orderBy(first, cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static void where(CriteriaQuery<?> query, Specification<Expense> spec, Root<Expense> root, CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
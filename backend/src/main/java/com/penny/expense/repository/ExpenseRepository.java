@@ -1,26 +1,109 @@
 package com.penny.expense.repository;
 
+import com.penny.expense.dto.ExpenseResponse;
 import com.penny.expense.model.Expense;
+import com.penny.expense.repository.projection.CategoryTotal;
+import com.penny.expense.repository.projection.ExpenseColumnRow;
+import com.penny.expense.repository.projection.MonthlyCategoryTotal;
+import com.penny.expense.repository.projection.RowTotals;
+import com.penny.expense.repository.projection.VendorTotal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense>,
+                                           ExpenseBatchRepository, ExpenseReadRepository {
 
-    List<Expense> findByCategory(String category);
+    // ── Read path: rows projected straight into ExpenseResponse, never managed entities
 
-    List<Expense> findByIsAnomalyTrueOrderByAmountDesc();
+    String AS_RESPONSE = "new com.penny.expense.dto.ExpenseResponse(" +
+                         "e.id, e.date, e.amount, v.name, e.description, c.name, e.isAnomaly, e.createdAt)";
 
-    @Query("SELECT AVG(e.amount) FROM Expense e WHERE e.category = :category")
-    BigDecimal avgAmountByCategory(@Param("category") String category);
+    /** Expenses joined to their vendor (v) and category (c) dictionary rows, for names. */
+    String WITH_NAMES = " FROM Expense e JOIN e.vendorRef v JOIN e.categoryRef c";
 
-    @Modifying
-    @Query("UPDATE Expense e SET e.isAnomaly = :flag WHERE e.id IN :ids")
-    void bulkUpdateAnomalyFlag(@Param("ids") List<Long> ids, @Param("flag") boolean flag);
-}
\ No newline at end of file
+    /** Rows fetched per database round trip while streaming an export. */
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Query("SELECT " + AS_RESPONSE + WITH_NAMES + " WHERE e.id = :id")
+    Optional<ExpenseResponse> findResponseById(@Param("id") Long id);
+
+    @Query("SELECT " + AS_RESPONSE + WITH_NAMES + " ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseResponse> findAllResponses();
+
+    /** Forward-only cursor over every expense; close the stream, and keep it inside a transaction. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT " + AS_RESPONSE + WITH_NAMES + " ORDER BY e.date DESC, e.id DESC")
+    Stream<ExpenseResponse> streamAllNewestFirst();
+
+    /** Forward-only cursor feeding the in-memory columnar store; same contract as above. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.penny.expense.repository.projection.ExpenseColumnRow(" +
+           "e.id, e.date, e.amount, c.name, v.name)" + WITH_NAMES)
+    Stream<ExpenseColumnRow> streamColumnRows();
+
+    // ── Duplicate detection: fingerprints only, through the date and fingerprint indexes
+
+    long countByDateBetween(LocalDate from, LocalDate to);
+
+    /** Forward-only cursor over the fingerprints in a date range; same contract as above. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT e.fingerprint FROM Expense e " +
+           "WHERE e.date BETWEEN :from AND :to AND e.fingerprint IS NOT NULL")
+    Stream<UUID> streamFingerprints(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** Which of the given fingerprints are already stored. */
+    @Query("SELECT e.fingerprint FROM Expense e WHERE e.fingerprint IN :fingerprints")
+    List<UUID> findExistingFingerprints(@Param("fingerprints") Collection<UUID> fingerprints);
+
+    // ── Dashboard aggregates: one row per group, never per expense; grouped on integer keys
+
+    @Query("SELECT new com.penny.expense.repository.projection.MonthlyCategoryTotal(" +
+           "YEAR(e.date), MONTH(e.date), c.name, SUM(e.amount)) " +
+           "FROM Expense e JOIN e.categoryRef c GROUP BY YEAR(e.date), MONTH(e.date), c.id, c.name " +
+           "ORDER BY YEAR(e.date) DESC, MONTH(e.date) DESC, MAX(e.date) DESC, c.name")
+    List<MonthlyCategoryTotal> sumByMonthAndCategory();
+
+    @Query("SELECT new com.penny.expense.repository.projection.CategoryTotal(c.name, SUM(e.amount), COUNT(e)) " +
+           "FROM Expense e JOIN e.categoryRef c GROUP BY c.id, c.name ORDER BY SUM(e.amount) DESC")
+    List<CategoryTotal> sumByCategory();
+
+    @Query("SELECT new com.penny.expense.repository.projection.VendorTotal(v.name, SUM(e.amount), COUNT(e)) " +
+           "FROM Expense e JOIN e.vendorRef v GROUP BY v.id, v.name ORDER BY SUM(e.amount) DESC")
+    List<VendorTotal> sumByVendor(Pageable pageable);
+
+    /** Every expense at once, to check the rollups against. */
+    @Query("SELECT new com.penny.expense.repository.projection.RowTotals(COUNT(e), SUM(e.amount)) FROM Expense e")
+    RowTotals totals();
+
+    /** Category filter for the bulk updates below — one unique-index lookup, no per-row join. */
+    String CATEGORY_ID = "(SELECT c.id FROM Category c WHERE c.name = :category)";
+
+    /** Flag only the rows that newly exceed the threshold. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Expense e SET e.isAnomaly = true " +
+           "WHERE e.categoryId = " + CATEGORY_ID + " AND e.isAnomaly = false AND e.amount > :threshold")
+    int flagAboveThreshold(@Param("category") String category, @Param("threshold") BigDecimal threshold);
+
+    /** Unflag only the rows that no longer exceed the threshold. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Expense e SET e.isAnomaly = false " +
+           "WHERE e.categoryId = " + CATEGORY_ID + " AND e.isAnomaly = true AND e.amount <= :threshold")
+    int unflagAtOrBelowThreshold(@Param("category") String category, @Param("threshold") BigDecimal threshold);
+}
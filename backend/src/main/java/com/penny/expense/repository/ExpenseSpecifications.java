@@ -0,0 +1,73 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.dto.BulkDeleteRequest;
+import com.penny.expense.dto.ExpenseFilter;
+import com.penny.expense.model.Expense;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Criteria predicates for the expense list. Each filter maps onto one of
+ * the indexes declared on {@link Expense}, and {@link #before} is the
+ * keyset condition for (date DESC, id DESC) paging.
+ *
+ * The category filter compares the integer category_id; the caller
+ * supplies the name-to-id lookup. An unknown category matches nothing.
+ */
+public final class ExpenseSpecifications {
+
+    private ExpenseSpecifications() {}
+
+    public static Specification<Expense> matching(ExpenseFilter filter,
+                                                  Function<String, Optional<Integer>> categoryIds) {
+        Specification<Expense> spec = Specification.where(null);
+        if (filter.getCategory() != null && !filter.getCategory().isBlank()) {
+            Optional<Integer> categoryId = categoryIds.apply(filter.getCategory());
+            spec = spec.and(categoryId.isPresent()
+                    ? (root, query, cb) -> cb.equal(root.get("categoryId"), categoryId.get())
+                    : (root, query, cb) -> cb.disjunction());
+        }
+        if (filter.getFrom() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), filter.getTo()));
+        }
+        if (filter.getMinAmount() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), filter.getMaxAmount()));
+        }
+        if (filter.getAnomaly() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("isAnomaly"), filter.getAnomaly()));
+        }
+        return spec;
+    }
+
+    /**
+     * Rows a bulk delete removes: the list filter's category and date
+     * bounds, plus the id list and import batch when given.
+     */
+    public static Specification<Expense> deleting(BulkDeleteRequest request,
+                                                  Function<String, Optional<Integer>> categoryIds) {
+        Specification<Expense> spec = matching(request.asFilter(), categoryIds);
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("id").in(request.getIds()));
+        }
+        if (request.getImportBatch() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("importBatch"), request.getImportBatch()));
+        }
+        return spec;
+    }
+
+    /** Rows strictly after (date, id) in (date DESC, id DESC) order. */
+    public static Specification<Expense> before(LocalDate date, long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("date"), date),
+                cb.and(cb.equal(root.get("date"), date), cb.lessThan(root.get("id"), id)));
+    }
+}
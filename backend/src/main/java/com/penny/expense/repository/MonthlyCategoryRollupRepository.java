@@ -0,0 +1,33 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.MonthlyCategoryKey;
+import com.penny.expense.model.MonthlyCategoryRollup;
+import com.penny.expense.repository.projection.MonthlyCategoryTotal;
+import com.penny.expense.repository.projection.RowTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MonthlyCategoryRollupRepository extends JpaRepository<MonthlyCategoryRollup, MonthlyCategoryKey> {
+
+    @Query("SELECT new com.penny.expense.repository.projection.MonthlyCategoryTotal(r.id.year, r.id.month, c.name, r.total) " +
+           "FROM MonthlyCategoryRollup r JOIN r.categoryRef c WHERE r.expenseCount > 0 " +
+           "ORDER BY r.id.year DESC, r.id.month DESC, r.total DESC")
+    List<MonthlyCategoryTotal> findNonEmptyNewestFirst();
+
+    @Query("SELECT new com.penny.expense.repository.projection.RowTotals(SUM(r.expenseCount), SUM(r.total)) " +
+           "FROM MonthlyCategoryRollup r")
+    RowTotals totals();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO monthly_category_rollup (period_year, period_month, category_id, total, expense_count) " +
+                   "SELECT EXTRACT(YEAR FROM e.date), EXTRACT(MONTH FROM e.date), e.category_id, SUM(e.amount), COUNT(*) " +
+                   "FROM expenses e " +
+                   "GROUP BY EXTRACT(YEAR FROM e.date), EXTRACT(MONTH FROM e.date), e.category_id",
+           nativeQuery = true)
+    int rebuildFromExpenses();
+}
@@ -0,0 +1,177 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.MonthlyCategoryKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Atomic add-or-create for the three rollup tables.
+ *
+ * A delta is one statement per rollup row, so two transactions touching
+ * the same row for the first time cannot both miss it and both insert:
+ * PostgreSQL resolves the race in {@code INSERT ... ON CONFLICT DO UPDATE}.
+ * H2 (dev) runs a {@code MERGE} instead, which is not atomic, so there a
+ * writer's first upsert takes a JVM lock held until its transaction ends:
+ * the in-memory dev database lives in this JVM, so the lock covers every
+ * writer, and each MERGE sees the rows of the writers before it. The
+ * statement is chosen from the Hibernate dialect once, at startup.
+ *
+ * Amounts and counts may be negative, for deletes; a row whose count
+ * reaches zero is kept and filtered out by the read queries.
+ */
+@Repository
+public class RollupUpsertRepository {
+
+    private static final String CATEGORY_UPSERT = """
+            INSERT INTO category_stats (category_id, total, expense_count)
+            VALUES (:categoryId, :amount, :count)
+            ON CONFLICT (category_id) DO UPDATE
+               SET total         = category_stats.total + EXCLUDED.total,
+                   expense_count = category_stats.expense_count + EXCLUDED.expense_count""";
+
+    private static final String CATEGORY_MERGE = """
+            MERGE INTO category_stats r USING (SELECT 1) s
+               ON r.category_id = :categoryId
+             WHEN MATCHED THEN UPDATE
+                  SET total = r.total + :amount, expense_count = r.expense_count + :count
+             WHEN NOT MATCHED THEN INSERT (category_id, total, expense_count)
+                  VALUES (:categoryId, :amount, :count)""";
+
+    private static final String MONTH_UPSERT = """
+            INSERT INTO monthly_category_rollup (period_year, period_month, category_id, total, expense_count)
+            VALUES (:year, :month, :categoryId, :amount, :count)
+            ON CONFLICT (period_year, period_month, category_id) DO UPDATE
+               SET total         = monthly_category_rollup.total + EXCLUDED.total,
+                   expense_count = monthly_category_rollup.expense_count + EXCLUDED.expense_count""";
+
+    private static final String MONTH_MERGE = """
+            MERGE INTO monthly_category_rollup r USING (SELECT 1) s
+               ON r.period_year = :year AND r.period_month = :month AND r.category_id = :categoryId
+             WHEN MATCHED THEN UPDATE
+                  SET total = r.total + :amount, expense_count = r.expense_count + :count
+             WHEN NOT MATCHED THEN INSERT (period_year, period_month, category_id, total, expense_count)
+                  VALUES (:year, :month, :categoryId, :amount, :count)""";
+
+    private static final String VENDOR_UPSERT = """
+            INSERT INTO vendor_rollup (vendor_id, total, expense_count)
+            VALUES (:vendorId, :amount, :count)
+            ON CONFLICT (vendor_id) DO UPDATE
+               SET total         = vendor_rollup.total + EXCLUDED.total,
+                   expense_count = vendor_rollup.expense_count + EXCLUDED.expense_count""";
+
+    private static final String VENDOR_MERGE = """
+            MERGE INTO vendor_rollup r USING (SELECT 1) s
+               ON r.vendor_id = :vendorId
+             WHEN MATCHED THEN UPDATE
+                  SET total = r.total + :amount, expense_count = r.expense_count + :count
+             WHEN NOT MATCHED THEN INSERT (vendor_id, total, expense_count)
+                  VALUES (:vendorId, :amount, :count)""";
+
+    /**
+     * Blocks every writer to {@code expenses} (and any other rebuild) until
+     * the rebuilding transaction ends, and waits for writers already in
+     * flight to commit, so no delta lands between the DELETE and the
+     * GROUP BY that replaces it.
+     */
+    private static final String LOCK_FOR_REBUILD = "LOCK TABLE expenses IN SHARE ROW EXCLUSIVE MODE";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean       postgres;
+    private final long          lockTimeoutMs;
+    /** H2 only: held by one rollup-writing transaction at a time, from its first upsert to its end. */
+    private final ReentrantLock h2Writer = new ReentrantLock();
+
+    public RollupUpsertRepository(EntityManagerFactory entityManagerFactory,
+                                  @Value("${app.rollups.h2-lock-timeout-ms:10000}") long lockTimeoutMs) {
+        this.postgres      = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    /** Add (or, with negative values, remove) expenses to a category's running aggregate. */
+    public void addToCategory(int categoryId, BigDecimal amount, long count) {
+        run(statement(postgres ? CATEGORY_UPSERT : CATEGORY_MERGE, amount, count)
+                .setParameter("categoryId", categoryId));
+    }
+
+    public void addToMonth(MonthlyCategoryKey id, BigDecimal amount, long count) {
+        run(statement(postgres ? MONTH_UPSERT : MONTH_MERGE, amount, count)
+                .setParameter("year", id.getYear())
+                .setParameter("month", id.getMonth())
+                .setParameter("categoryId", id.getCategoryId()));
+    }
+
+    public void addToVendor(int vendorId, BigDecimal amount, long count) {
+        run(statement(postgres ? VENDOR_UPSERT : VENDOR_MERGE, amount, count)
+                .setParameter("vendorId", vendorId));
+    }
+
+    /**
+     * Hold off concurrent writers for the rest of the current transaction.
+     * On H2 this is the writers' JVM lock: an import that has not reached
+     * its upserts yet is not visible to the rebuild, and applies its delta
+     * after it.
+     */
+    public void lockForRebuild() {
+        if (postgres) {
+            entityManager.createNativeQuery(LOCK_FOR_REBUILD).executeUpdate();
+        } else {
+            lockH2Writer();
+        }
+    }
+
+    private Query statement(String sql, BigDecimal amount, long count) {
+        if (!postgres) {
+            lockH2Writer();
+        }
+        return entityManager.createNativeQuery(sql)
+                .setParameter("amount", amount)
+                .setParameter("count", count);
+    }
+
+    /** Take the H2 writer lock, once per transaction, and release it when the transaction ends. */
+    private void lockH2Writer() {
+        if (h2Writer.isHeldByCurrentThread()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Rollup upserts must run inside a transaction");
+        }
+        try {
+            if (!h2Writer.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new CannotAcquireLockException("Timed out waiting for another rollup writer to commit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted waiting for another rollup writer to commit", e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                h2Writer.unlock();
+            }
+        });
+    }
+
+    /** Same contract as the repositories' {@code @Modifying(flushAutomatically, clearAutomatically)}. */
+    private void run(Query statement) {
+        entityManager.flush();
+        statement.executeUpdate();
+        entityManager.clear();
+    }
+}
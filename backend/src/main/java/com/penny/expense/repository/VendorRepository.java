@@ -0,0 +1,13 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.Vendor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface VendorRepository extends JpaRepository<Vendor, Integer> {
+
+    Optional<Vendor> findByName(String name);
+}
@@ -0,0 +1,30 @@
+package com.penny.expense.repository;
+
+import com.penny.expense.model.VendorRollup;
+import com.penny.expense.repository.projection.RowTotals;
+import com.penny.expense.repository.projection.VendorTotal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VendorRollupRepository extends JpaRepository<VendorRollup, Integer> {
+
+    @Query("SELECT new com.penny.expense.repository.projection.VendorTotal(v.name, r.total, r.expenseCount) " +
+           "FROM VendorRollup r JOIN r.vendorRef v WHERE r.expenseCount > 0 ORDER BY r.total DESC")
+    List<VendorTotal> findTopByTotal(Pageable pageable);
+
+    @Query("SELECT new com.penny.expense.repository.projection.RowTotals(SUM(r.expenseCount), SUM(r.total)) " +
+           "FROM VendorRollup r")
+    RowTotals totals();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO vendor_rollup (vendor_id, total, expense_count) " +
+                   "SELECT e.vendor_id, SUM(e.amount), COUNT(*) FROM expenses e GROUP BY e.vendor_id",
+           nativeQuery = true)
+    int rebuildFromExpenses();
+}
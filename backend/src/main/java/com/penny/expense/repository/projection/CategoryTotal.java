@@ -0,0 +1,6 @@
+package com.penny.expense.repository.projection;
+
+import java.math.BigDecimal;
+
+/** All-time spend and expense count for one category (GROUP BY projection). */
+public record CategoryTotal(String category, BigDecimal total, Long count) {}
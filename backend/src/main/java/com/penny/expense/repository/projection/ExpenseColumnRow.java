@@ -0,0 +1,7 @@
+package com.penny.expense.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** The fields of one expense that the in-memory columnar store keeps. */
+public record ExpenseColumnRow(Long id, LocalDate date, BigDecimal amount, String category, String vendorName) {}
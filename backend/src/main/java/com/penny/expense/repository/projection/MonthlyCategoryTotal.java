@@ -0,0 +1,6 @@
+package com.penny.expense.repository.projection;
+
+import java.math.BigDecimal;
+
+/** Spend for one category within one calendar month (GROUP BY projection). */
+public record MonthlyCategoryTotal(Integer year, Integer month, String category, BigDecimal total) {}
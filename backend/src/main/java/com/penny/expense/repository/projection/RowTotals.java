@@ -0,0 +1,25 @@
+package com.penny.expense.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Expense count and spend summed over a whole table (aggregate projection).
+ * SUM over an empty table is null; {@link #count()} and {@link #total()}
+ * read that as zero.
+ */
+public record RowTotals(Long count, BigDecimal total) {
+
+    @Override
+    public Long count() {
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public BigDecimal total() {
+        return total == null ? BigDecimal.ZERO : total;
+    }
+
+    public boolean matches(RowTotals other) {
+        return count().equals(other.count()) && total().compareTo(other.total()) == 0;
+    }
+}
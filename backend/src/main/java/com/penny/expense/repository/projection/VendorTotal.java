@@ -0,0 +1,6 @@
+package com.penny.expense.repository.projection;
+
+import java.math.BigDecimal;
+
+/** All-time spend and expense count for one vendor (GROUP BY projection). */
+public record VendorTotal(String vendorName, BigDecimal total, Long count) {}
@@ -1,7 +1,10 @@
 package com.penny.expense.service;
 
+import com.penny.expense.repository.CategoryStatsRepository;
 import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.columnar.ColumnarExpenseStore;
 import com.penny.expense.service.strategy.AnomalyDetectionStrategy;
+import com.penny.expense.service.strategy.ColumnarAnomalyStrategy;
 import com.penny.expense.service.strategy.MeanMultiplierAnomalyStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,12 +14,19 @@ import org.springframework.context.annotation.Configuration;
  *
  * OCP + DIP: ExpenseService depends on AnomalyDetectionStrategy interface.
  * Swap to a Z-score or IQR-based strategy by returning a different impl here.
+ * With {@code app.analytics.columnar.enabled=true} category means are read
+ * from the in-memory columnar store instead of category_stats.
  */
 @Configuration
 public class AnomalyDetectionService {
 
     @Bean
-    public AnomalyDetectionStrategy anomalyDetectionStrategy(ExpenseRepository expenseRepository) {
-        return new MeanMultiplierAnomalyStrategy(expenseRepository);
+    public AnomalyDetectionStrategy anomalyDetectionStrategy(ExpenseRepository expenseRepository,
+                                                             CategoryStatsRepository categoryStatsRepository,
+                                                             ColumnarExpenseStore columnarStore) {
+        if (columnarStore.isEnabled()) {
+            return new ColumnarAnomalyStrategy(expenseRepository, categoryStatsRepository, columnarStore);
+        }
+        return new MeanMultiplierAnomalyStrategy(expenseRepository, categoryStatsRepository);
     }
 }
@@ -0,0 +1,175 @@
+package com.penny.expense.service;
+
+import com.penny.expense.service.strategy.AnomalyDetectionStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Background, per-category coalescing queue for anomaly recalculation.
+ *
+ * Write paths call {@link #enqueue(String)} instead of recalculating
+ * inline. Nothing is queued until the writing transaction commits, and a
+ * category's recalculation then waits for a quiet period of
+ * {@code app.anomaly.recalc.debounce-ms} — so a burst of N writes to one
+ * category produces a single recalculation, off the request thread.
+ *
+ * Flags are therefore eventually consistent. A category that keeps
+ * receiving writes is still recalculated no later than
+ * {@code app.anomaly.recalc.max-staleness-ms} after its first pending
+ * write, which bounds how stale a flag can get.
+ *
+ * All recalculations run on one worker thread, each in its own
+ * transaction, and each one invalidates the cached dashboard.
+ * {@link #flush()} drains everything synchronously; tests use it to
+ * observe settled flags, and drive the debounce deterministically through
+ * the package-private constructor's scheduler and clock.
+ *
+ * Each recalculation is timed as
+ * {@code penny.anomaly.recalculation{category, outcome=success|failure}}.
+ * Categories come from the categorization rules, so the tag stays bounded.
+ */
+@Component
+@Slf4j
+public class AnomalyRecalculationQueue {
+
+    private final AnomalyDetectionStrategy anomalyDetectionStrategy;
+    private final DashboardCache           dashboardCache;
+    private final MeterRegistry            meterRegistry;
+    private final long                     debounceNanos;
+    private final long                     maxStalenessNanos;
+    private final ScheduledExecutorService executor;
+    private final LongSupplier             nanoClock;
+
+    private final ConcurrentMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AnomalyRecalculationQueue(AnomalyDetectionStrategy anomalyDetectionStrategy,
+                                     DashboardCache dashboardCache,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.anomaly.recalc.debounce-ms:250}") long debounceMs,
+                                     @Value("${app.anomaly.recalc.max-staleness-ms:2000}") long maxStalenessMs) {
+        this(anomalyDetectionStrategy, dashboardCache, meterRegistry, debounceMs, maxStalenessMs,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "anomaly-recalc");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                System::nanoTime);
+    }
+
+    /**
+     * @param executor  must run one task at a time; recalculations rely on it
+     *                  to never overlap
+     * @param nanoClock the time base for debounce and staleness deadlines
+     */
+    AnomalyRecalculationQueue(AnomalyDetectionStrategy anomalyDetectionStrategy,
+                              DashboardCache dashboardCache,
+                              MeterRegistry meterRegistry,
+                              long debounceMs,
+                              long maxStalenessMs,
+                              ScheduledExecutorService executor,
+                              LongSupplier nanoClock) {
+        this.anomalyDetectionStrategy = anomalyDetectionStrategy;
+        this.dashboardCache           = dashboardCache;
+        this.meterRegistry            = meterRegistry;
+        this.debounceNanos            = TimeUnit.MILLISECONDS.toNanos(debounceMs);
+        this.maxStalenessNanos        = TimeUnit.MILLISECONDS.toNanos(Math.max(debounceMs, maxStalenessMs));
+        this.executor                 = executor;
+        this.nanoClock                = nanoClock;
+    }
+
+    /**
+     * Request a recalculation for the category once the current
+     * transaction commits (immediately if there is none). Rolled-back
+     * writes queue nothing.
+     */
+    public void enqueue(String category) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(category);
+                }
+            });
+        } else {
+            schedule(category);
+        }
+    }
+
+    /** Run every pending recalculation now and wait for them to finish. */
+    public void flush() {
+        try {
+            executor.submit(() -> pending.keySet().forEach(category -> {
+                if (pending.remove(category) != null) recalculate(category);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Anomaly recalculation flush failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    // ── Private helpers
+
+    private void schedule(String category) {
+        long now = nanoClock.getAsLong();
+        Pending next = pending.merge(category, new Pending(now, now),
+                (previous, latest) -> new Pending(previous.firstAt(), latest.lastAt()));
+        executor.schedule(() -> runIfDue(category), Math.max(0, dueAt(next) - now), TimeUnit.NANOSECONDS);
+    }
+
+    private void runIfDue(String category) {
+        Pending current = pending.get(category);
+        // A later write pushed the deadline back — its own scheduled check will run it
+        if (current == null || dueAt(current) - nanoClock.getAsLong() > 0 || !pending.remove(category, current)) {
+            return;
+        }
+        recalculate(category);
+    }
+
+    private void recalculate(String category) {
+        Timer.Sample sample  = Timer.start(meterRegistry);
+        String       outcome = "success";
+        try {
+            anomalyDetectionStrategy.recalculateForCategory(category);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.error("Anomaly recalculation failed [category={}]", category, e);
+        } finally {
+            sample.stop(Timer.builder("penny.anomaly.recalculation")
+                    .description("Anomaly flag recalculation for one category")
+                    .tag("category", category)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            dashboardCache.invalidate();
+        }
+    }
+
+    private long dueAt(Pending entry) {
+        return Math.min(entry.lastAt() + debounceNanos, entry.firstAt() + maxStalenessNanos);
+    }
+
+    /** First and most recent committed write awaiting recalculation (nanoClock). */
+    private record Pending(long firstAt, long lastAt) {}
+}
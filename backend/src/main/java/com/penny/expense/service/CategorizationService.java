@@ -2,6 +2,8 @@ package com.penny.expense.service;
 
 import com.penny.expense.service.strategy.CategorizationStrategy;
 import com.penny.expense.service.strategy.KeywordCategorizationStrategy;
+import com.penny.expense.service.strategy.MeteredCategorizationStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,12 +17,15 @@ import org.springframework.context.annotation.Configuration;
  * This replaces the old @Service CategorizationService class which:
  *   1. Mixed strategy logic with Spring bean registration
  *   2. Was a concrete class that consumers depended on directly
+ *
+ * The strategy is wrapped in {@link MeteredCategorizationStrategy}, which
+ * counts hits and fallback misses per category.
  */
 @Configuration
 public class CategorizationService {
 
     @Bean
-    public CategorizationStrategy categorizationStrategy() {
-        return new KeywordCategorizationStrategy();
+    public CategorizationStrategy categorizationStrategy(MeterRegistry meterRegistry) {
+        return new MeteredCategorizationStrategy(new KeywordCategorizationStrategy(), meterRegistry);
     }
 }
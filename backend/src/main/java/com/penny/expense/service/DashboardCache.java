@@ -0,0 +1,107 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.DashboardResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Caches the assembled dashboard against a data version.
+ *
+ * Every write that can change the dashboard calls {@link #invalidate()},
+ * which bumps the version once the writing transaction commits. A cached
+ * response is served only while its version is still current, so nothing
+ * has to be evicted and a stale entry can never be returned.
+ *
+ * Only the all-history dashboard is cached; date- and category-scoped
+ * views are assembled per request but carry the same version ETag, which
+ * stays valid for any scope because it changes whenever any data does.
+ *
+ * The version also yields a strong ETag. The ETag carries a per-process
+ * epoch, so a tag issued before a restart never matches afterwards.
+ *
+ * Metrics: {@code penny.dashboard.cache.requests{result=hit|miss}} and
+ * {@code penny.dashboard.cache.invalidations}.
+ */
+@Component
+public class DashboardCache {
+
+    private final String                 epoch   = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong             version = new AtomicLong();
+    private final AtomicReference<Entry> cached  = new AtomicReference<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public DashboardCache(MeterRegistry meterRegistry) {
+        this.hits          = meterRegistry.counter("penny.dashboard.cache.requests", "result", "hit");
+        this.misses        = meterRegistry.counter("penny.dashboard.cache.requests", "result", "miss");
+        this.invalidations = meterRegistry.counter("penny.dashboard.cache.invalidations");
+    }
+
+    /** A dashboard together with the ETag of the data version it was built from. */
+    public record Entry(long version, String etag, DashboardResponse body) {}
+
+    /** ETag of the current data version; computed without touching the database. */
+    public String currentETag() {
+        return etagFor(version.get());
+    }
+
+    /** The cached dashboard if it is current, otherwise a freshly assembled one. */
+    public Entry get(Supplier<DashboardResponse> assembler) {
+        long  current = version.get();
+        Entry entry   = cached.get();
+        if (entry != null && entry.version() == current) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        // Tagged with the version read before assembling: a write that commits meanwhile
+        // bumps the version, so this entry is at worst never served again
+        Entry fresh = new Entry(current, etagFor(current), assembler.get());
+        cached.accumulateAndGet(fresh, (previous, next) ->
+                previous == null || previous.version() < next.version() ? next : previous);
+        return fresh;
+    }
+
+    /** A freshly assembled dashboard tagged with the current version, without caching it. */
+    public Entry uncached(Supplier<DashboardResponse> assembler) {
+        long current = version.get();
+        return new Entry(current, etagFor(current), assembler.get());
+    }
+
+    /**
+     * Mark cached dashboards stale once the current transaction commits
+     * (immediately if there is none). Rolled-back writes invalidate nothing.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        } else {
+            bump();
+        }
+    }
+
+    // ── Private helpers
+
+    private void bump() {
+        version.incrementAndGet();
+        invalidations.increment();
+    }
+
+    private String etagFor(long dataVersion) {
+        return "\"" + epoch + "-" + dataVersion + "\"";
+    }
+}
@@ -0,0 +1,47 @@
+package com.penny.expense.service;
+
+import com.penny.expense.service.columnar.ColumnarExpenseStore;
+import com.penny.expense.service.strategy.ColumnarDashboardAssembler;
+import com.penny.expense.service.strategy.DashboardAssembler;
+import com.penny.expense.service.strategy.DashboardScope;
+import com.penny.expense.service.strategy.DefaultDashboardAssembler;
+import com.penny.expense.service.strategy.MeteredDashboardAssembler;
+import com.penny.expense.service.strategy.RollupDashboardAssembler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration class that exposes the active DashboardAssembler bean.
+ *
+ * OCP + DIP: ExpenseService depends on the DashboardAssembler interface.
+ * {@code app.dashboard.source=rollup} (the default) reads the maintained
+ * rollup tables; {@code sql} aggregates the expenses table directly.
+ * With {@code app.analytics.columnar.enabled=true} the in-memory columnar
+ * store answers first, falling back to the selected source. Whichever is
+ * chosen is timed by {@link MeteredDashboardAssembler}.
+ */
+@Configuration
+public class DashboardService {
+
+    @Value("${app.dashboard.source:rollup}")
+    private String dashboardSource;
+
+    @Bean
+    @Primary
+    public DashboardAssembler dashboardAssembler(DefaultDashboardAssembler sqlAssembler,
+                                                 RollupDashboardAssembler rollupAssembler,
+                                                 ColumnarExpenseStore columnarStore,
+                                                 DashboardScope dashboardScope,
+                                                 MeterRegistry meterRegistry) {
+        boolean            sql      = "sql".equalsIgnoreCase(dashboardSource);
+        DashboardAssembler selected = sql ? sqlAssembler : rollupAssembler;
+        if (columnarStore.isEnabled()) {
+            return new MeteredDashboardAssembler(
+                    new ColumnarDashboardAssembler(columnarStore, dashboardScope, selected), "columnar", meterRegistry);
+        }
+        return new MeteredDashboardAssembler(selected, sql ? "sql" : "rollup", meterRegistry);
+    }
+}
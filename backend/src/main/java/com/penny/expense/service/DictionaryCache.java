@@ -0,0 +1,157 @@
+package com.penny.expense.service;
+
+import com.penny.expense.model.Category;
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.Vendor;
+import com.penny.expense.repository.CategoryRepository;
+import com.penny.expense.repository.VendorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Resolves vendor and category names to their dictionary ids (and back)
+ * through a bounded, least-recently-used in-process cache.
+ *
+ * A CSV import names the same few vendors and categories over and over,
+ * so after the first occurrence of each name every row resolves from
+ * memory — no lookup round trip per row. Each dictionary keeps at most
+ * {@code app.dictionary.cache-size} entries per direction.
+ *
+ * A name seen for the first time is inserted in its own transaction, so
+ * the id is committed before any expense refers to it and a rolled-back
+ * import can never leave a cached id that does not exist. Two writers
+ * racing to insert the same name both end up with the winner's id.
+ */
+@Component
+public class DictionaryCache {
+
+    private final NameDictionary vendors;
+    private final NameDictionary categories;
+
+    public DictionaryCache(VendorRepository vendorRepository,
+                           CategoryRepository categoryRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.dictionary.cache-size:10000}") int cacheSize) {
+        TransactionTemplate ownTransaction = new TransactionTemplate(transactionManager);
+        ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.vendors = new NameDictionary("vendor", cacheSize, ownTransaction,
+                name -> vendorRepository.findByName(name).map(Vendor::getId),
+                name -> vendorRepository.saveAndFlush(Vendor.builder().name(name).build()).getId(),
+                id -> vendorRepository.findById(id).map(Vendor::getName));
+        this.categories = new NameDictionary("category", cacheSize, ownTransaction,
+                name -> categoryRepository.findByName(name).map(Category::getId),
+                name -> categoryRepository.saveAndFlush(Category.builder().name(name).build()).getId(),
+                id -> categoryRepository.findById(id).map(Category::getName));
+    }
+
+    /** Fill in the expense's vendor and category ids from its names, creating dictionary rows as needed. */
+    public void resolve(Expense expense) {
+        expense.setVendorId(vendors.idOf(expense.getVendorName()));
+        expense.setCategoryId(categories.idOf(expense.getCategory()));
+    }
+
+    /** Fill in the names of an expense loaded from the database, which carries only ids. */
+    public void describe(Expense expense) {
+        expense.setVendorName(vendors.nameOf(expense.getVendorId()));
+        expense.setCategory(categories.nameOf(expense.getCategoryId()));
+    }
+
+    /** Id of an existing category, without creating one. */
+    public Optional<Integer> findCategoryId(String name) {
+        return categories.find(name);
+    }
+
+    /** One name ↔ id dictionary with an LRU cache in each direction. */
+    private static final class NameDictionary {
+
+        private final String                              kind;
+        private final TransactionTemplate                 ownTransaction;
+        private final Function<String, Optional<Integer>> finder;
+        private final Function<String, Integer>           inserter;
+        private final IntFunction<Optional<String>>       namer;
+        private final Map<String, Integer>                ids;
+        private final Map<Integer, String>                names;
+
+        private NameDictionary(String kind, int capacity, TransactionTemplate ownTransaction,
+                               Function<String, Optional<Integer>> finder,
+                               Function<String, Integer> inserter,
+                               IntFunction<Optional<String>> namer) {
+            this.kind           = kind;
+            this.ownTransaction = ownTransaction;
+            this.finder         = finder;
+            this.inserter       = inserter;
+            this.namer          = namer;
+            this.ids            = lruMap(capacity);
+            this.names          = lruMap(capacity);
+        }
+
+        int idOf(String name) {
+            Integer cached = cached(name);
+            if (cached != null) {
+                return cached;
+            }
+            int id;
+            try {
+                id = ownTransaction.execute(status -> finder.apply(name).orElseGet(() -> inserter.apply(name)));
+            } catch (DataIntegrityViolationException e) {
+                // Another writer inserted the same name first
+                id = ownTransaction.execute(status -> finder.apply(name)).orElseThrow(() -> e);
+            }
+            remember(name, id);
+            return id;
+        }
+
+        Optional<Integer> find(String name) {
+            Integer cached = cached(name);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            Optional<Integer> found = finder.apply(name);
+            found.ifPresent(id -> remember(name, id));
+            return found;
+        }
+
+        String nameOf(int id) {
+            String cached;
+            synchronized (this) {
+                cached = names.get(id);
+            }
+            if (cached != null) {
+                return cached;
+            }
+            String name = namer.apply(id)
+                    .orElseThrow(() -> new IllegalStateException("No " + kind + " with id " + id));
+            remember(name, id);
+            return name;
+        }
+
+        private synchronized Integer cached(String name) {
+            return ids.get(name);
+        }
+
+        private synchronized void remember(String name, int id) {
+            ids.put(name, id);
+            names.put(id, name);
+        }
+
+        private static <K, V> Map<K, V> lruMap(int capacity) {
+            return new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.penny.expense.service;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.ExpenseFingerprint;
+import com.penny.expense.repository.ExpenseRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Drops rows that are already stored, for one import. Obtain one per file
+ * from {@link ExpenseService#duplicateDetector()} and pass every chunk of
+ * that file through it, in file order.
+ *
+ * Each row is given its {@link ExpenseFingerprint}; the occurrence ordinal
+ * counts identical rows seen earlier in the same file. Existing
+ * fingerprints are loaded into a {@link FingerprintFilter} for the dates
+ * the file has covered so far — widened as chunks reach earlier or later
+ * dates — so a row the filter has never seen is new without asking the
+ * database. The rows it might have seen are confirmed with one IN query
+ * per chunk.
+ *
+ * The unique index on {@code fingerprint} stays the authority: a
+ * duplicate written by a concurrent writer after its range was loaded
+ * fails the insert instead of slipping through. The refused chunk is then
+ * passed to {@link #recheck}, and from there on every row is looked up,
+ * since the filters no longer cover what that writer stores. Must be used
+ * inside a transaction, as the fingerprint cursor requires.
+ */
+public final class DuplicateDetector {
+
+    private final ExpenseRepository       expenseRepository;
+    private final double                  falsePositiveRate;
+    private final Occurrences             occurrences = new Occurrences();
+    private final List<FingerprintFilter> filters     = new ArrayList<>();
+    private LocalDate                     loadedFrom;
+    private LocalDate                     loadedTo;
+    private boolean                       lookUpAll;
+    private int                           skipped;
+    private int                           skippedInChunk;
+
+    DuplicateDetector(ExpenseRepository expenseRepository, double falsePositiveRate) {
+        this.expenseRepository = expenseRepository;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Fingerprint every row of the chunk and return those not stored yet,
+     * in their original order.
+     */
+    List<Expense> retainNew(List<Expense> chunk) {
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        LocalDate from = chunk.get(0).getDate();
+        LocalDate to   = from;
+        for (Expense expense : chunk) {
+            UUID first   = ExpenseFingerprint.of(expense, 0);
+            int  ordinal = occurrences.next(first.getMostSignificantBits() ^ first.getLeastSignificantBits());
+            expense.setFingerprint(ordinal == 0 ? first : ExpenseFingerprint.of(expense, ordinal));
+            if (expense.getDate().isBefore(from)) from = expense.getDate();
+            if (expense.getDate().isAfter(to))    to   = expense.getDate();
+        }
+        if (lookUpAll) {
+            return dropStored(chunk, fingerprints(chunk));
+        }
+        cover(from, to);
+
+        List<UUID> maybeStored = new ArrayList<>();
+        for (Expense expense : chunk) {
+            if (mightBeStored(expense.getFingerprint())) {
+                maybeStored.add(expense.getFingerprint());
+            }
+        }
+        return dropStored(chunk, maybeStored);
+    }
+
+    /**
+     * The last chunk given to {@link #retainNew} again, after the unique
+     * index refused its insert: a concurrent writer stored some of its rows
+     * after their dates were loaded. Every row is looked up, keeping the
+     * fingerprints it was given, and its duplicates replace those counted
+     * the first time.
+     */
+    List<Expense> recheck(List<Expense> chunk) {
+        skipped  -= skippedInChunk;
+        lookUpAll = true;
+        return dropStored(chunk, fingerprints(chunk));
+    }
+
+    /** Rows dropped so far because they were already stored. */
+    public int skipped() {
+        return skipped;
+    }
+
+    // ── Private helpers
+
+    /** The chunk without the rows among {@code candidates} that are stored. */
+    private List<Expense> dropStored(List<Expense> chunk, List<UUID> candidates) {
+        skippedInChunk = 0;
+        if (candidates.isEmpty()) {
+            return chunk;
+        }
+        Set<UUID>     stored = new HashSet<>(expenseRepository.findExistingFingerprints(candidates));
+        List<Expense> fresh  = new ArrayList<>(chunk.size());
+        for (Expense expense : chunk) {
+            if (stored.contains(expense.getFingerprint())) {
+                skippedInChunk++;
+            } else {
+                fresh.add(expense);
+            }
+        }
+        skipped += skippedInChunk;
+        return fresh;
+    }
+
+    private static List<UUID> fingerprints(List<Expense> chunk) {
+        return chunk.stream().map(Expense::getFingerprint).toList();
+    }
+
+    /** Extend the loaded range to include {@code [from, to]}, keeping it contiguous. */
+    private void cover(LocalDate from, LocalDate to) {
+        if (loadedFrom == null) {
+            load(from, to);
+            loadedFrom = from;
+            loadedTo   = to;
+            return;
+        }
+        if (from.isBefore(loadedFrom)) {
+            load(from, loadedFrom.minusDays(1));
+            loadedFrom = from;
+        }
+        if (to.isAfter(loadedTo)) {
+            load(loadedTo.plusDays(1), to);
+            loadedTo = to;
+        }
+    }
+
+    /** One filter per loaded stretch of dates, each sized to the rows it holds. */
+    private void load(LocalDate from, LocalDate to) {
+        long count = expenseRepository.countByDateBetween(from, to);
+        if (count == 0) {
+            return;
+        }
+        FingerprintFilter filter = new FingerprintFilter(count, falsePositiveRate);
+        try (Stream<UUID> fingerprints = expenseRepository.streamFingerprints(from, to)) {
+            fingerprints.forEach(filter::add);
+        }
+        filters.add(filter);
+    }
+
+    private boolean mightBeStored(UUID fingerprint) {
+        for (FingerprintFilter filter : filters) {
+            if (filter.mightContain(fingerprint)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * How many times each content key has been seen in this file. Keys
+     * seen once — nearly all of them — are kept as bare longs in an
+     * open-addressed table; only repeats get a map entry. Two contents
+     * sharing a 64-bit key would merely number their rows as one run,
+     * which still gives every row a distinct fingerprint.
+     */
+    private static final class Occurrences {
+
+        private final Map<Long, Integer> repeats = new HashMap<>();
+        private long[]                   seen    = new long[1024];
+        private int                      size;
+
+        /** 0 the first time a key is offered, then 1, 2, ... */
+        int next(long key) {
+            long slotKey = key == 0 ? 1 : key;     // 0 marks an empty slot
+            int  mask    = seen.length - 1;
+            int  slot    = Long.hashCode(slotKey * 0x9E3779B97F4A7C15L) & mask;
+            while (seen[slot] != 0) {
+                if (seen[slot] == slotKey) {
+                    return repeats.merge(slotKey, 1, Integer::sum);
+                }
+                slot = (slot + 1) & mask;
+            }
+            seen[slot] = slotKey;
+            if (++size * 2 > seen.length) grow();
+            return 0;
+        }
+
+        private void grow() {
+            long[] old = seen;
+            seen = new long[old.length * 2];
+            int mask = seen.length - 1;
+            for (long key : old) {
+                if (key == 0) continue;
+                int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+                while (seen[slot] != 0) slot = (slot + 1) & mask;
+                seen[slot] = key;
+            }
+        }
+    }
+}
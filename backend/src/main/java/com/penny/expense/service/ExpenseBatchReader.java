@@ -0,0 +1,135 @@
+package com.penny.expense.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.penny.expense.dto.ExpenseBatchResult;
+import com.penny.expense.dto.ExpenseRequest;
+import com.penny.expense.exception.InvalidExpenseException;
+import com.penny.expense.mapper.ExpenseMapper;
+import com.penny.expense.model.Expense;
+import com.penny.expense.service.strategy.CategorizationStrategy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads the JSON array posted to {@code POST /api/expenses/batch} one
+ * element at a time with Jackson's streaming parser, so the request is
+ * never bound to one big list.
+ *
+ * Each element is read as a small tree, bound to an {@link ExpenseRequest}
+ * and validated on its own: a wrong type or a failed constraint rejects
+ * that element and the next one is read as usual. Valid elements are
+ * categorized, mapped and handed to the sink in chunks. Only a body that
+ * is not a well-formed JSON array stops the read, as an
+ * {@link InvalidExpenseException}.
+ */
+@Component
+public class ExpenseBatchReader {
+
+    static final String CREATED   = "CREATED";
+    static final String DUPLICATE = "DUPLICATE";
+    static final String INVALID   = "INVALID";
+
+    private final ObjectMapper           objectMapper;
+    private final ObjectReader           elementReader;
+    private final Validator              validator;
+    private final ExpenseMapper          expenseMapper;
+    private final CategorizationStrategy categorizationStrategy;
+
+    public ExpenseBatchReader(ObjectMapper objectMapper,
+                              Validator validator,
+                              ExpenseMapper expenseMapper,
+                              CategorizationStrategy categorizationStrategy) {
+        this.objectMapper           = objectMapper;
+        // Amounts stay exact decimals in the tree, as they are when a single request is bound
+        this.elementReader          = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.validator              = validator;
+        this.expenseMapper          = expenseMapper;
+        this.categorizationStrategy = categorizationStrategy;
+    }
+
+    /** A valid element: its result, whose status the sink fills in, and the expense built from it. */
+    record Element(ExpenseBatchResult.Item result, Expense expense) {}
+
+    /**
+     * Read the array, handing valid elements to {@code sink} in chunks of
+     * at most {@code chunkSize}.
+     *
+     * @return one result per element, in array order; invalid ones are complete
+     */
+    List<ExpenseBatchResult.Item> read(InputStream json, int chunkSize, Consumer<List<Element>> sink) {
+        List<ExpenseBatchResult.Item> results = new ArrayList<>();
+        List<Element>                 chunk   = new ArrayList<>(Math.min(chunkSize, 1024));
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidExpenseException("Request body must be a JSON array of expenses");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode                node    = elementReader.readTree(parser);
+                ExpenseBatchResult.Item result  = ExpenseBatchResult.Item.builder().index(results.size()).build();
+                Map<String, String>     errors  = new LinkedHashMap<>();
+                ExpenseRequest          request = bind(node, errors);
+                results.add(result);
+                if (!errors.isEmpty()) {
+                    result.setStatus(INVALID);
+                    result.setErrors(errors);
+                    continue;
+                }
+                String category = categorizationStrategy.categorize(request.getVendorName());
+                chunk.add(new Element(result, expenseMapper.toEntity(request, category)));
+                if (chunk.size() >= chunkSize) {
+                    sink.accept(chunk);
+                    chunk = new ArrayList<>(chunk.size());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidExpenseException("Malformed JSON after element " + results.size() + ": "
+                    + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request body could not be read", e);
+        }
+        if (!chunk.isEmpty()) {
+            sink.accept(chunk);
+        }
+        return results;
+    }
+
+    /** The element as a request, or null with {@code errors} filled in. */
+    private ExpenseRequest bind(JsonNode node, Map<String, String> errors) {
+        if (!node.isObject()) {
+            errors.put("element", "must be a JSON object");
+            return null;
+        }
+        ExpenseRequest request;
+        try {
+            request = objectMapper.treeToValue(node, ExpenseRequest.class);
+        } catch (JsonMappingException e) {
+            List<JsonMappingException.Reference> path = e.getPath();
+            errors.put(path.isEmpty() ? "element" : path.get(path.size() - 1).getFieldName(), "invalid value");
+            return null;
+        } catch (JsonProcessingException e) {
+            errors.put("element", "invalid value");
+            return null;
+        }
+        for (ConstraintViolation<ExpenseRequest> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors.isEmpty() ? request : null;
+    }
+}
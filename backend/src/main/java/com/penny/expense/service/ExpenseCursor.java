@@ -0,0 +1,33 @@
+package com.penny.expense.service;
+
+import com.penny.expense.exception.InvalidExpenseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page in (date DESC, id DESC) order.
+ * Clients see it only as an opaque URL-safe token.
+ */
+record ExpenseCursor(LocalDate date, long id) {
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ExpenseCursor decode(String token) {
+        try {
+            String   raw   = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new InvalidExpenseException("Invalid cursor");
+            }
+            return new ExpenseCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidExpenseException("Invalid cursor", e);
+        }
+    }
+}
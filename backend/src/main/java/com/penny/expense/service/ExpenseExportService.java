@@ -0,0 +1,67 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.exception.InvalidExpenseException;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.strategy.ExpenseExportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams every expense to an output stream in a chosen format.
+ *
+ * Rows come from a database cursor ({@link ExpenseRepository#streamAllNewestFirst()})
+ * as DTO projections, so nothing enters the persistence context, and each
+ * row is written and dropped before the next is read. Memory use does not
+ * depend on the number of rows.
+ */
+@Service
+@Slf4j
+public class ExpenseExportService {
+
+    private final ExpenseRepository                expenseRepository;
+    private final Map<String, ExpenseExportFormat> formats;
+
+    public ExpenseExportService(ExpenseRepository expenseRepository, List<ExpenseExportFormat> formats) {
+        this.expenseRepository = expenseRepository;
+        this.formats           = formats.stream()
+                .collect(Collectors.toUnmodifiableMap(ExpenseExportFormat::name, Function.identity()));
+    }
+
+    public ExpenseExportFormat format(String name) {
+        ExpenseExportFormat format = formats.get(name.toLowerCase());
+        if (format == null) {
+            throw new InvalidExpenseException("Unsupported export format: " + name + " (expected one of " + formats.keySet() + ")");
+        }
+        return format;
+    }
+
+    /**
+     * Runs inside its own read-only transaction, which keeps the cursor
+     * open (PostgreSQL only honours the fetch size inside a transaction).
+     */
+    @Transactional(readOnly = true)
+    public long export(ExpenseExportFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<ExpenseResponse> expenses = expenseRepository.streamAllNewestFirst();
+             ExpenseExportFormat.RowWriter writer = format.open(out)) {
+            Iterator<ExpenseResponse> iterator = expenses.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                rows++;
+            }
+        }
+        log.info("Exported {} expenses as {}", rows, format.name());
+        return rows;
+    }
+}
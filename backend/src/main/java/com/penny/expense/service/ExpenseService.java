@@ -1,27 +1,47 @@
 package com.penny.expense.service;
 
-import com.penny.expense.dto.CsvUploadResult;
-import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.dto.BulkDeleteRequest;
+import com.penny.expense.dto.BulkDeleteResult;
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.ExpenseBatchResult;
+import com.penny.expense.dto.ExpenseFilter;
+import com.penny.expense.dto.ExpensePage;
 import com.penny.expense.dto.ExpenseRequest;
 import com.penny.expense.dto.ExpenseResponse;
 import com.penny.expense.mapper.ExpenseMapper;
 import com.penny.expense.model.Expense;
+import com.penny.expense.model.ExpenseFingerprint;
 import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.repository.ExpenseSpecifications;
+import com.penny.expense.repository.projection.ExpenseColumnRow;
+import com.penny.expense.service.columnar.ColumnarExpenseStore;
 import com.penny.expense.service.strategy.AnomalyDetectionStrategy;
 import com.penny.expense.service.strategy.CategorizationStrategy;
 import com.penny.expense.service.strategy.DashboardAssembler;
-import com.penny.expense.service.strategy.ExpenseFileParser;
+import com.penny.expense.service.strategy.ExpenseImportWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import com.penny.expense.exception.ExpenseNotFoundException;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.stream.Stream;
+import com.penny.expense.exception.BulkDeleteConflictException;
+import com.penny.expense.exception.ExpenseNotFoundException;
+import com.penny.expense.exception.ImportConflictException;
+import com.penny.expense.exception.InvalidExpenseException;
 
 /**
  * Core expense management service — a thin orchestrator.
@@ -33,83 +53,358 @@ import java.util.stream.Collectors;
  * I — Interface Segregation: each dependency is a narrow, focused interface.
  * D — Dependency Inversion: depends on abstractions, not concrete classes.
  * ─────────────────────────────────────────────────────────────────────────────
+ *
+ * Every public method is timed as {@code penny.expense.service{method, exception}}.
  */
 @Service
+@Timed(value = "penny.expense.service", description = "ExpenseService method calls")
 @RequiredArgsConstructor
 @Slf4j
 public class ExpenseService {
 
-    private final ExpenseRepository        expenseRepository;
-    private final ExpenseMapper            expenseMapper;
-    private final CategorizationStrategy   categorizationStrategy;
-    private final AnomalyDetectionStrategy anomalyDetectionStrategy;
-    private final ExpenseFileParser        expenseFileParser;
-    private final DashboardAssembler       dashboardAssembler;
+    /** Attempts at a manual create whose occurrence ordinal another request keeps taking first. */
+    private static final int CREATE_ATTEMPTS = 5;
+
+    /** Occurrence ordinals checked per fingerprint query; a manual expense is rarely entered this often. */
+    private static final int ORDINALS_PER_LOOKUP = 16;
+
+    private final ExpenseRepository          expenseRepository;
+    private final ExpenseMapper              expenseMapper;
+    private final CategorizationStrategy     categorizationStrategy;
+    private final AnomalyDetectionStrategy   anomalyDetectionStrategy;
+    private final DashboardAssembler         dashboardAssembler;
+    private final ExpenseImportWriter        expenseImportWriter;
+    private final AnomalyRecalculationQueue  recalculationQueue;
+    private final RollupMaintainer           rollupMaintainer;
+    private final DashboardCache             dashboardCache;
+    private final ColumnarExpenseStore       columnarStore;
+    private final DictionaryCache            dictionaryCache;
+    private final ExpenseBatchReader         expenseBatchReader;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Value("${app.import.dedup.false-positive-rate:0.01}")
+    private double dedupFalsePositiveRate;
+
+    @Value("${app.expenses.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.expenses.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${app.expenses.bulk-delete.max-ids:10000}")
+    private int maxBulkDeleteIds;
 
     // Read
-    
+
+    /**
+     * One page in (date DESC, id DESC) order. The cursor is the position of
+     * the previous page's last row, so each page is an index range seek
+     * rather than an OFFSET scan. Requested sizes above
+     * {@code app.expenses.page.max-size} are capped.
+     */
+    @Transactional(readOnly = true)
+    public ExpensePage findPage(ExpenseFilter filter, String cursor, Integer limit) {
+        int size = limit == null ? defaultPageSize : limit;
+        if (size < 1) {
+            throw new InvalidExpenseException("limit must be at least 1");
+        }
+        size = Math.min(size, maxPageSize);
+
+        Specification<Expense> spec = ExpenseSpecifications.matching(filter, dictionaryCache::findCategoryId);
+        if (cursor != null && !cursor.isBlank()) {
+            ExpenseCursor after = ExpenseCursor.decode(cursor);
+            spec = spec.and(ExpenseSpecifications.before(after.date(), after.id()));
+        }
+
+        // One extra row tells whether another page exists, without a COUNT
+        List<ExpenseResponse> rows = expenseRepository.findResponses(spec, size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<ExpenseResponse> page = hasMore ? rows.subList(0, size) : rows;
+        ExpenseResponse last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ExpensePage.builder()
+                .items(List.copyOf(page))
+                .nextCursor(hasMore ? new ExpenseCursor(last.getDate(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /** Every expense in one response; only served when explicitly requested. */
     @Transactional(readOnly = true)
     public List<ExpenseResponse> findAll() {
-        return expenseRepository
-                .findAll(Sort.by(Sort.Direction.DESC, "date", "id"))
-                .stream()
-                .map(expenseMapper::toResponse)
-                .toList();
+        return expenseRepository.findAllResponses();
     }
 
     @Transactional(readOnly = true)
     public ExpenseResponse findById(Long id) {
-        return expenseRepository.findById(id)
-                .map(expenseMapper::toResponse)
+        return expenseRepository.findResponseById(id)
                 .orElseThrow(() -> new ExpenseNotFoundException(id));
     }
 
     // Write
 
-    @Transactional
+    /**
+     * Create one expense in a transaction of its own. The occurrence
+     * ordinal in its fingerprint is checked before the insert, so a
+     * concurrent create of the same expense can take it first; the unique
+     * index then refuses the insert and the create is retried with the
+     * next free ordinal.
+     */
     public ExpenseResponse create(ExpenseRequest request) {
-        String category = categorizationStrategy.categorize(request.getVendorName());
-        Expense saved   = expenseRepository.save(expenseMapper.toEntity(request, category));
-        anomalyDetectionStrategy.recalculateForCategory(category);
-        return expenseMapper.toResponse(
-                expenseRepository.findById(saved.getId()).orElseThrow()
-        );
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> createOnce(request));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == CREATE_ATTEMPTS) throw e;
+                log.debug("Fingerprint taken concurrently, retrying create [attempt={}]", attempt);
+            }
+        }
+    }
+
+    /**
+     * Create every expense in a JSON array, read element by element (see
+     * {@link ExpenseBatchReader}). Valid elements go through the import
+     * path — JDBC batches or COPY, duplicate detection, one rollup delta —
+     * in a single transaction, and each affected category is queued for
+     * recalculation once. Invalid elements are reported, not fatal; rows a
+     * concurrent import stores meanwhile fail the whole batch with
+     * {@link ImportConflictException}.
+     */
+    @Transactional
+    public ExpenseBatchResult createBatch(InputStream json) {
+        RollupDelta       delta      = new RollupDelta();
+        DuplicateDetector duplicates = duplicateDetector();
+        List<ExpenseBatchResult.Item> results;
+        try (ExpenseImportWriter.ImportSession session = expenseImportWriter.begin()) {
+            results = expenseBatchReader.read(json, importChunkSize, chunk -> appendBatch(session, chunk, duplicates, delta));
+            session.complete();
+        } catch (DataIntegrityViolationException e) {
+            throw new ImportConflictException(
+                    "Another import stored some of these expenses meanwhile; nothing was saved, send the batch again");
+        }
+        applyDelta(delta);
+
+        int created = (int) results.stream().filter(r -> ExpenseBatchReader.CREATED.equals(r.getStatus())).count();
+        int failed  = (int) results.stream().filter(r -> ExpenseBatchReader.INVALID.equals(r.getStatus())).count();
+        log.info("Batch create: created={}, duplicates={}, invalid={}", created, duplicates.skipped(), failed);
+        return ExpenseBatchResult.builder()
+                .created(created)
+                .duplicates(duplicates.skipped())
+                .failed(failed)
+                .results(results)
+                .build();
     }
 
     @Transactional
     public void delete(Long id) {
         Expense expense = expenseRepository.findById(id)
                 .orElseThrow(() -> new ExpenseNotFoundException(id));
+        dictionaryCache.describe(expense);
         String category = expense.getCategory();
         expenseRepository.deleteById(id);
-        anomalyDetectionStrategy.recalculateForCategory(category);
+        rollupMaintainer.apply(RollupDelta.removed(expense));
+        columnarStore.removed(expense);
+        recalculationQueue.enqueue(category);
+        dashboardCache.invalidate();
         log.debug("Deleted expense [id={}, category={}]", id, category);
     }
 
-    // CSV Upload
-
+    /**
+     * Delete every expense matching the request with one set-based DELETE.
+     * The matching rows are read first as projections only — amount, date,
+     * category and vendor — to fold them into one rollup delta, so each
+     * aggregate key is updated once and each affected category is queued
+     * for recalculation once. If the DELETE removes a different number of
+     * rows than were read, a concurrent write got in between and the whole
+     * delete is rolled back rather than leave the rollups off.
+     */
     @Transactional
-    public CsvUploadResult uploadFile(MultipartFile file) {
-        ExpenseFileParser.ParseResult parsed = expenseFileParser.parse(file);
-        if (!parsed.expenses().isEmpty()) {
-            expenseRepository.saveAll(parsed.expenses());
-            Set<String> affected = parsed.expenses().stream()
-                    .map(Expense::getCategory)
-                    .collect(Collectors.toSet());
-            affected.forEach(anomalyDetectionStrategy::recalculateForCategory);
+    public BulkDeleteResult deleteMatching(BulkDeleteRequest request) {
+        if (request.isUnscoped()) {
+            throw new InvalidExpenseException("Give ids, a category, a date range or an importBatch to delete by");
+        }
+        if (request.getIds() != null && request.getIds().size() > maxBulkDeleteIds) {
+            throw new InvalidExpenseException("At most " + maxBulkDeleteIds + " ids can be deleted at once");
+        }
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new InvalidExpenseException("from must not be after to");
+        }
+
+        Specification<Expense> spec  = ExpenseSpecifications.deleting(request, dictionaryCache::findCategoryId);
+        RollupDelta            delta = new RollupDelta();
+        long matched = 0;
+        try (Stream<ExpenseColumnRow> rows = expenseRepository.streamColumnRows(spec)) {
+            for (Iterator<ExpenseColumnRow> it = rows.iterator(); it.hasNext(); matched++) {
+                Expense removed = removedExpense(it.next());
+                dictionaryCache.resolve(removed);
+                delta.remove(removed);
+                columnarStore.removed(removed);
+            }
         }
-        log.info("CSV upload: added={}, errors={}", parsed.expenses().size(), parsed.errors().size());
-        return CsvUploadResult.builder()
-                .added(parsed.expenses().size())
-                .failed(parsed.errors().size())
-                .errors(parsed.errors())
+        long deleted = matched == 0 ? 0 : expenseRepository.delete(spec);
+        if (deleted != matched) {
+            throw new BulkDeleteConflictException(
+                    "Expenses changed during the delete (matched " + matched + ", deleted " + deleted + "); try again");
+        }
+        applyDelta(delta);
+
+        List<String> categories = delta.categories().stream().sorted().toList();
+        log.info("Bulk delete: deleted={}, categories={}", deleted, categories);
+        return BulkDeleteResult.builder()
+                .deleted(deleted)
+                .categories(categories)
                 .build();
     }
 
+    // CSV Upload
+
+    /**
+     * Import one chunk of parsed rows in a transaction of its own: rows,
+     * rollups and the dashboard version all commit together. Used by
+     * {@link ImportJobService}, which commits a large file chunk by chunk
+     * through one {@link DuplicateDetector} per file.
+     *
+     * If a concurrent import stored some of the rows after the detector
+     * loaded their dates, the unique index refuses the chunk; it is rolled
+     * back and imported once more with every row looked up, so those rows
+     * are counted as duplicates.
+     *
+     * @return rows inserted; the rest of the chunk was already stored
+     */
+    public int importChunk(List<Expense> chunk, DuplicateDetector duplicates) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            return transaction.execute(status -> importRows(duplicates.retainNew(chunk)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Import chunk hit a concurrently stored row, rechecking {} rows", chunk.size());
+            // The rolled-back insert drew ids for these rows
+            chunk.forEach(expense -> expense.setId(null));
+            return transaction.execute(status -> importRows(duplicates.recheck(chunk)));
+        }
+    }
+
+    /** A fresh duplicate filter for one file; see {@link DuplicateDetector}. */
+    public DuplicateDetector duplicateDetector() {
+        return new DuplicateDetector(expenseRepository, dedupFalsePositiveRate);
+    }
+
     // Dashboard
 
-    @Transactional(readOnly = true)
-    public DashboardResponse getDashboard() {
-        return dashboardAssembler.assemble();
+    /**
+     * Served from {@link DashboardCache} while no write has committed since
+     * it was built. Not transactional itself: a cache hit needs no
+     * connection, and the assembler opens its own read-only transaction.
+     * Views scoped by date or category are assembled on every request.
+     */
+    public DashboardCache.Entry getDashboard(DashboardFilter filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new InvalidExpenseException("from must not be after to");
+        }
+        return filter.isUnscoped()
+                ? dashboardCache.get(() -> dashboardAssembler.assemble(filter))
+                : dashboardCache.uncached(() -> dashboardAssembler.assemble(filter));
+    }
+
+    public String currentDashboardETag() {
+        return dashboardCache.currentETag();
+    }
+
+    // Private helpers
+
+    private ExpenseResponse createOnce(ExpenseRequest request) {
+        String  category = categorizationStrategy.categorize(request.getVendorName());
+        Expense expense  = expenseMapper.toEntity(request, category);
+        expense.setFingerprint(nextFreeFingerprint(expense));
+        dictionaryCache.resolve(expense);
+        rollupMaintainer.apply(RollupDelta.added(expense));
+        columnarStore.added(expense);
+        // The new row's own flag is exact now; the rest of the category settles after commit
+        expense.setAnomaly(anomalyDetectionStrategy.wouldBeAnomaly(category, expense.getAmount()));
+        // Flushed here, so a taken fingerprint fails inside the attempt
+        Expense saved = expenseRepository.saveAndFlush(expense);
+        recalculationQueue.enqueue(category);
+        dashboardCache.invalidate();
+        return expenseMapper.toResponse(saved);
+    }
+
+    /** Write the chunk's rows that are not stored yet; returns them. */
+    private List<Expense> append(ExpenseImportWriter.ImportSession session, List<Expense> chunk,
+                                 DuplicateDetector duplicates, RollupDelta delta) {
+        return store(session, duplicates.retainNew(chunk), delta);
+    }
+
+    /** One chunk's rows known not to be stored yet, in the current transaction; returns how many. */
+    private int importRows(List<Expense> fresh) {
+        RollupDelta delta = new RollupDelta();
+        try (ExpenseImportWriter.ImportSession session = expenseImportWriter.begin()) {
+            store(session, fresh, delta);
+            session.complete();
+        }
+        applyDelta(delta);
+        return fresh.size();
+    }
+
+    private List<Expense> store(ExpenseImportWriter.ImportSession session, List<Expense> fresh, RollupDelta delta) {
+        fresh.forEach(dictionaryCache::resolve);
+        fresh.forEach(delta::add);
+        session.append(fresh);
+        fresh.forEach(columnarStore::added);
+        return fresh;
+    }
+
+    /** {@link #append} for batch elements, recording whether each was created or already stored. */
+    private void appendBatch(ExpenseImportWriter.ImportSession session, List<ExpenseBatchReader.Element> chunk,
+                             DuplicateDetector duplicates, RollupDelta delta) {
+        List<Expense> expenses = chunk.stream().map(ExpenseBatchReader.Element::expense).toList();
+        List<Expense> fresh    = append(session, expenses, duplicates, delta);
+        // fresh keeps the chunk's order, so one pass pairs them up
+        int next = 0;
+        for (ExpenseBatchReader.Element element : chunk) {
+            boolean created = next < fresh.size() && fresh.get(next) == element.expense();
+            if (created) next++;
+            element.result().setStatus(created ? ExpenseBatchReader.CREATED : ExpenseBatchReader.DUPLICATE);
+        }
+    }
+
+    /**
+     * The fingerprint of a manually entered expense: the first occurrence
+     * ordinal not taken yet, so entering the same expense twice is allowed.
+     * The candidates for {@link #ORDINALS_PER_LOOKUP} ordinals are checked
+     * with one IN query and the free one picked in memory, so an expense
+     * entered n times costs one round trip rather than n + 1.
+     */
+    private UUID nextFreeFingerprint(Expense expense) {
+        for (int first = 0; ; first += ORDINALS_PER_LOOKUP) {
+            List<UUID> candidates = new ArrayList<>(ORDINALS_PER_LOOKUP);
+            for (int ordinal = first; ordinal < first + ORDINALS_PER_LOOKUP; ordinal++) {
+                candidates.add(ExpenseFingerprint.of(expense, ordinal));
+            }
+            Set<UUID> taken = new HashSet<>(expenseRepository.findExistingFingerprints(candidates));
+            for (UUID fingerprint : candidates) {
+                if (!taken.contains(fingerprint)) {
+                    return fingerprint;
+                }
+            }
+        }
+    }
+
+    /** The fields of a deleted row that its rollup and columnar entries are keyed on. */
+    private static Expense removedExpense(ExpenseColumnRow row) {
+        return Expense.builder()
+                .id(row.id())
+                .date(row.date())
+                .amount(row.amount())
+                .category(row.category())
+                .vendorName(row.vendorName())
+                .build();
+    }
+
+    private void applyDelta(RollupDelta delta) {
+        rollupMaintainer.apply(delta);
+        delta.categories().forEach(recalculationQueue::enqueue);
+        dashboardCache.invalidate();
     }
 }
@@ -0,0 +1,49 @@
+package com.penny.expense.service;
+
+import java.util.UUID;
+
+/**
+ * Bloom filter over expense fingerprints: "no" is certain, "maybe" needs
+ * checking against the table.
+ *
+ * Sized up front for the number of fingerprints it will hold and the
+ * false-positive rate wanted — about 9.6 bits per fingerprint at 1%.
+ * Fingerprints are MD5-based UUIDs, so their two halves already serve as
+ * independent hashes and the k probe positions are derived from them by
+ * double hashing, with no further hashing per probe.
+ */
+final class FingerprintFilter {
+
+    private final long[] bits;
+    private final long   bitCount;
+    private final int    hashes;
+
+    FingerprintFilter(long expectedEntries, double falsePositiveRate) {
+        long   n = Math.max(1, expectedEntries);
+        double m = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = Math.max(64, (long) Math.ceil(m / 64) * 64);
+        this.bits     = new long[(int) (bitCount / 64)];
+        this.hashes   = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void add(UUID fingerprint) {
+        long h1 = fingerprint.getMostSignificantBits();
+        long h2 = fingerprint.getLeastSignificantBits() | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(UUID fingerprint) {
+        long h1 = fingerprint.getMostSignificantBits();
+        long h2 = fingerprint.getLeastSignificantBits() | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
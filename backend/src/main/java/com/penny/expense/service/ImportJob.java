@@ -0,0 +1,137 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ImportJobResponse;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one asynchronous import, shared between the worker running it
+ * and the requests polling or cancelling it.
+ *
+ * Status moves QUEUED → RUNNING → SUCCEEDED | FAILED | CANCELLED, or
+ * straight from QUEUED to CANCELLED. Transitions are synchronized; the
+ * row counters, rejected rows included, are advanced by the worker alone
+ * as the file is read, and read lock-free. The error messages kept are
+ * those the parser listed, which it caps.
+ */
+final class ImportJob {
+
+    enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    private final String     id;
+    private final String     fileName;
+    private final Path       spool;
+    private final Instant    submittedAt = Instant.now();
+    private final AtomicLong processed   = new AtomicLong();
+    private final AtomicLong duplicates  = new AtomicLong();
+    private final AtomicLong failed      = new AtomicLong();
+
+    private Status       status = Status.QUEUED;
+    private boolean      cancelRequested;
+    private Instant      startedAt;
+    private Instant      finishedAt;
+    private List<String> errors = List.of();
+    private String       message;
+
+    ImportJob(String id, String fileName, Path spool) {
+        this.id       = id;
+        this.fileName = fileName;
+        this.spool    = spool;
+    }
+
+    String id()       { return id; }
+    String fileName() { return fileName; }
+    Path   spool()    { return spool; }
+
+    /** QUEUED → RUNNING; false if the job was cancelled while it waited. */
+    synchronized boolean start() {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        status    = Status.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    /** Called by the worker between chunks; stops the import once a cancel has been requested. */
+    synchronized void checkNotCancelled() {
+        if (cancelRequested) {
+            throw new CancellationException("Import " + id + " cancelled");
+        }
+    }
+
+    void committed(int rows, int skippedDuplicates) {
+        processed.addAndGet(rows);
+        duplicates.addAndGet(skippedDuplicates);
+    }
+
+    void rejected(int rows) {
+        failed.addAndGet(rows);
+    }
+
+    synchronized void succeeded(List<String> rowErrors) {
+        finish(Status.SUCCEEDED, rowErrors, null);
+    }
+
+    synchronized void failed(String reason) {
+        finish(Status.FAILED, errors, reason);
+    }
+
+    synchronized void cancelled() {
+        finish(Status.CANCELLED, errors, null);
+    }
+
+    /**
+     * Request cancellation. A queued job is cancelled at once; a running
+     * one stops before its next chunk, keeping the chunks already committed.
+     */
+    synchronized void cancel() {
+        cancelRequested = true;
+        if (status == Status.QUEUED) {
+            finish(Status.CANCELLED, errors, null);
+        }
+    }
+
+    synchronized boolean finishedBefore(Instant cutoff) {
+        return finishedAt != null && finishedAt.isBefore(cutoff);
+    }
+
+    synchronized ImportJobResponse toResponse() {
+        long rows = processed.get();
+        return ImportJobResponse.builder()
+                .id(id)
+                .fileName(fileName)
+                .status(status.name())
+                .rowsProcessed(rows)
+                .skippedDuplicates(duplicates.get())
+                .rowsFailed(failed.get())
+                .rowsPerSecond(rowsPerSecond(rows))
+                .errors(errors)
+                .message(message)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    // ── Private helpers
+
+    private void finish(Status outcome, List<String> rowErrors, String reason) {
+        status     = outcome;
+        errors     = List.copyOf(rowErrors);
+        message    = reason;
+        finishedAt = Instant.now();
+    }
+
+    private double rowsPerSecond(long rows) {
+        if (startedAt == null) return 0;
+        Instant end    = finishedAt != null ? finishedAt : Instant.now();
+        long    millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return Math.round(rows * 10_000.0 / millis) / 10.0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ImportJobResponse;
+import com.penny.expense.exception.ImportJobNotFoundException;
+import com.penny.expense.exception.ImportRejectedException;
+import com.penny.expense.service.strategy.ExpenseFileParser;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CSV imports in the background so an upload request returns as soon
+ * as the file is on local disk.
+ *
+ * {@link #submit} spools the upload — a multipart file or a raw request
+ * body, gzip-compressed or not — to a temp file and queues a job on a
+ * bounded pool: at most {@code app.import.jobs.max-concurrent} imports run
+ * at once and {@code app.import.jobs.queue-capacity} more may wait; past
+ * that the upload is rejected. Each chunk of {@code app.import.chunk-size}
+ * rows commits in its own transaction through
+ * {@link ExpenseService#importChunk}, so no transaction or connection is
+ * held for the whole file and progress is visible while the job runs. One
+ * {@link DuplicateDetector} follows the whole file, so rows already stored
+ * are skipped however the file is chunked.
+ *
+ * Finished jobs stay queryable for {@code app.import.jobs.retention-minutes}.
+ */
+@Service
+@Slf4j
+public class ImportJobService {
+
+    /** Bytes copied per read while spooling a request body. */
+    private static final int SPOOL_BLOCK_BYTES = 64 * 1024;
+
+    private final ExpenseService     expenseService;
+    private final ExpenseFileParser  expenseFileParser;
+    private final int                chunkSize;
+    private final long               maxUploadBytes;
+    private final Duration           retention;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ExpenseService expenseService,
+                            ExpenseFileParser expenseFileParser,
+                            @Value("${app.import.chunk-size:500}") int chunkSize,
+                            @Value("${app.import.jobs.max-concurrent:2}") int maxConcurrent,
+                            @Value("${app.import.jobs.queue-capacity:16}") int queueCapacity,
+                            @Value("${app.import.jobs.retention-minutes:60}") long retentionMinutes,
+                            @Value("${spring.servlet.multipart.max-file-size:512MB}") DataSize maxUploadSize) {
+        this.expenseService    = expenseService;
+        this.expenseFileParser = expenseFileParser;
+        this.chunkSize         = chunkSize;
+        this.maxUploadBytes    = maxUploadSize.toBytes();
+        this.retention         = Duration.ofMinutes(retentionMinutes);
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "import-job-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /** Spool the upload and queue its import; returns the queued job. */
+    public ImportJobResponse submit(MultipartFile file) {
+        return queue(spool(file), file.getOriginalFilename(), file.getContentType());
+    }
+
+    /**
+     * Spool a CSV request body — plain or gzip-compressed, as sent — and
+     * queue its import. The body is copied to disk in small blocks, never
+     * held in memory, and refused once it exceeds the upload limit.
+     */
+    public ImportJobResponse submit(InputStream body, String fileName, String contentType) {
+        return queue(spool(body), fileName, contentType);
+    }
+
+    public ImportJobResponse status(String id) {
+        return find(id).toResponse();
+    }
+
+    /** Cancel a queued or running job; rows from chunks already committed stay. */
+    public ImportJobResponse cancel(String id) {
+        ImportJob job = find(id);
+        job.cancel();
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(ImportJob::cancel);
+        executor.shutdown();
+    }
+
+    // ── Private helpers
+
+    private ImportJobResponse queue(Path spool, String fileName, String contentType) {
+        evictExpired();
+        SpooledUpload upload = new SpooledUpload(spool, fileName, contentType);
+        ImportJob     job    = new ImportJob(UUID.randomUUID().toString(), fileName, spool);
+        jobs.put(job.id(), job);
+        try {
+            executor.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            deleteQuietly(spool);
+            throw new ImportRejectedException("Too many imports in progress, try again shortly");
+        }
+        log.info("Import job queued [id={}, file={}]", job.id(), job.fileName());
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, MultipartFile upload) {
+        try {
+            if (!job.start()) {
+                return;
+            }
+            DuplicateDetector duplicates = expenseService.duplicateDetector();
+            UUID              batch      = UUID.fromString(job.id());
+            ExpenseFileParser.ChunkedParseResult parsed = expenseFileParser.parse(upload, chunkSize, chunk -> {
+                job.checkNotCancelled();
+                // Tagged with the job id, so the whole import can be deleted in one go
+                chunk.forEach(expense -> expense.setImportBatch(batch));
+                int inserted = expenseService.importChunk(chunk, duplicates);
+                job.committed(inserted, chunk.size() - inserted);
+            }, job::rejected);
+            job.succeeded(parsed.errors());
+            log.info("Import job finished [id={}, added={}, duplicates={}, errors={}]", job.id(),
+                    parsed.accepted() - duplicates.skipped(), duplicates.skipped(), parsed.rejected());
+        } catch (CancellationException e) {
+            job.cancelled();
+            log.info("Import job cancelled [id={}]", job.id());
+        } catch (RuntimeException e) {
+            job.failed(e.getMessage());
+            log.error("Import job failed [id={}]", job.id(), e);
+        } finally {
+            deleteQuietly(job.spool());
+        }
+    }
+
+    private ImportJob find(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException(id);
+        }
+        return job;
+    }
+
+    private void evictExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+    }
+
+    private static Path spool(MultipartFile file) {
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("penny-upload-", ".csv");
+            file.transferTo(spool);
+            return spool;
+        } catch (IOException e) {
+            if (spool != null) deleteQuietly(spool);
+            throw new UncheckedIOException("Upload could not be stored", e);
+        }
+    }
+
+    private Path spool(InputStream body) {
+        Path    spool  = null;
+        boolean stored = false;
+        try {
+            spool = Files.createTempFile("penny-upload-", ".csv");
+            try (OutputStream out = Files.newOutputStream(spool)) {
+                byte[] block = new byte[SPOOL_BLOCK_BYTES];
+                long   total = 0;
+                int    read;
+                while ((read = body.read(block)) != -1) {
+                    total += read;
+                    if (total > maxUploadBytes) {
+                        throw new MaxUploadSizeExceededException(maxUploadBytes);
+                    }
+                    out.write(block, 0, read);
+                }
+            }
+            stored = true;
+            return spool;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Upload could not be stored", e);
+        } finally {
+            if (!stored && spool != null) deleteQuietly(spool);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload {}", path, e);
+        }
+    }
+}
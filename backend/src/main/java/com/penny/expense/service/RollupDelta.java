@@ -0,0 +1,99 @@
+package com.penny.expense.service;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.Money;
+import com.penny.expense.model.MonthlyCategoryKey;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * In-memory accumulation of the changes a write makes to the aggregate
+ * tables (category_stats, monthly_category_rollup, vendor_rollup).
+ *
+ * A CSV upload folds every row into one delta and applies it once, so the
+ * aggregate tables see one UPDATE per distinct key rather than one per row.
+ * Sums are kept as long minor units ({@link Money}) in one mutable
+ * accumulator per key, so folding a row in allocates nothing once its
+ * keys have been seen, and a sum that overflows fails loudly.
+ * Rows are keyed by the expense's vendor and category ids, so every
+ * expense folded in must have been through DictionaryCache.resolve.
+ * Not thread-safe; one delta belongs to one write.
+ */
+public final class RollupDelta {
+
+    private final Map<Integer, Totals>            byCategory         = new HashMap<>();
+    private final Map<MonthlyCategoryKey, Totals> byMonthAndCategory = new HashMap<>();
+    private final Map<Integer, Totals>            byVendor           = new HashMap<>();
+    private final Set<String>                     categoryNames      = new HashSet<>();
+
+    public static RollupDelta added(Expense expense) {
+        RollupDelta delta = new RollupDelta();
+        delta.add(expense);
+        return delta;
+    }
+
+    public static RollupDelta removed(Expense expense) {
+        RollupDelta delta = new RollupDelta();
+        delta.remove(expense);
+        return delta;
+    }
+
+    public void add(Expense expense) {
+        accumulate(expense, Money.of(expense.getAmount()).cents(), 1);
+    }
+
+    public void remove(Expense expense) {
+        accumulate(expense, Money.of(expense.getAmount()).negate().cents(), -1);
+    }
+
+    /** Categories touched by this delta — the ones whose anomaly flags need a recalc. */
+    public Set<String> categories() {
+        return categoryNames;
+    }
+
+    Map<Integer, Totals> byCategory() {
+        return byCategory;
+    }
+
+    Map<MonthlyCategoryKey, Totals> byMonthAndCategory() {
+        return byMonthAndCategory;
+    }
+
+    Map<Integer, Totals> byVendor() {
+        return byVendor;
+    }
+
+    private void accumulate(Expense expense, long cents, long count) {
+        Integer categoryId = Objects.requireNonNull(expense.getCategoryId(), "category id not resolved");
+        Integer vendorId   = Objects.requireNonNull(expense.getVendorId(), "vendor id not resolved");
+        MonthlyCategoryKey month = new MonthlyCategoryKey(
+                expense.getDate().getYear(), expense.getDate().getMonthValue(), categoryId);
+        byCategory.computeIfAbsent(categoryId, key -> new Totals()).add(cents, count);
+        byMonthAndCategory.computeIfAbsent(month, key -> new Totals()).add(cents, count);
+        byVendor.computeIfAbsent(vendorId, key -> new Totals()).add(cents, count);
+        categoryNames.add(expense.getCategory());
+    }
+
+    /** Running sum (minor units) and row count for one key. */
+    static final class Totals {
+        private long cents;
+        private long count;
+
+        void add(long centsDelta, long countDelta) {
+            cents = Math.addExact(cents, centsDelta);
+            count = Math.addExact(count, countDelta);
+        }
+
+        Money total() {
+            return Money.ofCents(cents);
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.penny.expense.service;
+
+import com.penny.expense.repository.CategoryStatsRepository;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.repository.MonthlyCategoryRollupRepository;
+import com.penny.expense.repository.RollupUpsertRepository;
+import com.penny.expense.repository.VendorRollupRepository;
+import com.penny.expense.repository.projection.RowTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the aggregate tables in step with the expenses table.
+ *
+ * ExpenseService hands every insert and delete to {@link #apply(RollupDelta)}
+ * inside its own transaction, so the aggregates commit or roll back with
+ * the rows they describe. Each row is one atomic upsert, so concurrent
+ * writers creating the same rollup row never race each other.
+ *
+ * {@link #rebuild()} recomputes everything from scratch with one GROUP BY
+ * per table; it runs from the admin endpoint, and at startup when
+ * {@link #isStale()}. It first locks {@code expenses} against writers so
+ * no delta is lost between the delete and the re-aggregation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollupMaintainer {
+
+    private final CategoryStatsRepository         categoryStatsRepository;
+    private final MonthlyCategoryRollupRepository monthlyCategoryRollupRepository;
+    private final VendorRollupRepository          vendorRollupRepository;
+    private final RollupUpsertRepository          rollupUpsertRepository;
+    private final ExpenseRepository               expenseRepository;
+    private final DashboardCache                  dashboardCache;
+
+    @Transactional
+    public void apply(RollupDelta delta) {
+        delta.byCategory().forEach((categoryId, change) ->
+                rollupUpsertRepository.addToCategory(categoryId, change.total().toBigDecimal(), change.count()));
+        delta.byMonthAndCategory().forEach((key, change) ->
+                rollupUpsertRepository.addToMonth(key, change.total().toBigDecimal(), change.count()));
+        delta.byVendor().forEach((vendorId, change) ->
+                rollupUpsertRepository.addToVendor(vendorId, change.total().toBigDecimal(), change.count()));
+    }
+
+    /**
+     * Whether any aggregate table disagrees with {@code expenses} on the
+     * total count and spend — true when the tables are empty or missing
+     * rows, e.g. in a database that predates them. One aggregate over
+     * expenses and one per (small) rollup table, against the three GROUP
+     * BYs and rewrites of a rebuild.
+     */
+    @Transactional(readOnly = true)
+    public boolean isStale() {
+        RowTotals expenses = expenseRepository.totals();
+        return !categoryStatsRepository.totals().matches(expenses)
+                || !monthlyCategoryRollupRepository.totals().matches(expenses)
+                || !vendorRollupRepository.totals().matches(expenses);
+    }
+
+    @Transactional
+    public RebuildCounts rebuild() {
+        rollupUpsertRepository.lockForRebuild();
+        categoryStatsRepository.deleteAllInBatch();
+        monthlyCategoryRollupRepository.deleteAllInBatch();
+        vendorRollupRepository.deleteAllInBatch();
+
+        RebuildCounts counts = new RebuildCounts(
+                categoryStatsRepository.rebuildFromExpenses(),
+                monthlyCategoryRollupRepository.rebuildFromExpenses(),
+                vendorRollupRepository.rebuildFromExpenses());
+        log.info("Rebuilt rollups [categories={}, monthCategories={}, vendors={}]",
+                counts.categories(), counts.monthCategories(), counts.vendors());
+        dashboardCache.invalidate();
+        return counts;
+    }
+
+    /** Rows written to each aggregate table by a rebuild. */
+    public record RebuildCounts(int categories, int monthCategories, int vendors) {}
+}
@@ -0,0 +1,82 @@
+package com.penny.expense.service;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An uploaded file copied to local disk, so it outlives the request that
+ * carried it. Presented as a {@link MultipartFile} so the parsers read it
+ * exactly as they read a live upload; {@link #getResource()} exposes the
+ * file so it can also be mapped where it lies.
+ */
+final class SpooledUpload implements MultipartFile {
+
+    private final Path   path;
+    private final String originalFilename;
+    private final String contentType;
+
+    SpooledUpload(Path path, String originalFilename, String contentType) {
+        this.path             = path;
+        this.originalFilename = originalFilename;
+        this.contentType      = contentType;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    @Override
+    public long getSize() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    /** The spool file itself, so a parser can map it in place instead of copying it. */
+    @Override
+    public Resource getResource() {
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,391 @@
+package com.penny.expense.service.columnar;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.Money;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.repository.projection.ExpenseColumnRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-process copy of every expense, held as primitive columns
+ * (see {@link ExpenseColumns}) for analytics that need no entities:
+ * {@link #aggregate()} scans them in parallel without allocating per row,
+ * and {@link #categoryTotals(String)} answers a category's running sum
+ * and count without touching the database.
+ *
+ * Enabled by {@code app.analytics.columnar.enabled}. Loaded once at
+ * startup from {@link ExpenseRepository#streamColumnRows()}, then kept
+ * current by ExpenseService: {@link #added(Expense)} and
+ * {@link #removed(Expense)} are buffered per transaction and applied only
+ * after it commits, so rolled-back writes never show up.
+ *
+ * The columns are capped at {@code app.analytics.columnar.max-bytes}
+ * ({@link ExpenseColumns#BYTES_PER_ROW} bytes per expense). Past that the
+ * store drops its data and reports itself unavailable; callers fall back
+ * to the SQL path until the next restart. It is also unavailable while a
+ * reload is running — e.g. after a COPY import, whose rows never get
+ * their generated ids back.
+ */
+@Component
+@Slf4j
+public class ColumnarExpenseStore {
+
+    /** Smallest slice of rows worth handing to its own fork-join task. */
+    private static final int MIN_ROWS_PER_TASK = 32_768;
+
+    /** Rows per transaction kept by reference until their ids are assigned; more forces a reload. */
+    private static final int MAX_UNRESOLVED_IDS = 1_000;
+
+    private static final int  MAX_RELOAD_ATTEMPTS = 3;
+    private static final long RELOAD_RETRY_MS     = 5_000;
+
+    private final RowSource rowSource;
+    private final boolean   enabled;
+    private final int       maxRows;
+
+    private final StringDictionary categories = new StringDictionary();
+    private final StringDictionary vendors    = new StringDictionary();
+
+    private final ReadWriteLock            lock                = new ReentrantReadWriteLock();
+    private final AtomicBoolean            writesWhileUnloaded = new AtomicBoolean();
+    private final ScheduledExecutorService reloader            = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "columnar-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Guarded by {@link #lock}; null while not loaded, reloading, or over budget. */
+    private ExpenseColumns columns;
+
+    @Autowired
+    public ColumnarExpenseStore(ExpenseRepository expenseRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.analytics.columnar.enabled:false}") boolean enabled,
+                                @Value("${app.analytics.columnar.max-bytes:268435456}") long maxBytes) {
+        this(readOnlySource(expenseRepository, transactionManager), enabled, maxBytes);
+    }
+
+    ColumnarExpenseStore(RowSource rowSource, boolean enabled, long maxBytes) {
+        this.rowSource = rowSource;
+        this.enabled   = enabled;
+        this.maxRows   = (int) Math.min(Integer.MAX_VALUE - 8, maxBytes / ExpenseColumns.BYTES_PER_ROW);
+    }
+
+    /** Reads every expense inside a caller-supplied scope (a read-only transaction in production). */
+    interface RowSource {
+        ExpenseColumns read(Function<Stream<ExpenseColumnRow>, ExpenseColumns> loader);
+    }
+
+    /** Running sum (minor units) and count for one category. */
+    public record CategoryTotals(long cents, long count) {}
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isAvailable() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return columns != null;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    // ── Reads
+
+    /**
+     * Totals per category, vendor and (month, category), computed by one
+     * parallel pass over the columns; null when the store is unavailable.
+     */
+    public ExpenseAggregates aggregate() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            ExpenseColumns snapshot = columns;
+            if (snapshot == null) {
+                return null;
+            }
+            String[] categoryNames = categories.names();
+            String[] vendorNames   = vendors.names();
+            int      size          = snapshot.size();
+            int      firstMonth    = size == 0 ? 0 : ExpenseAggregates.monthIndex(snapshot.minEpochDay());
+            int      monthCount    = size == 0 ? 0 : ExpenseAggregates.monthIndex(snapshot.maxEpochDay()) - firstMonth + 1;
+            int      tasks         = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), size / MIN_ROWS_PER_TASK));
+
+            // Each task folds a contiguous slice into its own accumulators; merged pairwise
+            return IntStream.range(0, tasks).parallel()
+                    .mapToObj(task -> {
+                        ExpenseAggregates partial = new ExpenseAggregates(categoryNames, vendorNames, firstMonth, monthCount);
+                        partial.scan(snapshot, (int) ((long) size * task / tasks), (int) ((long) size * (task + 1) / tasks));
+                        return partial;
+                    })
+                    .reduce(ExpenseAggregates::merge)
+                    .orElseThrow();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * A category's sum and count as the current transaction sees them —
+     * committed rows plus this transaction's own pending writes. Null when
+     * the store is unavailable.
+     */
+    public CategoryTotals categoryTotals(String category) {
+        int categoryId = categories.idOf(category);
+        long cents;
+        long count;
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            if (columns == null) {
+                return null;
+            }
+            cents = categoryId < 0 ? 0 : columns.categoryCents(categoryId);
+            count = categoryId < 0 ? 0 : columns.categoryCount(categoryId);
+        } finally {
+            read.unlock();
+        }
+        PendingChanges pending = currentPending(false);
+        if (pending != null && categoryId >= 0) {
+            cents += pending.added.categoryCents(categoryId) - pending.removed.categoryCents(categoryId);
+            count += pending.added.categoryCount(categoryId) - pending.removed.categoryCount(categoryId);
+        }
+        return new CategoryTotals(cents, count);
+    }
+
+    // ── Writes (applied after commit)
+
+    public void added(Expense expense) {
+        if (!enabled) {
+            return;
+        }
+        PendingChanges pending = currentPending(true);
+        if (!pending.needsReload) {
+            if (expense.getId() == null) {
+                // JPA assigns the id on persist; read it back at commit
+                if (pending.unresolved.size() < MAX_UNRESOLVED_IDS) {
+                    pending.unresolved.put(pending.added.size(), expense);
+                } else {
+                    pending.needsReload = true;
+                }
+            }
+            record(pending.added, expense);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(pending);
+        }
+    }
+
+    public void removed(Expense expense) {
+        if (!enabled) {
+            return;
+        }
+        PendingChanges pending = currentPending(true);
+        if (!pending.needsReload) {
+            record(pending.removed, expense);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(pending);
+        }
+    }
+
+    // ── Loading
+
+    /**
+     * Replace the columns with a fresh copy of the expenses table. If
+     * writes commit during the load it is repeated, and after
+     * {@value #MAX_RELOAD_ATTEMPTS} busy attempts retried in the background.
+     */
+    public void reload() {
+        if (enabled && !tryReload()) {
+            scheduleReload(RELOAD_RETRY_MS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    // ── Private helpers
+
+    private synchronized boolean tryReload() {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            columns = null;
+        } finally {
+            write.unlock();
+        }
+
+        for (int attempt = 1; attempt <= MAX_RELOAD_ATTEMPTS; attempt++) {
+            writesWhileUnloaded.set(false);
+            ExpenseColumns loaded = rowSource.read(this::load);
+            write.lock();
+            try {
+                if (loaded == null) {
+                    log.warn("Columnar store exceeds its budget of {} expenses — analytics fall back to SQL", maxRows);
+                    return true;
+                }
+                if (!writesWhileUnloaded.get()) {
+                    columns = loaded;
+                    log.info("Columnar store loaded [expenses={}, bytes={}]",
+                            loaded.size(), (long) loaded.size() * ExpenseColumns.BYTES_PER_ROW);
+                    return true;
+                }
+            } finally {
+                write.unlock();
+            }
+            log.debug("Columnar load raced a committed write — retrying [attempt={}]", attempt);
+        }
+        return false;
+    }
+
+    private void scheduleReload(long delayMs) {
+        reloader.schedule(() -> {
+            try {
+                if (!tryReload()) scheduleReload(RELOAD_RETRY_MS);
+            } catch (RuntimeException e) {
+                log.error("Columnar reload failed — analytics fall back to SQL", e);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void record(ExpenseColumns target, Expense expense) {
+        target.add(expense.getId() == null ? 0 : expense.getId(),
+                (int) expense.getDate().toEpochDay(),
+                Money.of(expense.getAmount()).cents(),
+                categories.encode(expense.getCategory()),
+                vendors.encode(expense.getVendorName()));
+    }
+
+    /** Null if the table does not fit in the budget. */
+    private ExpenseColumns load(Stream<ExpenseColumnRow> rows) {
+        ExpenseColumns loaded = new ExpenseColumns(maxRows, true);
+        Iterator<ExpenseColumnRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            ExpenseColumnRow row = iterator.next();
+            boolean fits = loaded.add(row.id(),
+                    (int) row.date().toEpochDay(),
+                    Money.of(row.amount()).cents(),
+                    categories.encode(row.category()),
+                    vendors.encode(row.vendorName()));
+            if (!fits) {
+                return null;
+            }
+        }
+        return loaded;
+    }
+
+    private void apply(PendingChanges pending) {
+        pending.unresolved.forEach((row, expense) -> {
+            if (expense.getId() == null) pending.needsReload = true;
+            else pending.added.setId(row, expense.getId());
+        });
+
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            if (columns == null) {
+                // A load in progress may or may not have seen this write — make it go again
+                writesWhileUnloaded.set(true);
+                return;
+            }
+            if (pending.needsReload) {
+                columns = null;
+                writesWhileUnloaded.set(true);
+                scheduleReload(0);
+                return;
+            }
+            for (int row = 0; row < pending.removed.size(); row++) {
+                int index = columns.indexOf(pending.removed.id(row));
+                if (index >= 0) columns.removeAt(index);
+            }
+            for (int row = 0; row < pending.added.size(); row++) {
+                boolean fits = columns.add(pending.added.id(row), pending.added.epochDay(row), pending.added.cents(row),
+                        pending.added.categoryId(row), pending.added.vendorId(row));
+                if (!fits) {
+                    columns = null;
+                    log.warn("Columnar store exceeds its budget of {} expenses — analytics fall back to SQL", maxRows);
+                    return;
+                }
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * This transaction's buffered changes, bound on first use and applied
+     * after commit. Outside a transaction a fresh buffer is returned (when
+     * {@code create}) and the caller applies it at once.
+     */
+    private PendingChanges currentPending(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return create ? new PendingChanges() : null;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            PendingChanges bound = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ColumnarExpenseStore.this);
+                }
+            });
+            pending = bound;
+        }
+        return pending;
+    }
+
+    private static RowSource readOnlySource(ExpenseRepository expenseRepository,
+                                            PlatformTransactionManager transactionManager) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return loader -> transaction.execute(status -> {
+            try (Stream<ExpenseColumnRow> rows = expenseRepository.streamColumnRows()) {
+                return loader.apply(rows);
+            }
+        });
+    }
+
+    /** One transaction's writes, in column form; ids of new rows may still be pending. */
+    private static final class PendingChanges {
+        private final ExpenseColumns        added      = new ExpenseColumns(Integer.MAX_VALUE - 8, false);
+        private final ExpenseColumns        removed    = new ExpenseColumns(Integer.MAX_VALUE - 8, false);
+        private final Map<Integer, Expense> unresolved = new HashMap<>();
+        private boolean                     needsReload;
+    }
+}
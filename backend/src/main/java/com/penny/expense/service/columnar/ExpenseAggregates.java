@@ -0,0 +1,112 @@
+package com.penny.expense.service.columnar;
+
+/**
+ * Totals produced by one scan of the columnar store: per category, per
+ * vendor, and per (month, category). Sums are in minor units.
+ *
+ * Ids index the {@code categoryName}/{@code vendorName} dictionaries;
+ * ids whose count is zero belong to values that no longer have any
+ * expense and should be skipped. Months are addressed by month index
+ * ({@code year × 12 + month − 1}, see {@link #monthIndex(int)}).
+ */
+public final class ExpenseAggregates {
+
+    private final String[] categoryNames;
+    private final String[] vendorNames;
+    private final int      firstMonth;
+    private final int      monthCount;
+
+    private final long[] categoryCents;
+    private final long[] categoryCounts;
+    private final long[] vendorCents;
+    private final long[] vendorCounts;
+    /** [monthOffset × categories + categoryId] */
+    private final long[] monthCategoryCents;
+
+    ExpenseAggregates(String[] categoryNames, String[] vendorNames, int firstMonth, int monthCount) {
+        this.categoryNames      = categoryNames;
+        this.vendorNames        = vendorNames;
+        this.firstMonth         = firstMonth;
+        this.monthCount         = monthCount;
+        this.categoryCents      = new long[categoryNames.length];
+        this.categoryCounts     = new long[categoryNames.length];
+        this.vendorCents        = new long[vendorNames.length];
+        this.vendorCounts       = new long[vendorNames.length];
+        this.monthCategoryCents = new long[monthCount * categoryNames.length];
+    }
+
+    /**
+     * Month index ({@code year × 12 + month − 1}) of a day since the epoch,
+     * computed with integer arithmetic only — no {@code LocalDate} per row.
+     */
+    public static int monthIndex(int epochDay) {
+        // Proleptic Gregorian civil-from-days, with years starting on 1 March
+        int shifted   = epochDay + 719_468;
+        int era       = Math.floorDiv(shifted, 146_097);
+        int dayOfEra  = shifted - era * 146_097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int marchMonth = (5 * dayOfYear + 2) / 153;
+        int month      = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        int year       = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+
+    // ── Scan and merge (called by ColumnarExpenseStore)
+
+    /** Folds rows {@code [from, to)} in; the only loop over rows, allocation-free. */
+    void scan(ExpenseColumns columns, int from, int to) {
+        int[]  epochDays   = columns.epochDayColumn();
+        long[] cents       = columns.centsColumn();
+        int[]  categoryIds = columns.categoryIdColumn();
+        int[]  vendorIds   = columns.vendorIdColumn();
+        int    categories  = categoryNames.length;
+
+        for (int row = from; row < to; row++) {
+            long amount   = cents[row];
+            int  category = categoryIds[row];
+            int  vendor   = vendorIds[row];
+            int  cell     = (monthIndex(epochDays[row]) - firstMonth) * categories + category;
+            categoryCents[category]  = Math.addExact(categoryCents[category], amount);
+            categoryCounts[category] += 1;
+            vendorCents[vendor]      = Math.addExact(vendorCents[vendor], amount);
+            vendorCounts[vendor]     += 1;
+            monthCategoryCents[cell] = Math.addExact(monthCategoryCents[cell], amount);
+        }
+    }
+
+    ExpenseAggregates merge(ExpenseAggregates other) {
+        addInto(categoryCents, other.categoryCents);
+        addInto(categoryCounts, other.categoryCounts);
+        addInto(vendorCents, other.vendorCents);
+        addInto(vendorCounts, other.vendorCounts);
+        addInto(monthCategoryCents, other.monthCategoryCents);
+        return this;
+    }
+
+    // ── Accessors
+
+    public int    categoryCount()                  { return categoryNames.length; }
+    public String categoryName(int categoryId)     { return categoryNames[categoryId]; }
+    public long   categoryCents(int categoryId)    { return categoryCents[categoryId]; }
+    public long   categoryExpenses(int categoryId) { return categoryCounts[categoryId]; }
+
+    public int    vendorCount()                { return vendorNames.length; }
+    public String vendorName(int vendorId)     { return vendorNames[vendorId]; }
+    public long   vendorCents(int vendorId)    { return vendorCents[vendorId]; }
+    public long   vendorExpenses(int vendorId) { return vendorCounts[vendorId]; }
+
+    /** Month index of the earliest month covered; see {@link #monthIndex(int)}. */
+    public int firstMonth() { return firstMonth; }
+    public int monthCount() { return monthCount; }
+
+    public long monthCategoryCents(int monthOffset, int categoryId) {
+        return monthCategoryCents[monthOffset * categoryNames.length + categoryId];
+    }
+
+    private static void addInto(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = Math.addExact(target[i], source[i]);
+        }
+    }
+}
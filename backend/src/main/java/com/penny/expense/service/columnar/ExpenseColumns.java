@@ -0,0 +1,149 @@
+package com.penny.expense.service.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Growable parallel primitive arrays, one slot per expense: id, epoch
+ * day, amount in minor units, and dictionary-encoded category and vendor.
+ *
+ * Running sum and count per category id are kept alongside, so a
+ * category's mean is O(1). Rows are unordered; removal swaps the last row
+ * into the hole. An indexed instance also maps id to row ({@link IdIndex}),
+ * so {@link #indexOf(long)} is a hash probe rather than a scan. Capacity
+ * never exceeds {@code maxRows}. Not thread-safe —
+ * {@link ColumnarExpenseStore} guards it.
+ */
+final class ExpenseColumns {
+
+    /** id + epoch day + cents + category id + vendor id, plus the id index. */
+    static final int BYTES_PER_ROW = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES
+            + IdIndex.BYTES_PER_ENTRY;
+
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private final int     maxRows;
+    private final IdIndex index;
+
+    private long[] ids         = new long[0];
+    private int[]  epochDays   = new int[0];
+    private long[] cents       = new long[0];
+    private int[]  categoryIds = new int[0];
+    private int[]  vendorIds   = new int[0];
+    private int    size;
+
+    private long[] categoryCents  = new long[0];
+    private long[] categoryCounts = new long[0];
+
+    private int minEpochDay = Integer.MAX_VALUE;
+    private int maxEpochDay = Integer.MIN_VALUE;
+
+    /** @param indexed keep an id → row index, for stores that remove rows by id */
+    ExpenseColumns(int maxRows, boolean indexed) {
+        this.maxRows = maxRows;
+        this.index   = indexed ? new IdIndex() : null;
+    }
+
+    /** Appends one row; false (and nothing changed) once {@code maxRows} rows are held. */
+    boolean add(long id, int epochDay, long amountCents, int categoryId, int vendorId) {
+        if (size == ids.length && !grow()) {
+            return false;
+        }
+        ids[size]         = id;
+        epochDays[size]   = epochDay;
+        cents[size]       = amountCents;
+        categoryIds[size] = categoryId;
+        vendorIds[size]   = vendorId;
+        if (index != null) index.put(id, size);
+        size++;
+        minEpochDay = Math.min(minEpochDay, epochDay);
+        maxEpochDay = Math.max(maxEpochDay, epochDay);
+        addToCategory(categoryId, amountCents, 1);
+        return true;
+    }
+
+    void removeAt(int row) {
+        addToCategory(categoryIds[row], Math.negateExact(cents[row]), -1);
+        int last = --size;
+        if (index != null) {
+            index.remove(ids[row]);
+            if (row != last) index.put(ids[last], row);
+        }
+        ids[row]         = ids[last];
+        epochDays[row]   = epochDays[last];
+        cents[row]       = cents[last];
+        categoryIds[row] = categoryIds[last];
+        vendorIds[row]   = vendorIds[last];
+    }
+
+    /** Row holding {@code id}, by index probe or else a scan of the id column; -1 if absent. */
+    int indexOf(long id) {
+        if (index != null) {
+            return index.get(id);
+        }
+        for (int row = size - 1; row >= 0; row--) {
+            if (ids[row] == id) return row;
+        }
+        return -1;
+    }
+
+    void setId(int row, long id) {
+        if (index != null) {
+            index.remove(ids[row]);
+            index.put(id, row);
+        }
+        ids[row] = id;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long id(int row)         { return ids[row]; }
+    int  epochDay(int row)   { return epochDays[row]; }
+    long cents(int row)      { return cents[row]; }
+    int  categoryId(int row) { return categoryIds[row]; }
+    int  vendorId(int row)   { return vendorIds[row]; }
+
+    /** Direct column access for scans; valid up to {@link #size()} until the next write. */
+    int[]  epochDayColumn()   { return epochDays; }
+    long[] centsColumn()      { return cents; }
+    int[]  categoryIdColumn() { return categoryIds; }
+    int[]  vendorIdColumn()   { return vendorIds; }
+
+    /** Lowest and highest epoch day ever added; removals do not shrink the range. */
+    int minEpochDay() { return minEpochDay; }
+    int maxEpochDay() { return maxEpochDay; }
+
+    long categoryCents(int categoryId) {
+        return categoryId < categoryCents.length ? categoryCents[categoryId] : 0;
+    }
+
+    long categoryCount(int categoryId) {
+        return categoryId < categoryCounts.length ? categoryCounts[categoryId] : 0;
+    }
+
+    // ── Private helpers
+
+    private boolean grow() {
+        if (ids.length >= maxRows) {
+            return false;
+        }
+        int capacity = (int) Math.min(maxRows, Math.max(INITIAL_CAPACITY, 2L * ids.length));
+        ids         = Arrays.copyOf(ids, capacity);
+        epochDays   = Arrays.copyOf(epochDays, capacity);
+        cents       = Arrays.copyOf(cents, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        vendorIds   = Arrays.copyOf(vendorIds, capacity);
+        return true;
+    }
+
+    private void addToCategory(int categoryId, long amountCents, long count) {
+        if (categoryId >= categoryCents.length) {
+            int capacity = Math.max(categoryId + 1, 2 * categoryCents.length);
+            categoryCents  = Arrays.copyOf(categoryCents, capacity);
+            categoryCounts = Arrays.copyOf(categoryCounts, capacity);
+        }
+        categoryCents[categoryId]  = Math.addExact(categoryCents[categoryId], amountCents);
+        categoryCounts[categoryId] += count;
+    }
+}
@@ -0,0 +1,92 @@
+package com.penny.expense.service.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from expense id to row number, on two primitive
+ * arrays: no boxing and no entry objects, so it costs about
+ * {@link #BYTES_PER_ENTRY} bytes per row instead of a HashMap's ~80.
+ *
+ * Linear probing at a load factor of at most 3/4; removal shifts the
+ * following run back instead of leaving tombstones, so lookups never slow
+ * down as rows come and go. Not thread-safe.
+ */
+final class IdIndex {
+
+    /** Two slots per entry, on average, at the load factor kept here. */
+    static final int BYTES_PER_ENTRY = 2 * (Long.BYTES + Integer.BYTES);
+
+    private static final long FREE             = Long.MIN_VALUE;
+    private static final int  INITIAL_CAPACITY = 1_024;
+
+    private long[] keys = freeKeys(INITIAL_CAPACITY);
+    private int[]  rows = new int[INITIAL_CAPACITY];
+    private int    size;
+
+    /** Row of {@code id}; -1 if absent. */
+    int get(long id) {
+        int mask = keys.length - 1;
+        for (int slot = slot(id, mask); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == id)   return rows[slot];
+            if (keys[slot] == FREE) return -1;
+        }
+    }
+
+    void put(long id, int row) {
+        if (4L * (size + 1) > 3L * keys.length) {
+            rehash(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = slot(id, mask);
+        while (keys[slot] != FREE && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == FREE) size++;
+        keys[slot] = id;
+        rows[slot] = row;
+    }
+
+    void remove(long id) {
+        int mask = keys.length - 1;
+        int hole = slot(id, mask);
+        while (keys[hole] != id) {
+            if (keys[hole] == FREE) return;
+            hole = (hole + 1) & mask;
+        }
+        size--;
+        // Pull back every later entry of the run that may live in the hole
+        for (int next = (hole + 1) & mask; keys[next] != FREE; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                rows[hole] = rows[next];
+                hole = next;
+            }
+        }
+        keys[hole] = FREE;
+    }
+
+    // ── Private helpers
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[]  oldRows = rows;
+        keys = freeKeys(capacity);
+        rows = new int[capacity];
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != FREE) put(oldKeys[slot], oldRows[slot]);
+        }
+    }
+
+    /** Fibonacci hashing: sequence-allocated ids spread over the whole table. */
+    private static int slot(long id, int mask) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static long[] freeKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        return keys;
+    }
+}
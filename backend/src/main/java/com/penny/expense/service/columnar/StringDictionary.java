@@ -0,0 +1,45 @@
+package com.penny.expense.service.columnar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only mapping between strings and dense int ids (0, 1, 2, ...).
+ *
+ * Ids are never reused or removed, so an id handed out once stays valid
+ * for every column that stores it. Lookups of known strings are lock-free.
+ */
+final class StringDictionary {
+
+    private final Map<String, Integer> ids   = new ConcurrentHashMap<>();
+    private final List<String>         names = new ArrayList<>();
+
+    int encode(String value) {
+        Integer id = ids.get(value);
+        return id != null ? id : register(value);
+    }
+
+    /** -1 if the string has never been encoded. */
+    int idOf(String value) {
+        Integer id = ids.get(value);
+        return id != null ? id : -1;
+    }
+
+    /** Every name, indexed by id; ids encoded before the call are all covered. */
+    synchronized String[] names() {
+        return names.toArray(String[]::new);
+    }
+
+    private synchronized int register(String value) {
+        Integer existing = ids.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        int id = names.size();
+        names.add(value);
+        ids.put(value, id);
+        return id;
+    }
+}
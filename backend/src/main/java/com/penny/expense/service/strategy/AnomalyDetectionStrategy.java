@@ -18,7 +18,8 @@ public interface AnomalyDetectionStrategy {
 
     /**
      * Re-evaluate and persist the anomaly flag for every expense in
-     * the given category. Called after every insert and delete.
+     * the given category. Called by AnomalyRecalculationQueue once
+     * inserts and deletes have committed, coalesced per category.
      *
      * @param category the category to rescan
      */
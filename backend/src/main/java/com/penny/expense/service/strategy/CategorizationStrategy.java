@@ -17,11 +17,14 @@ import java.util.Map;
  */
 public interface CategorizationStrategy {
 
+    /** Category assigned when no rule matches the vendor. */
+    String FALLBACK_CATEGORY = "Other";
+
     /**
      * Assign a spending category to the given vendor name.
      *
      * @param vendorName raw vendor string (may be null or blank)
-     * @return category string, never null; returns "Other" for unmatched input
+     * @return category string, never null; returns {@link #FALLBACK_CATEGORY} for unmatched input
      */
     String categorize(String vendorName);
 
@@ -0,0 +1,37 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Money;
+import com.penny.expense.repository.CategoryStatsRepository;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.columnar.ColumnarExpenseStore;
+
+/**
+ * {@link MeanMultiplierAnomalyStrategy} that takes the category mean from
+ * the in-memory {@link ColumnarExpenseStore} instead of category_stats.
+ *
+ * Same rule, same exact minor-unit threshold — only the source of the
+ * running sum and count differs, so {@link #wouldBeAnomaly} on the create
+ * path needs no database read. Flags are still persisted by the inherited
+ * range UPDATEs. While the store is unavailable (loading, or over its
+ * memory budget) thresholds come from category_stats as before.
+ */
+public class ColumnarAnomalyStrategy extends MeanMultiplierAnomalyStrategy {
+
+    private final ColumnarExpenseStore columnarStore;
+
+    public ColumnarAnomalyStrategy(ExpenseRepository expenseRepository,
+                                   CategoryStatsRepository categoryStatsRepository,
+                                   ColumnarExpenseStore columnarStore) {
+        super(expenseRepository, categoryStatsRepository);
+        this.columnarStore = columnarStore;
+    }
+
+    @Override
+    protected Money threshold(String category) {
+        ColumnarExpenseStore.CategoryTotals totals = columnarStore.categoryTotals(category);
+        if (totals == null) {
+            return super.threshold(category);
+        }
+        return threshold(Money.ofCents(totals.cents()), totals.count());
+    }
+}
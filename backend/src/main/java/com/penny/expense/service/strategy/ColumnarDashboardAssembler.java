@@ -0,0 +1,113 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.model.Money;
+import com.penny.expense.service.columnar.ColumnarExpenseStore;
+import com.penny.expense.service.columnar.ExpenseAggregates;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * {@link DashboardAssembler} backed by the in-memory {@link ColumnarExpenseStore}.
+ *
+ * Charts come from one parallel scan of the primitive columns
+ * ({@link ExpenseAggregates}); only the anomaly section is still read
+ * from the database, as a DTO projection. When the store is unavailable —
+ * still loading, or over its memory budget — or the request is scoped by
+ * date or category, the configured SQL or rollup assembler answers instead. The response is identical to
+ * {@link DefaultDashboardAssembler}'s.
+ */
+public class ColumnarDashboardAssembler implements DashboardAssembler {
+
+    private static final int TOP_VENDORS_LIMIT = 5;
+
+    private final ColumnarExpenseStore columnarStore;
+    private final DashboardScope       dashboardScope;
+    private final DashboardAssembler   fallback;
+
+    public ColumnarDashboardAssembler(ColumnarExpenseStore columnarStore,
+                                      DashboardScope dashboardScope,
+                                      DashboardAssembler fallback) {
+        this.columnarStore  = columnarStore;
+        this.dashboardScope = dashboardScope;
+        this.fallback       = fallback;
+    }
+
+    @Override
+    public DashboardResponse assemble(DashboardFilter filter) {
+        ExpenseAggregates aggregates = filter.isUnscoped() ? columnarStore.aggregate() : null;
+        if (aggregates == null) {
+            return fallback.assemble(filter);
+        }
+        DashboardResponse.DashboardResponseBuilder builder = DashboardResponse.builder()
+                .monthlyByCategory(buildMonthlyByCategory(aggregates))
+                .topVendors(buildTopVendors(aggregates))
+                .categoryTotals(buildCategoryTotals(aggregates));
+        return dashboardScope.withAnomalies(builder, filter).build();
+    }
+
+    /** Newest month first; within a month, categories by spend descending. */
+    private Map<String, Map<String, BigDecimal>> buildMonthlyByCategory(ExpenseAggregates aggregates) {
+        Map<String, Map<String, BigDecimal>> result = new LinkedHashMap<>();
+        for (int offset = aggregates.monthCount() - 1; offset >= 0; offset--) {
+            int month = offset;
+            List<Integer> categories = idsByCentsDesc(aggregates.categoryCount(),
+                    category -> aggregates.monthCategoryCents(month, category), Integer.MAX_VALUE);
+            if (categories.isEmpty()) {
+                continue;
+            }
+            int index = aggregates.firstMonth() + offset;
+            Map<String, BigDecimal> totals = new LinkedHashMap<>();
+            for (int category : categories) {
+                totals.put(aggregates.categoryName(category), toAmount(aggregates.monthCategoryCents(month, category)));
+            }
+            result.put(YearMonth.of(Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1).toString(), totals);
+        }
+        return result;
+    }
+
+    private List<DashboardResponse.CategoryStat> buildCategoryTotals(ExpenseAggregates aggregates) {
+        return idsByCentsDesc(aggregates.categoryCount(), aggregates::categoryCents, Integer.MAX_VALUE).stream()
+                .map(category -> DashboardResponse.CategoryStat.builder()
+                        .category(aggregates.categoryName(category))
+                        .total(toAmount(aggregates.categoryCents(category)))
+                        .count(aggregates.categoryExpenses(category))
+                        .build())
+                .toList();
+    }
+
+    private List<DashboardResponse.VendorStat> buildTopVendors(ExpenseAggregates aggregates) {
+        return idsByCentsDesc(aggregates.vendorCount(), aggregates::vendorCents, TOP_VENDORS_LIMIT).stream()
+                .map(vendor -> DashboardResponse.VendorStat.builder()
+                        .vendorName(aggregates.vendorName(vendor))
+                        .total(toAmount(aggregates.vendorCents(vendor)))
+                        .count(aggregates.vendorExpenses(vendor))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Ids with a positive sum, largest first, at most {@code limit}. Every
+     * amount is positive, so a zero sum means no expenses for that id.
+     */
+    private static List<Integer> idsByCentsDesc(int ids, IntToLongFunction cents, int limit) {
+        List<Integer> result = new ArrayList<>();
+        for (int id = 0; id < ids; id++) {
+            if (cents.applyAsLong(id) > 0) result.add(id);
+        }
+        result.sort(Comparator.comparingLong((Integer id) -> cents.applyAsLong(id)).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private static BigDecimal toAmount(long cents) {
+        return Money.ofCents(cents).toBigDecimal();
+    }
+}
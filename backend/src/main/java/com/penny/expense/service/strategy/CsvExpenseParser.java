@@ -2,21 +2,45 @@ package com.penny.expense.service.strategy;
 
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvException;
 import com.penny.expense.model.Expense;
-import lombok.RequiredArgsConstructor;
+import com.penny.expense.model.Money;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.zip.GZIPInputStream;
 
 /**
  * CSV implementation of {@link ExpenseFileParser}.
@@ -29,26 +53,93 @@ import java.util.Map;
  * concerns completely.
  *
  * OCP: A new parser (Excel, JSON bank export, OFX) simply implements
- * ExpenseFileParser — ExpenseService.uploadFile() needs zero changes.
+ * ExpenseFileParser — ImportJobService needs zero changes.
  *
  * Date parsing and column-alias resolution are private helpers scoped
  * to this class — they have no business being in a service class.
+ *
+ * Dates and amounts are decoded by {@link CsvFieldDecoder}, which scans
+ * characters instead of trying formatters in turn and reports a bad field
+ * as a return value. Neither an accepted nor a rejected row throws, so a
+ * file full of bad rows costs no more than a clean one.
+ *
+ * Files of at least {@code app.import.parallel.threshold-bytes} are
+ * spooled to a temp file and memory-mapped. {@link CsvRecordSplitter}
+ * cuts the mapping into runs of whole records, which are parsed and
+ * categorized concurrently on a dedicated fork-join pool. Results are
+ * handed to the sink strictly in file order, from the calling thread, and
+ * error messages carry the same row numbers as a sequential parse. Runs
+ * are at most {@value #MAX_SEGMENT_BYTES} bytes and at most two per thread
+ * are in flight, so memory stays bounded whatever the file size.
+ *
+ * A gzip-compressed file (a {@code .csv.gz} upload, or a body sent with
+ * {@code Content-Encoding: gzip}) is recognised by its magic number and
+ * inflated on the fly into the sequential parser, never decompressed to
+ * disk or memory first. Inflation stops at
+ * {@code app.import.gzip.max-inflated-bytes}, so a small upload cannot
+ * expand into an unbounded import.
+ *
+ * Every rejected row is counted, but only the first
+ * {@value #MAX_ERROR_MESSAGES} messages are kept, so a file of bad rows
+ * cannot grow the error list without bound. Rejections are reported to
+ * the caller as the parse goes: before each chunk is handed on, and
+ * whenever a chunk's worth of rejections has built up in between.
+ *
+ * Metrics: {@code penny.import.rows{outcome=accepted|rejected}} per file,
+ * and {@code penny.import.parse.throughput{mode=sequential|parallel}} in
+ * rows per second of parsing — time spent in the sink (inserts) is left
+ * out, so the figure is comparable between the synchronous and chunked
+ * import paths.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CsvExpenseParser implements ExpenseFileParser {
 
+    /** Smallest run of records worth a task of its own. */
+    private static final int MIN_SEGMENT_BYTES = 64 * 1024;
+
+    /**
+     * Largest run of records per task. With at most two runs per thread in
+     * flight, this bounds the parsed rows held at once whatever the file size.
+     */
+    private static final int MAX_SEGMENT_BYTES = 2 * 1024 * 1024;
+
+    /** Row error messages kept per file; the rest are only counted. */
+    private static final int MAX_ERROR_MESSAGES = 1_000;
+
+    /** Compressed bytes read ahead per inflate call. */
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
     private final CategorizationStrategy categorizationStrategy;
+    private final long                   parallelThresholdBytes;
+    private final long                   maxInflatedBytes;
+    private final int                    parallelism;
+    private final ForkJoinPool           pool;
+    private final DistributionSummary    rowsAccepted;
+    private final DistributionSummary    rowsRejected;
+    private final DistributionSummary    sequentialThroughput;
+    private final DistributionSummary    parallelThroughput;
 
-    // Supported date formats — most-specific first
-    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
-            DateTimeFormatter.ISO_LOCAL_DATE,           // 2026-01-15
-            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-            DateTimeFormatter.ofPattern("MM/dd/yyyy"),
-            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
-            DateTimeFormatter.ofPattern("d/M/yyyy")
-    );
+    public CsvExpenseParser(CategorizationStrategy categorizationStrategy,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.import.parallel.threshold-bytes:4194304}") long parallelThresholdBytes,
+                            @Value("${app.import.parallel.threads:0}") int threads,
+                            @Value("${app.import.gzip.max-inflated-bytes:2147483648}") long maxInflatedBytes) {
+        this.categorizationStrategy = categorizationStrategy;
+        this.parallelThresholdBytes = parallelThresholdBytes;
+        this.maxInflatedBytes       = maxInflatedBytes;
+        this.parallelism            = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.pool                   = new ForkJoinPool(parallelism, owner -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(owner);
+            thread.setName("csv-parse-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+
+        this.rowsAccepted         = rows("accepted", meterRegistry);
+        this.rowsRejected         = rows("rejected", meterRegistry);
+        this.sequentialThroughput = throughput("sequential", meterRegistry);
+        this.parallelThroughput   = throughput("parallel", meterRegistry);
+    }
 
     // Accepted column name aliases per logical field
     private static final String[] VENDOR_ALIASES = {"vendor_name", "vendor", "merchant"};
@@ -59,103 +150,263 @@ public class CsvExpenseParser implements ExpenseFileParser {
     @Override
     public ParseResult parse(MultipartFile file) {
         List<Expense> expenses = new ArrayList<>();
-        List<String>  errors   = new ArrayList<>();
+        ChunkedParseResult result = parse(file, Integer.MAX_VALUE, expenses::addAll);
+        return new ParseResult(expenses, result.errors());
+    }
 
-        try (CSVReader reader = new CSVReaderBuilder(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)).build()) {
+    @Override
+    public ChunkedParseResult parse(MultipartFile file, int chunkSize, Consumer<List<Expense>> sink,
+                                    IntConsumer rejected) {
+        RowErrors   errors   = new RowErrors(chunkSize, rejected);
+        ChunkBuffer buffer   = new ChunkBuffer(chunkSize, sink, errors);
+        boolean     parallel = false;
+        long        started  = System.nanoTime();
 
+        try {
+            boolean gzip = isGzip(file);
+            parallel = !gzip && file.getSize() >= parallelThresholdBytes && file.getSize() <= Integer.MAX_VALUE;
+            if (parallel) {
+                parseMapped(file, buffer, errors);
+            } else {
+                parseSequential(file, gzip, buffer, errors);
+            }
+        } catch (IOException | CsvException e) {
+            log.error("Fatal CSV parse error", e);
+            errors.fileError("File could not be read: " + e.getMessage());
+        }
+
+        // Rows parsed before a fatal read error are still kept, as before
+        buffer.flush();
+        errors.report();
+        record(buffer.accepted(), errors.count(), System.nanoTime() - started - buffer.sinkNanos(), parallel);
+        return new ChunkedParseResult(buffer.accepted(), errors.count(), errors.messages());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private void parseSequential(MultipartFile file, boolean gzip, ChunkBuffer buffer, RowErrors errors)
+            throws IOException, CsvException {
+        try (InputStream in     = file.getInputStream();
+             CSVReader   reader = reader(gzip ? inflate(in) : in)) {
             String[] headers = reader.readNext();
             if (headers == null) {
-                errors.add("CSV file is empty or has no headers");
-                return new ParseResult(expenses, errors);
+                errors.fileError("CSV file is empty or has no headers");
+                return;
             }
 
             Map<String, Integer> columnIndex = buildColumnIndex(headers);
-            processRows(reader, columnIndex, expenses, errors);
-
-        } catch (Exception e) {
-            log.error("Fatal CSV parse error", e);
-            errors.add("File could not be read: " + e.getMessage());
+            processRows(reader, columnIndex, 2, buffer::add, errors);
         }
-
-        return new ParseResult(expenses, errors);
     }
 
     private void processRows(CSVReader reader,
                              Map<String, Integer> columnIndex,
-                             List<Expense> expenses,
-                             List<String> errors) throws Exception {
+                             int firstRow,
+                             Consumer<Expense> accepted,
+                             Consumer<String> errors) throws IOException, CsvException {
         String[] row;
-        int rowNumber = 1;
+        int rowNumber = firstRow - 1;
         while ((row = reader.readNext()) != null) {
-            rowNumber++;
-            try {
-                expenses.add(parseRow(row, columnIndex));
-            } catch (IllegalArgumentException e) {
-                errors.add("Row " + rowNumber + ": " + e.getMessage());
+            Expense expense = parseRow(row, columnIndex, ++rowNumber, errors);
+            if (expense != null) {
+                accepted.accept(expense);
             }
         }
     }
 
-    private Expense parseRow(String[] row, Map<String, Integer> columnIndex) {
-        String vendorName = getColumn(row, columnIndex, VENDOR_ALIASES);
-        String amountStr  = getColumn(row, columnIndex, AMOUNT_ALIASES);
-        String dateStr    = getColumn(row, columnIndex, DATE_ALIASES);
+    // ── Parallel path for large files
+
+    private void parseMapped(MultipartFile file, ChunkBuffer buffer, RowErrors errors)
+            throws IOException, CsvException {
+        // An upload already on disk (an import job's spool) is mapped where it lies
+        Resource resource = file.getResource();
+        if (resource.isFile()) {
+            parseMapped(resource.getFile().toPath(), buffer, errors);
+            return;
+        }
+        Path spooled = Files.createTempFile("penny-import-", ".csv");
+        try {
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+            parseMapped(spooled, buffer, errors);
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private void parseMapped(Path path, ChunkBuffer buffer, RowErrors errors) throws IOException, CsvException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            parseSegments(data, buffer, errors);
+        }
+    }
+
+    private void parseSegments(ByteBuffer data, ChunkBuffer buffer, RowErrors errors)
+            throws IOException, CsvException {
+        int segmentBytes = Math.max(MIN_SEGMENT_BYTES, data.limit() / (parallelism * 4));
+        segmentBytes     = Math.min(segmentBytes, MAX_SEGMENT_BYTES);
+        CsvRecordSplitter.Split split = CsvRecordSplitter.split(data, segmentBytes);
+
+        String[] headers;
+        try (CSVReader reader = reader(data.slice(0, split.headerEnd()))) {
+            headers = reader.readNext();
+        }
+        if (headers == null) {
+            errors.fileError("CSV file is empty or has no headers");
+            return;
+        }
+        Map<String, Integer> columnIndex = buildColumnIndex(headers);
+
+        // A sliding window of parses, always drained from the oldest, keeps file order
+        Deque<ForkJoinTask<SegmentResult>>  inFlight = new ArrayDeque<>();
+        Iterator<CsvRecordSplitter.Segment> pending  = split.segments().iterator();
+        try {
+            while (pending.hasNext() || !inFlight.isEmpty()) {
+                while (pending.hasNext() && inFlight.size() < parallelism * 2) {
+                    CsvRecordSplitter.Segment segment = pending.next();
+                    ByteBuffer records = data.slice(segment.start(), segment.end() - segment.start());
+                    inFlight.add(pool.submit(() -> parseSegment(records, segment.firstRow(), columnIndex)));
+                }
+                SegmentResult result = inFlight.removeFirst().join();
+                result.expenses().forEach(buffer::add);
+                result.errors().forEach(errors);
+                if (result.failure() != null) {
+                    // Same as a sequential read: keep what came before, drop the rest
+                    log.error("Fatal CSV parse error", result.failure());
+                    errors.fileError("File could not be read: " + result.failure().getMessage());
+                    return;
+                }
+            }
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private SegmentResult parseSegment(ByteBuffer records, int firstRow, Map<String, Integer> columnIndex) {
+        List<Expense> expenses = new ArrayList<>();
+        List<String>  errors   = new ArrayList<>();
+        try (CSVReader reader = reader(records)) {
+            processRows(reader, columnIndex, firstRow, expenses::add, errors::add);
+            return new SegmentResult(expenses, errors, null);
+        } catch (IOException | CsvException e) {
+            return new SegmentResult(expenses, errors, e);
+        }
+    }
+
+    /** Parsed rows and row errors of one segment, plus the read error that cut it short, if any. */
+    private record SegmentResult(List<Expense> expenses, List<String> errors, Exception failure) {}
+
+    /** True if the file starts with the gzip magic number, whatever its name or declared type. */
+    private static boolean isGzip(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return in.read() == 0x1f && in.read() == 0x8b;
+        }
+    }
+
+    /** The decompressed stream, failing the read once it passes {@code app.import.gzip.max-inflated-bytes}. */
+    private InputStream inflate(InputStream compressed) throws IOException {
+        return new BoundedInputStream(new GZIPInputStream(compressed, GZIP_BUFFER_BYTES), maxInflatedBytes);
+    }
+
+    private static CSVReader reader(InputStream in) {
+        return new CSVReaderBuilder(new InputStreamReader(in, StandardCharsets.UTF_8)).build();
+    }
+
+    private static CSVReader reader(ByteBuffer bytes) {
+        return reader(new ByteBufferInputStream(bytes));
+    }
+
+    // ── Metrics
+
+    private void record(int accepted, int rejected, long parseNanos, boolean parallel) {
+        rowsAccepted.record(accepted);
+        rowsRejected.record(rejected);
+        int rows = accepted + rejected;
+        if (rows > 0 && parseNanos > 0) {
+            (parallel ? parallelThroughput : sequentialThroughput).record(rows * 1e9 / parseNanos);
+        }
+    }
+
+    private static DistributionSummary rows(String outcome, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("penny.import.rows")
+                .description("Rows per uploaded file")
+                .baseUnit("rows")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary throughput(String mode, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("penny.import.parse.throughput")
+                .description("Rows parsed per second of parse time, per uploaded file")
+                .baseUnit("rows/s")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // Row-level steps are package-private so penny-benchmarks can time them one by one
+
+    /** The row as an expense, or null after adding its error — vendor, then amount, then date. */
+    Expense parseRow(String[] row, Map<String, Integer> columnIndex, int rowNumber, Consumer<String> errors) {
+        String vendorName  = getColumn(row, columnIndex, VENDOR_ALIASES);
+        String amountStr   = getColumn(row, columnIndex, AMOUNT_ALIASES);
+        String dateStr     = getColumn(row, columnIndex, DATE_ALIASES);
         String description = getColumn(row, columnIndex, DESC_ALIASES);
 
-        validateVendor(vendorName);
-        BigDecimal amount = parseAmount(amountStr);
-        LocalDate  date   = parseDate(dateStr);
-        String     category = categorizationStrategy.categorize(vendorName);
+        if (vendorName.isBlank()) {
+            return reject(errors, rowNumber, "vendor_name is required");
+        }
+        long cents = parseAmount(amountStr);
+        if (cents < 0) {
+            return reject(errors, rowNumber, amountError(cents, amountStr));
+        }
+        LocalDate date = parseDate(dateStr);
+        if (date == null) {
+            return reject(errors, rowNumber, "unrecognised date format: '" + dateStr.trim() + "'");
+        }
+        String category = categorizationStrategy.categorize(vendorName);
 
         return Expense.builder()
                 .date(date)
-                .amount(amount)
+                // Normalised to the column's two decimals, so rollups add exactly what is stored
+                .amount(BigDecimal.valueOf(cents, Money.SCALE))
                 .vendorName(vendorName.trim())
                 .description(description.trim())
                 .category(category)
                 .build();
     }
 
-    private void validateVendor(String vendorName) {
-        if (vendorName == null || vendorName.isBlank()) {
-            throw new IllegalArgumentException("vendor_name is required");
-        }
+    /** Whole cents, or a negative {@code CsvFieldDecoder.AMOUNT_*} code. */
+    long parseAmount(String raw) {
+        return CsvFieldDecoder.decodeAmount(raw);
     }
 
-    private BigDecimal parseAmount(String raw) {
+    /** Today for a blank field, the date if a supported format fits, otherwise null. */
+    LocalDate parseDate(String raw) {
         if (raw == null || raw.isBlank()) {
-            throw new IllegalArgumentException("amount is required");
-        }
-        try {
-            BigDecimal amount = new BigDecimal(
-                    raw.replace(",", "").replace("₹", "").replace("$", "").trim()
-            );
-            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-                throw new IllegalArgumentException("amount must be greater than 0");
-            }
-            return amount;
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("invalid amount value: '" + raw + "'");
+            return LocalDate.now();
         }
+        return CsvFieldDecoder.decodeDate(raw.trim());
     }
 
-    private LocalDate parseDate(String raw) {
-        if (raw == null || raw.isBlank()) {
-            return LocalDate.now();
-        }
-        String trimmed = raw.trim();
-        for (DateTimeFormatter formatter : DATE_FORMATS) {
-            try {
-                return LocalDate.parse(trimmed, formatter);
-            } catch (Exception ignored) {
-                // try next format
-            }
-        }
-        throw new IllegalArgumentException("unrecognised date format: '" + trimmed + "'");
+    private static String amountError(long code, String raw) {
+        if (code == CsvFieldDecoder.AMOUNT_REQUIRED)     return "amount is required";
+        if (code == CsvFieldDecoder.AMOUNT_NOT_POSITIVE) return "amount must be greater than 0";
+        if (code == CsvFieldDecoder.AMOUNT_TOO_LARGE)    return "amount exceeds " + Money.MAX_EXPENSE_AMOUNT;
+        return "invalid amount value: '" + raw + "'";
     }
 
-    private Map<String, Integer> buildColumnIndex(String[] headers) {
+    private static Expense reject(Consumer<String> errors, int rowNumber, String message) {
+        errors.accept("Row " + rowNumber + ": " + message);
+        return null;
+    }
+
+    Map<String, Integer> buildColumnIndex(String[] headers) {
         Map<String, Integer> index = new HashMap<>();
         for (int i = 0; i < headers.length; i++) {
             index.put(headers[i].trim().toLowerCase().replace(" ", "_"), i);
@@ -172,4 +423,167 @@ public class CsvExpenseParser implements ExpenseFileParser {
         }
         return "";
     }
+
+    /** Reads a buffer from its position to its limit without copying it first. */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer bytes;
+
+        ByteBufferInputStream(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return bytes.hasRemaining() ? bytes.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) return 0;
+            if (!bytes.hasRemaining()) return -1;
+            int count = Math.min(length, bytes.remaining());
+            bytes.get(target, offset, count);
+            return count;
+        }
+    }
+
+    /** Passes bytes through until {@code limit} have been read, then fails the read. */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long       read;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            int n = super.read(target, offset, length);
+            if (n > 0) count(n);
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > limit) {
+                throw new IOException("decompressed upload exceeds " + limit + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Collects parsed expenses and hands them to the sink whenever a full
+     * chunk has accumulated. A fresh list is started after every hand-off
+     * so the sink may keep or discard the one it was given. Rejections
+     * seen so far are reported first.
+     */
+    private static final class ChunkBuffer {
+
+        private final int                     chunkSize;
+        private final Consumer<List<Expense>> sink;
+        private final RowErrors               errors;
+        private List<Expense>                 chunk;
+        private int                           accepted;
+        private long                          sinkNanos;
+
+        ChunkBuffer(int chunkSize, Consumer<List<Expense>> sink, RowErrors errors) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("chunkSize must be at least 1");
+            }
+            this.chunkSize = chunkSize;
+            this.sink      = sink;
+            this.errors    = errors;
+            this.chunk     = newChunk();
+        }
+
+        void add(Expense expense) {
+            chunk.add(expense);
+            if (chunk.size() >= chunkSize) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            errors.report();
+            accepted += chunk.size();
+            long started = System.nanoTime();
+            sink.accept(chunk);
+            sinkNanos += System.nanoTime() - started;
+            chunk = newChunk();
+        }
+
+        int accepted() {
+            return accepted;
+        }
+
+        /** Time spent handing chunks to the sink, which is not parsing. */
+        long sinkNanos() {
+            return sinkNanos;
+        }
+
+        private List<Expense> newChunk() {
+            return new ArrayList<>(Math.min(chunkSize, 1024));
+        }
+    }
+
+    /**
+     * Row errors of one parse, added from the calling thread. Every error
+     * is counted; past {@value #MAX_ERROR_MESSAGES} row messages only the
+     * count grows. New rejections are reported in batches of at most
+     * {@code reportEvery}, and whenever a chunk is handed on.
+     */
+    private static final class RowErrors implements Consumer<String> {
+
+        private final List<String> messages = new ArrayList<>();
+        private final int          reportEvery;
+        private final IntConsumer  listener;
+        private int                dropped;
+        private int                reported;
+
+        RowErrors(int reportEvery, IntConsumer listener) {
+            this.reportEvery = reportEvery;
+            this.listener    = listener;
+        }
+
+        /** A rejected row. */
+        @Override
+        public void accept(String message) {
+            if (messages.size() < MAX_ERROR_MESSAGES) messages.add(message);
+            else dropped++;
+            if (count() - reported >= reportEvery) report();
+        }
+
+        /** An error about the file as a whole; always kept. */
+        void fileError(String message) {
+            messages.add(message);
+        }
+
+        void report() {
+            int unreported = count() - reported;
+            if (unreported > 0) {
+                reported += unreported;
+                listener.accept(unreported);
+            }
+        }
+
+        int count() {
+            return messages.size() + dropped;
+        }
+
+        List<String> messages() {
+            if (dropped == 0) return messages;
+            List<String> listed = new ArrayList<>(messages);
+            listed.add("... and " + dropped + " more row errors not listed");
+            return listed;
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.ExpenseResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV export. The header matches the upload format's column
+ * names, so an export can be uploaded again as-is.
+ */
+@Component
+public class CsvExportFormat implements ExpenseExportFormat {
+
+    private static final String HEADER = "id,date,amount,vendor_name,description,category,is_anomaly";
+
+    @Override
+    public String name() {
+        return "csv";
+    }
+
+    @Override
+    public MediaType mediaType() {
+        return new MediaType("text", "csv", StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String fileExtension() {
+        return "csv";
+    }
+
+    @Override
+    public RowWriter open(OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        return new RowWriter() {
+            @Override
+            public void write(ExpenseResponse expense) throws IOException {
+                writer.write(String.valueOf(expense.getId()));
+                writer.write(',');
+                writer.write(expense.getDate().toString());
+                writer.write(',');
+                writer.write(expense.getAmount().toPlainString());
+                writer.write(',');
+                writeField(writer, expense.getVendorName());
+                writer.write(',');
+                writeField(writer, expense.getDescription());
+                writer.write(',');
+                writeField(writer, expense.getCategory());
+                writer.write(',');
+                writer.write(expense.isAnomaly() ? "true" : "false");
+                writer.write('\n');
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    /** Quotes only when the value contains a delimiter, quote or line break. */
+    private static void writeField(BufferedWriter writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
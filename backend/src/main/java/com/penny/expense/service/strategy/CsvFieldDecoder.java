@@ -0,0 +1,340 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Decodes CSV date and amount fields by scanning characters, without
+ * formatters, intermediate strings or exceptions. Rejections are return
+ * values, so a bad row costs no stack trace.
+ *
+ * Results are identical to the rules the parser has always applied, which
+ * the scanners reproduce exactly:
+ *
+ * Dates try, in order, {@code yyyy-MM-dd} (ISO, strict), then
+ * {@code dd/MM/yyyy}, {@code MM/dd/yyyy}, {@code dd-MM-yyyy} and
+ * {@code d/M/yyyy} (java.time "smart" resolution: a day past the end of
+ * its month becomes the month's last day), and the first that fits wins.
+ * The precedence is per row, not per file: a file may mix
+ * {@code 05/03/2024} (5 March) with {@code 05/13/2024} (13 May).
+ *
+ * Amounts ignore every {@code ,}, {@code ₹} and {@code $}, trim, then read
+ * the rest as a {@link BigDecimal} literal (optional sign, any Unicode
+ * decimal digits, optional fraction and exponent), rounded half-up to the
+ * cent. Exponents beyond eight digits are handed to {@link BigDecimal}
+ * itself.
+ */
+final class CsvFieldDecoder {
+
+    /** Amount codes; every accepted amount is at least one cent. */
+    static final long AMOUNT_REQUIRED     = -1;
+    static final long AMOUNT_INVALID      = -2;
+    static final long AMOUNT_NOT_POSITIVE = -3;
+    static final long AMOUNT_TOO_LARGE    = -4;
+
+    private static final int  MAX_YEAR            = Year.MAX_VALUE;
+    private static final int  MAX_EXPONENT_DIGITS = 8;
+    private static final long MAX_CENTS           = Money.MAX_EXPENSE_AMOUNT.cents();
+
+    private CsvFieldDecoder() {}
+
+    // ── Dates
+
+    /** The date in {@code s} (already trimmed, not blank), or null if no accepted format fits. */
+    static LocalDate decodeDate(String s) {
+        LocalDate date = iso(s);
+        if (date == null) date = twoDigitFields(s, '/', false);
+        if (date == null) date = twoDigitFields(s, '/', true);
+        if (date == null) date = twoDigitFields(s, '-', false);
+        if (date == null) date = variableWidthSlashes(s);
+        return date;
+    }
+
+    /** {@code [sign]yyyy-MM-dd}; year 4–10 digits, strict resolution. */
+    private static LocalDate iso(String s) {
+        int     n        = s.length();
+        int     i        = 0;
+        boolean negative = false;
+        boolean signed   = false;
+        if (n > 0 && (s.charAt(0) == '+' || s.charAt(0) == '-')) {
+            negative = s.charAt(0) == '-';
+            signed   = true;
+            i++;
+        }
+        int  digitsFrom = i;
+        long year       = 0;
+        while (i < n && i - digitsFrom < 10 && isAsciiDigit(s.charAt(i))) {
+            year = year * 10 + (s.charAt(i++) - '0');
+        }
+        int width = i - digitsFrom;
+        if (width < 4 || (!signed && width > 4) || (signed && !negative && width <= 4) || (negative && year == 0)) {
+            return null;
+        }
+        if (negative) year = -year;
+        if (n - i != 6 || s.charAt(i) != '-' || s.charAt(i + 3) != '-') {
+            return null;
+        }
+        int month = twoDigits(s, i + 1);
+        int day   = twoDigits(s, i + 4);
+        if (Math.abs(year) > MAX_YEAR || month < 1 || month > 12 || day < 1
+                || day > lengthOfMonth((int) year, month)) {
+            return null;
+        }
+        return LocalDate.of((int) year, month, day);
+    }
+
+    /** {@code dd?MM?yyyy}, or {@code MM?dd?yyyy} when {@code monthFirst}. */
+    private static LocalDate twoDigitFields(String s, char separator, boolean monthFirst) {
+        if (s.length() < 10 || s.charAt(2) != separator || s.charAt(5) != separator) {
+            return null;
+        }
+        int first  = twoDigits(s, 0);
+        int second = twoDigits(s, 3);
+        int year   = yearOfEra(s, 6);
+        if (first < 0 || second < 0 || year < 0) {
+            return null;
+        }
+        return smart(year, monthFirst ? first : second, monthFirst ? second : first);
+    }
+
+    /** {@code d/M/yyyy}: day and month of one or more digits. */
+    private static LocalDate variableWidthSlashes(String s) {
+        int n        = s.length();
+        int dayEnd   = digitRun(s, 0, n);
+        int monthEnd = dayEnd < n && s.charAt(dayEnd) == '/' ? digitRun(s, dayEnd + 1, n) : -1;
+        if (dayEnd == 0 || monthEnd <= dayEnd + 1 || monthEnd >= n || s.charAt(monthEnd) != '/'
+                || dayEnd > 19 || monthEnd - dayEnd - 1 > 19) {
+            return null;
+        }
+        int year = yearOfEra(s, monthEnd + 1);
+        if (year < 0) {
+            return null;
+        }
+        return smart(year, boundedValue(s, dayEnd + 1, monthEnd), boundedValue(s, 0, dayEnd));
+    }
+
+    /**
+     * {@code yyyy} from {@code from} to the end: exactly four digits, or a
+     * {@code +} and more than four; 1 to {@link Year#MAX_VALUE}. -1 otherwise.
+     */
+    private static int yearOfEra(String s, int from) {
+        int     n      = s.length();
+        boolean plus   = from < n && s.charAt(from) == '+';
+        int     digits = plus ? from + 1 : from;
+        int     end    = digitRun(s, digits, n);
+        int     width  = end - digits;
+        if (end != n || (plus ? width <= 4 || width > 19 : width != 4)) {
+            return -1;
+        }
+        long year = boundedValue(s, digits, end);
+        return year >= 1 && year <= MAX_YEAR ? (int) year : -1;
+    }
+
+    /** Smart resolution: month and day must be in range; a day past the month's end becomes its last day. */
+    private static LocalDate smart(int year, long month, long day) {
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        return LocalDate.of(year, (int) month, (int) Math.min(day, lengthOfMonth(year, (int) month)));
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /** Two ASCII digits at {@code at}, or -1. */
+    private static int twoDigits(String s, int at) {
+        if (at + 1 >= s.length() || !isAsciiDigit(s.charAt(at)) || !isAsciiDigit(s.charAt(at + 1))) {
+            return -1;
+        }
+        return (s.charAt(at) - '0') * 10 + (s.charAt(at + 1) - '0');
+    }
+
+    /** End of the run of ASCII digits starting at {@code from}. */
+    private static int digitRun(String s, int from, int to) {
+        int i = from;
+        while (i < to && isAsciiDigit(s.charAt(i))) i++;
+        return i;
+    }
+
+    /** Value of the ASCII digits in {@code [from, to)}, saturating at a billion — far past any valid field. */
+    private static long boundedValue(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to && value <= 1_000_000_000L; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // ── Amounts
+
+    /**
+     * The amount in whole cents (at least 1), or one of the {@code AMOUNT_*}
+     * codes: required (blank), invalid (not a number, or too large to
+     * represent), not positive, or above {@link Money#MAX_EXPENSE_AMOUNT}.
+     */
+    static long decodeAmount(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return AMOUNT_REQUIRED;
+        }
+        int start = 0;
+        int end   = raw.length();
+        while (start < end && (ignored(raw.charAt(start)) || raw.charAt(start) <= ' ')) start++;
+        while (end > start && (ignored(raw.charAt(end - 1)) || raw.charAt(end - 1) <= ' ')) end--;
+        if (start == end) {
+            return AMOUNT_INVALID;
+        }
+
+        // Pass 1: validate the literal and locate its significant digits
+        int     i        = start;
+        boolean negative = false;
+        char    c        = raw.charAt(i);
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            i = next(raw, i + 1, end);
+        }
+        int digits       = 0;    // mantissa digits, leading zeros included
+        int intDigits    = -1;   // mantissa digits before the point, once one is seen
+        int firstNonZero = -1;   // index among mantissa digits
+        int mantissaEnd  = end;
+        for (; i < end; i = next(raw, i + 1, end)) {
+            c = raw.charAt(i);
+            int digit = digit(c);
+            if (digit >= 0) {
+                if (digit != 0 && firstNonZero < 0) firstNonZero = digits;
+                digits++;
+            } else if (c == '.' && intDigits < 0) {
+                intDigits = digits;
+            } else if ((c == 'e' || c == 'E') && digits > 0) {
+                mantissaEnd = i;
+                break;
+            } else {
+                return AMOUNT_INVALID;
+            }
+        }
+        if (digits == 0) {
+            return AMOUNT_INVALID;
+        }
+        if (intDigits < 0) intDigits = digits;
+
+        long exponent = 0;
+        if (mantissaEnd < end) {
+            i = next(raw, mantissaEnd + 1, end);
+            boolean negativeExponent = false;
+            if (i < end && (raw.charAt(i) == '+' || raw.charAt(i) == '-')) {
+                negativeExponent = raw.charAt(i) == '-';
+                i = next(raw, i + 1, end);
+            }
+            if (i >= end) {
+                return AMOUNT_INVALID;
+            }
+            int significant = 0;
+            for (; i < end; i = next(raw, i + 1, end)) {
+                int digit = digit(raw.charAt(i));
+                if (digit < 0) {
+                    return AMOUNT_INVALID;
+                }
+                if (digit != 0 || significant > 0) significant++;
+                if (significant > MAX_EXPONENT_DIGITS) {
+                    return viaBigDecimal(raw);
+                }
+                exponent = exponent * 10 + digit;
+            }
+            if (negativeExponent) exponent = -exponent;
+        }
+        if (firstNonZero < 0) {
+            return AMOUNT_NOT_POSITIVE;
+        }
+
+        // Digits of the whole-cent part: the value is 0.d1d2… × 10^(intDigits - firstNonZero + exponent)
+        long centDigits = intDigits - firstNonZero + exponent + Money.SCALE;
+        if (centDigits > 19) {
+            return AMOUNT_INVALID;
+        }
+
+        // Pass 2: the whole-cent magnitude (unsigned: under 10^19 < 2^64) and the first dropped digit
+        long magnitude  = 0;
+        int  roundDigit = 0;
+        int  taken      = 0;
+        int  seen       = 0;
+        for (i = next(raw, start, mantissaEnd); i < mantissaEnd && taken <= centDigits; i = next(raw, i + 1, mantissaEnd)) {
+            int digit = digit(raw.charAt(i));
+            if (digit < 0 || seen++ < firstNonZero) {
+                continue;
+            }
+            if (taken < centDigits) {
+                magnitude = magnitude * 10 + digit;
+            } else {
+                roundDigit = digit;
+            }
+            taken++;
+        }
+        for (; taken < centDigits; taken++) {
+            magnitude *= 10;
+        }
+        if (roundDigit >= 5) {
+            magnitude++;
+        }
+
+        // Long.MIN_VALUE cents still fits; anything wider does not
+        long limit = negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+        if (Long.compareUnsigned(magnitude, limit) > 0) {
+            return AMOUNT_INVALID;
+        }
+        if (negative || magnitude == 0) {
+            return AMOUNT_NOT_POSITIVE;
+        }
+        return magnitude > MAX_CENTS ? AMOUNT_TOO_LARGE : magnitude;
+    }
+
+    /** Index of the next character at or after {@code i} that is not ignored. */
+    private static int next(String raw, int i, int end) {
+        while (i < end && ignored(raw.charAt(i))) i++;
+        return i;
+    }
+
+    private static boolean ignored(char c) {
+        return c == ',' || c == '₹' || c == '$';
+    }
+
+    /** A decimal digit's value as {@link BigDecimal} reads it, or -1. */
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        return Character.isDigit(c) ? Character.digit(c, 10) : -1;
+    }
+
+    /**
+     * Exponents too wide to scan cheaply: same rules, through BigDecimal
+     * itself. Values far outside the cent range are classified from their
+     * magnitude, so a literal like {@code 1e123456789} is never expanded.
+     */
+    private static long viaBigDecimal(String raw) {
+        try {
+            BigDecimal value      = new BigDecimal(raw.replace(",", "").replace("₹", "").replace("$", "").trim());
+            long       centDigits = (long) value.precision() - value.scale() + Money.SCALE;
+            if (value.signum() == 0 || centDigits < 0) {
+                return AMOUNT_NOT_POSITIVE;
+            }
+            if (centDigits > 19) {
+                return AMOUNT_INVALID;
+            }
+            long cents = value.setScale(Money.SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            if (cents <= 0) return AMOUNT_NOT_POSITIVE;
+            return cents > MAX_CENTS ? AMOUNT_TOO_LARGE : cents;
+        } catch (NumberFormatException | ArithmeticException e) {
+            return AMOUNT_INVALID;
+        }
+    }
+}
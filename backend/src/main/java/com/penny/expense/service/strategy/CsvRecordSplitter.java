@@ -0,0 +1,69 @@
+package com.penny.expense.service.strategy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits CSV bytes into contiguous runs of whole records, so each run can
+ * be parsed independently and on its own thread.
+ *
+ * A newline ends a record only outside quotes. Quote state follows the
+ * same rules as OpenCSV's default parser: a quote toggles it, and inside
+ * quotes a backslash escapes a following quote or backslash (a doubled
+ * quote toggles twice, so it needs no special case). The scan works on raw
+ * bytes — UTF-8 never uses {@code "}, {@code \} or {@code \n} inside a
+ * multi-byte character — and runs once, front to back, with no decoding.
+ *
+ * Row numbers follow the sequential reader's: the header is row 1 and each
+ * record, however many lines it spans, is one row.
+ */
+final class CsvRecordSplitter {
+
+    /** Bytes {@code [start, end)} holding whole records; the first is file row {@code firstRow}. */
+    record Segment(int start, int end, int firstRow) {}
+
+    /** Where the header record ends, and the data records after it in file order. */
+    record Split(int headerEnd, List<Segment> segments) {}
+
+    private CsvRecordSplitter() {}
+
+    /**
+     * Split {@code data} (position 0 to limit) after the header, closing a
+     * segment at the first record boundary once it holds at least
+     * {@code targetBytes}.
+     */
+    static Split split(ByteBuffer data, int targetBytes) {
+        int           limit        = data.limit();
+        List<Segment> segments     = new ArrayList<>();
+        boolean       quoted       = false;
+        int           headerEnd    = -1;
+        int           row          = 1;
+        int           segmentStart = limit;
+        int           segmentRow   = 2;
+
+        for (int i = 0; i < limit; i++) {
+            byte b = data.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\\' && quoted && i + 1 < limit && (data.get(i + 1) == '"' || data.get(i + 1) == '\\')) {
+                i++;
+            } else if (b == '\n' && !quoted) {
+                row++;
+                if (headerEnd < 0) {
+                    headerEnd    = i + 1;
+                    segmentStart = headerEnd;
+                    segmentRow   = row;
+                } else if (i + 1 - segmentStart >= targetBytes) {
+                    segments.add(new Segment(segmentStart, i + 1, segmentRow));
+                    segmentStart = i + 1;
+                    segmentRow   = row;
+                }
+            }
+        }
+        if (segmentStart < limit) {
+            segments.add(new Segment(segmentStart, limit, segmentRow));
+        }
+        return new Split(headerEnd < 0 ? limit : headerEnd, segments);
+    }
+}
@@ -1,5 +1,6 @@
 package com.penny.expense.service.strategy;
 
+import com.penny.expense.dto.DashboardFilter;
 import com.penny.expense.dto.DashboardResponse;
 
 /**
@@ -17,9 +18,15 @@ import com.penny.expense.dto.DashboardResponse;
 public interface DashboardAssembler {
 
     /**
-     * Build and return the complete dashboard response.
+     * Build the dashboard for the expenses within {@code filter}.
      *
+     * @param filter date range and category to cover; unset fields do not narrow
      * @return fully assembled dashboard payload
      */
-    DashboardResponse assemble();
+    DashboardResponse assemble(DashboardFilter filter);
+
+    /** The dashboard over all of history. */
+    default DashboardResponse assemble() {
+        return assemble(new DashboardFilter());
+    }
 }
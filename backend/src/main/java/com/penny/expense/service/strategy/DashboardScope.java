@@ -0,0 +1,89 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.dto.ExpenseFilter;
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.repository.ExpenseSpecifications;
+import com.penny.expense.service.DictionaryCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * What every {@link DashboardAssembler} shares: the predicates for a
+ * {@link DashboardFilter}, and the bounded anomaly section.
+ *
+ * The filter reuses the list endpoint's predicates, so a date range is a
+ * range scan on idx_expense_date_id and a category an equality on
+ * category_id. The anomaly section embeds only the
+ * {@code app.dashboard.anomaly-limit} largest anomalies in scope, with the
+ * total count and a link to GET /api/expenses that pages through all of them.
+ * That list is keyset-paged by (date, id), so it runs newest first rather
+ * than largest first, and includes the embedded ones; a client merging the
+ * two should key rows by id.
+ */
+@Component
+public class DashboardScope {
+
+    private static final String EXPENSES_PATH = "/api/expenses";
+
+    private final ExpenseRepository expenseRepository;
+    private final DictionaryCache   dictionaryCache;
+    private final int               anomalyLimit;
+
+    public DashboardScope(ExpenseRepository expenseRepository,
+                          DictionaryCache dictionaryCache,
+                          @Value("${app.dashboard.anomaly-limit:10}") int anomalyLimit) {
+        if (anomalyLimit < 0) {
+            throw new IllegalArgumentException("app.dashboard.anomaly-limit must not be negative");
+        }
+        this.expenseRepository = expenseRepository;
+        this.dictionaryCache   = dictionaryCache;
+        this.anomalyLimit      = anomalyLimit;
+    }
+
+    /** Predicates narrowing expenses to the filter; matches everything when unscoped. */
+    public Specification<Expense> of(DashboardFilter filter) {
+        return ExpenseSpecifications.matching(filter.toExpenseFilter(), dictionaryCache::findCategoryId);
+    }
+
+    /** Adds the anomaly section for {@code filter} to a response under construction. */
+    public DashboardResponse.DashboardResponseBuilder withAnomalies(DashboardResponse.DashboardResponseBuilder builder,
+                                                                    DashboardFilter filter) {
+        ExpenseFilter anomalous = filter.toExpenseFilter();
+        anomalous.setAnomaly(true);
+        Specification<Expense> spec = ExpenseSpecifications.matching(anomalous, dictionaryCache::findCategoryId);
+
+        List<ExpenseResponse> largest = anomalyLimit == 0
+                ? List.of()
+                : expenseRepository.findLargestResponses(spec, anomalyLimit);
+        // A short page is the whole set; only a full one needs the COUNT
+        long count = largest.size() < anomalyLimit ? largest.size() : expenseRepository.count(spec);
+
+        return builder
+                .anomalies(largest)
+                .anomalyCount(count)
+                .moreAnomalies(count > largest.size() ? listLink(filter) : null);
+    }
+
+    // ── Private helpers
+
+    private static String listLink(DashboardFilter filter) {
+        String category = filter.getCategory();
+        return UriComponentsBuilder.fromPath(EXPENSES_PATH)
+                .queryParam("anomaly", true)
+                .queryParamIfPresent("category", Optional.ofNullable(category).filter(c -> !c.isBlank()))
+                .queryParamIfPresent("from", Optional.ofNullable(filter.getFrom()))
+                .queryParamIfPresent("to", Optional.ofNullable(filter.getTo()))
+                .encode()
+                .build()
+                .toUriString();
+    }
+}
@@ -1,20 +1,34 @@
 package com.penny.expense.service.strategy;
 
+import com.penny.expense.dto.DashboardFilter;
 import com.penny.expense.dto.DashboardResponse;
-import com.penny.expense.dto.ExpenseResponse;
-import com.penny.expense.mapper.ExpenseMapper;
 import com.penny.expense.model.Expense;
 import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.repository.projection.CategoryTotal;
+import com.penny.expense.repository.projection.MonthlyCategoryTotal;
+import com.penny.expense.repository.projection.VendorTotal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * SQL-aggregating implementation of {@link DashboardAssembler}.
+ *
+ * Monthly, category and vendor totals are computed by GROUP BY queries
+ * returning lightweight projections, so only O(months × categories) rows
+ * leave the database — no expense entity is loaded for the charts.
+ *
+ * A scoped request runs the same aggregates with the filter's predicates
+ * in the WHERE clause, so a one-month view reads only that month's rows.
+ */
 @Component
 @RequiredArgsConstructor
 public class DefaultDashboardAssembler implements DashboardAssembler {
@@ -22,72 +36,66 @@ public class DefaultDashboardAssembler implements DashboardAssembler {
     private static final int TOP_VENDORS_LIMIT = 5;
 
     private final ExpenseRepository expenseRepository;
-    private final ExpenseMapper     expenseMapper;
+    private final DashboardScope    dashboardScope;
 
     @Override
     @Transactional(readOnly = true)
-    public DashboardResponse assemble() {
-        List<Expense> all = expenseRepository.findAll(
-                Sort.by(Sort.Direction.DESC, "date"));
+    public DashboardResponse assemble(DashboardFilter filter) {
+        DashboardResponse.DashboardResponseBuilder builder = filter.isUnscoped()
+                ? allTime()
+                : scoped(dashboardScope.of(filter));
+        return dashboardScope.withAnomalies(builder, filter).build();
+    }
 
-        List<ExpenseResponse> anomalies =
-                expenseRepository.findByIsAnomalyTrueOrderByAmountDesc()
-                        .stream()
-                        .map(expenseMapper::toResponse)
-                        .toList();
+    private DashboardResponse.DashboardResponseBuilder allTime() {
+        return DashboardResponse.builder()
+                .monthlyByCategory(buildMonthlyByCategory(expenseRepository.sumByMonthAndCategory()))
+                .topVendors(buildTopVendors(expenseRepository.sumByVendor(PageRequest.of(0, TOP_VENDORS_LIMIT))))
+                .categoryTotals(buildCategoryTotals(expenseRepository.sumByCategory()));
+    }
 
+    private DashboardResponse.DashboardResponseBuilder scoped(Specification<Expense> scope) {
         return DashboardResponse.builder()
-                .monthlyByCategory(buildMonthlyByCategory(all))
-                .topVendors(buildTopVendors(all))
-                .categoryTotals(buildCategoryTotals(all))
-                .anomalies(anomalies)
-                .anomalyCount(anomalies.size())
-                .build();
+                .monthlyByCategory(buildMonthlyByCategory(expenseRepository.sumByMonthAndCategory(scope)))
+                .topVendors(buildTopVendors(expenseRepository.sumByVendor(scope, TOP_VENDORS_LIMIT)))
+                .categoryTotals(buildCategoryTotals(expenseRepository.sumByCategory(scope)));
     }
 
-    private Map<String, Map<String, BigDecimal>> buildMonthlyByCategory(List<Expense> expenses) {
+    // Builders are package-private so penny-benchmarks can time them over synthetic rows,
+    // and RollupDashboardAssembler shapes its rollup rows with them
+
+    /**
+     * Rows arrive newest month first and, within a month, by each
+     * category's latest expense (ties by name), so insertion order keeps
+     * the order the per-entity builder produced.
+     */
+    Map<String, Map<String, BigDecimal>> buildMonthlyByCategory(List<MonthlyCategoryTotal> rows) {
         Map<String, Map<String, BigDecimal>> result = new LinkedHashMap<>();
-        for (Expense e : expenses) {
-            String month = String.format("%d-%02d",
-                    e.getDate().getYear(), e.getDate().getMonthValue());
+        for (MonthlyCategoryTotal row : rows) {
+            String month = YearMonth.of(row.year(), row.month()).toString();
             result.computeIfAbsent(month, k -> new LinkedHashMap<>())
-                    .merge(e.getCategory(), e.getAmount(), BigDecimal::add);
+                    .put(row.category(), row.total());
         }
         return result;
     }
 
-    private List<DashboardResponse.CategoryStat> buildCategoryTotals(List<Expense> expenses) {
-        Map<String, BigDecimal> totals = new LinkedHashMap<>();
-        Map<String, Long>       counts = new LinkedHashMap<>();
-        for (Expense e : expenses) {
-            totals.merge(e.getCategory(), e.getAmount(), BigDecimal::add);
-            counts.merge(e.getCategory(), 1L, Long::sum);
-        }
-        return totals.entrySet().stream()
-                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
-                .map(entry -> DashboardResponse.CategoryStat.builder()
-                        .category(entry.getKey())
-                        .total(entry.getValue())
-                        .count(counts.getOrDefault(entry.getKey(), 0L))
+    List<DashboardResponse.CategoryStat> buildCategoryTotals(List<CategoryTotal> rows) {
+        return rows.stream()
+                .map(row -> DashboardResponse.CategoryStat.builder()
+                        .category(row.category())
+                        .total(row.total())
+                        .count(row.count())
                         .build())
                 .toList();
     }
 
-    private List<DashboardResponse.VendorStat> buildTopVendors(List<Expense> expenses) {
-        Map<String, BigDecimal> totals = new LinkedHashMap<>();
-        Map<String, Long>       counts = new LinkedHashMap<>();
-        for (Expense e : expenses) {
-            totals.merge(e.getVendorName(), e.getAmount(), BigDecimal::add);
-            counts.merge(e.getVendorName(), 1L, Long::sum);
-        }
-        return totals.entrySet().stream()
-                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
-                .limit(TOP_VENDORS_LIMIT)
-                .map(entry -> DashboardResponse.VendorStat.builder()
-                        .vendorName(entry.getKey())
-                        .total(entry.getValue())
-                        .count(counts.getOrDefault(entry.getKey(), 0L))
+    List<DashboardResponse.VendorStat> buildTopVendors(List<VendorTotal> rows) {
+        return rows.stream()
+                .map(row -> DashboardResponse.VendorStat.builder()
+                        .vendorName(row.vendorName())
+                        .total(row.total())
+                        .count(row.count())
                         .build())
                 .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.ExpenseResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Strategy interface for serialising an expense export.
+ *
+ * OCP: Adding a format (e.g. Parquet) = new implementation, no changes to
+ * the export service or the controller.
+ *
+ * A {@link RowWriter} receives rows one at a time and must not retain
+ * them, so an export of any size runs in constant memory.
+ */
+public interface ExpenseExportFormat {
+
+    /** Value of the {@code format} query parameter that selects this format. */
+    String name();
+
+    MediaType mediaType();
+
+    String fileExtension();
+
+    RowWriter open(OutputStream out) throws IOException;
+
+    interface RowWriter extends AutoCloseable {
+
+        void write(ExpenseResponse expense) throws IOException;
+
+        /** Flushes buffered output; does not close the underlying stream. */
+        @Override
+        void close() throws IOException;
+    }
+}
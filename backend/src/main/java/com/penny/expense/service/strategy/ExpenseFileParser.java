@@ -1,8 +1,12 @@
 package com.penny.expense.service.strategy;
 
-import com.penny.expense.dto.CsvUploadResult;
+import com.penny.expense.model.Expense;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
 /**
  * SRP — Single Responsibility Principle:
  * CSV parsing was buried inside ExpenseService.uploadCsv(), mixing:
@@ -30,12 +34,47 @@ public interface ExpenseFileParser {
      */
     ParseResult parse(MultipartFile file);
 
+    /**
+     * Stream the uploaded file, handing successfully built expenses to
+     * {@code sink} in chunks of at most {@code chunkSize} rows. Only one
+     * chunk is held in memory at a time, so the rows retained do not
+     * grow with the file.
+     *
+     * @param file      the uploaded multipart file
+     * @param chunkSize maximum number of expenses per chunk
+     * @param sink      receives each chunk; the list is not reused afterwards
+     * @return number of expenses handed to the sink plus any per-row errors
+     */
+    default ChunkedParseResult parse(MultipartFile file, int chunkSize, Consumer<List<Expense>> sink) {
+        return parse(file, chunkSize, sink, rejected -> {});
+    }
+
+    /**
+     * As {@link #parse(MultipartFile, int, Consumer)}, also reporting
+     * rejected rows while the file is read, so a long import can show them
+     * as it goes.
+     *
+     * @param rejected receives the number of rows rejected since its previous call
+     */
+    ChunkedParseResult parse(MultipartFile file, int chunkSize, Consumer<List<Expense>> sink, IntConsumer rejected);
+
     /**
      * Value object carrying the parse output.
      * Keeps raw Expense data separate from error reporting.
      */
     record ParseResult(
-            java.util.List<com.penny.expense.model.Expense> expenses,
-            java.util.List<String> errors
+            List<Expense> expenses,
+            List<String> errors
+    ) {}
+
+    /**
+     * Value object carrying the output of a streaming parse — the expenses
+     * themselves have already gone to the sink. {@code rejected} counts
+     * every error; {@code errors} may list only the first of them.
+     */
+    record ChunkedParseResult(
+            int accepted,
+            int rejected,
+            List<String> errors
     ) {}
 }
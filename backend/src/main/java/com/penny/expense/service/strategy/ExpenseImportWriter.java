@@ -0,0 +1,48 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Expense;
+
+import java.util.List;
+
+/**
+ * OCP — Open/Closed Principle:
+ * How validated import rows reach the expenses table is a strategy of its
+ * own. ExpenseService streams chunks from an {@link ExpenseFileParser}
+ * into a session opened here and never knows whether they end up as JPA
+ * batch inserts or a PostgreSQL COPY stream.
+ *
+ * Implementations join the caller's transaction; nothing is committed
+ * until the surrounding transaction is.
+ */
+public interface ExpenseImportWriter {
+
+    /**
+     * Start writing one import. The caller must close the session, and
+     * must call {@link ImportSession#complete()} for the rows to land.
+     *
+     * @return a session accepting chunks of new, unsaved expenses
+     */
+    ImportSession begin();
+
+    interface ImportSession extends AutoCloseable {
+
+        /**
+         * Hand over the next chunk of validated expenses.
+         *
+         * @param chunk new expenses with vendor and category ids resolved; not retained after the call
+         */
+        void append(List<Expense> chunk);
+
+        /**
+         * Make every appended row visible in the expenses table within
+         * the current transaction.
+         *
+         * @return number of rows written
+         */
+        long complete();
+
+        /** Abandon anything appended but not yet completed. */
+        @Override
+        void close();
+    }
+}
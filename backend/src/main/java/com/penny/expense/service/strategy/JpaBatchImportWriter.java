@@ -0,0 +1,42 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Default {@link ExpenseImportWriter}: every chunk goes straight through
+ * {@link ExpenseRepository#insertBatch(List)} as one JDBC batch.
+ *
+ * Works on every database, so it is what the H2 dev profile always uses.
+ */
+@RequiredArgsConstructor
+public class JpaBatchImportWriter implements ExpenseImportWriter {
+
+    private final ExpenseRepository expenseRepository;
+
+    @Override
+    public ImportSession begin() {
+        return new ImportSession() {
+            private long written;
+
+            @Override
+            public void append(List<Expense> chunk) {
+                expenseRepository.insertBatch(chunk);
+                written += chunk.size();
+            }
+
+            @Override
+            public long complete() {
+                return written;
+            }
+
+            @Override
+            public void close() {
+                // Every chunk is already flushed; the transaction decides the rest
+            }
+        };
+    }
+}
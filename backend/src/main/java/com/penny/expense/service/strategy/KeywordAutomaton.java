@@ -0,0 +1,143 @@
+package com.penny.expense.service.strategy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton over an ordered list of lower-case ASCII keywords.
+ *
+ * The keywords are compiled once into a dense transition table, so
+ * {@link #firstMatch(CharSequence)} finds every keyword occurring in the
+ * input in a single left-to-right pass with no allocation.
+ *
+ * Priority is positional, not textual: when several keywords occur in the
+ * input, the one that appears EARLIEST IN THE KEYWORD LIST wins — exactly
+ * the result of scanning the list in order with {@code String.contains}.
+ * Each state therefore stores the lowest keyword index reachable through
+ * its output (failure-link) chain.
+ *
+ * Matching is case-insensitive; characters outside the keyword alphabet
+ * (including all non-ASCII input) simply reset the automaton to its root.
+ */
+final class KeywordAutomaton {
+
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int ASCII = 128;
+
+    /** ASCII char → alphabet index; 0 is "not in any keyword". */
+    private final int[] alphabet = new int[ASCII];
+    private final int   alphabetSize;
+
+    /** delta[state * alphabetSize + symbol] → next state. */
+    private final int[] delta;
+
+    /** Lowest keyword index recognised on entering each state. */
+    private final int[] output;
+
+    KeywordAutomaton(List<String> keywords) {
+        int symbols = 1;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ASCII || c != Character.toLowerCase(c)) {
+                    throw new IllegalArgumentException("keyword must be lower-case ASCII: '" + keyword + "'");
+                }
+                if (alphabet[c] == 0) alphabet[c] = symbols++;
+            }
+        }
+        this.alphabetSize = symbols;
+
+        // 1. Trie, grown on demand
+        List<int[]> gotoRows = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        gotoRows.add(newRow());
+        outputs.add(NO_MATCH);
+
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = alphabet[keyword.charAt(i)];
+                int next = gotoRows.get(state)[symbol];
+                if (next < 0) {
+                    next = gotoRows.size();
+                    gotoRows.get(state)[symbol] = next;
+                    gotoRows.add(newRow());
+                    outputs.add(NO_MATCH);
+                }
+                state = next;
+            }
+            outputs.set(state, Math.min(outputs.get(state), k));
+        }
+
+        // 2. Failure links (BFS) folded into a complete DFA
+        int states = gotoRows.size();
+        this.delta  = new int[states * alphabetSize];
+        this.output = new int[states];
+        int[] fail  = new int[states];
+        for (int s = 0; s < states; s++) output[s] = outputs.get(s);
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int a = 0; a < alphabetSize; a++) {
+            int next = gotoRows.get(0)[a];
+            if (next < 0) {
+                delta[a] = 0;
+            } else {
+                delta[a] = next;
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] = Math.min(output[state], output[fail[state]]);
+            for (int a = 0; a < alphabetSize; a++) {
+                int next = gotoRows.get(state)[a];
+                if (next < 0) {
+                    delta[state * alphabetSize + a] = delta[fail[state] * alphabetSize + a];
+                } else {
+                    delta[state * alphabetSize + a] = next;
+                    fail[next] = delta[fail[state] * alphabetSize + a];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the index of the highest-priority keyword contained in
+     * {@code text}, or {@link #NO_MATCH} if none occurs.
+     */
+    int firstMatch(CharSequence text) {
+        int best  = NO_MATCH;
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = delta[state * alphabetSize + symbolOf(text.charAt(i))];
+            int hit = output[state];
+            if (hit < best) {
+                best = hit;
+                if (best == 0) break;
+            }
+        }
+        return best;
+    }
+
+    private int symbolOf(char c) {
+        if (c >= ASCII) {
+            c = Character.toLowerCase(c);
+            return c < ASCII ? alphabet[c] : 0;
+        }
+        if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+        return alphabet[c];
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
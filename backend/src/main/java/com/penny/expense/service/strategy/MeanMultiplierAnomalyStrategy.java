@@ -1,6 +1,7 @@
 package com.penny.expense.service.strategy;
 
-import com.penny.expense.model.Expense;
+import com.penny.expense.model.Money;
+import com.penny.expense.repository.CategoryStatsRepository;
 import com.penny.expense.repository.ExpenseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +10,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * Mean-multiplier implementation of {@link AnomalyDetectionStrategy}.
@@ -24,6 +24,15 @@ import java.util.List;
  * SRP: This class only decides whether expenses are anomalous and persists
  * that decision. It does not know about HTTP, CSV, or dashboard assembly.
  *
+ * The category mean comes from the running sum/count in category_stats,
+ * and only rows whose flag actually changes are updated, via range
+ * predicates on amount — a write never reloads the category's entities.
+ *
+ * The threshold is computed exactly in minor units ({@link Money}):
+ * floor(sum × multiplier / count) to the cent, with the multiplier taken
+ * to three decimal places. No double or scaled division is involved, so
+ * an amount equal to the threshold is never misclassified by rounding.
+ *
  * The anomaly multiplier is externalised to application.properties so it
  * can be changed without recompilation — fulfilling the spirit of OCP at
  * the configuration level too.
@@ -33,7 +42,11 @@ import java.util.List;
 @Slf4j
 public class MeanMultiplierAnomalyStrategy implements AnomalyDetectionStrategy {
 
-    private final ExpenseRepository expenseRepository;
+    private final ExpenseRepository       expenseRepository;
+    private final CategoryStatsRepository categoryStatsRepository;
+
+    /** The multiplier is applied as an exact ratio: thousandths / 1000. */
+    private static final long MULTIPLIER_SCALE = 1_000;
 
     @Value("${app.anomaly.multiplier:3.0}")
     private double anomalyMultiplier;
@@ -41,48 +54,44 @@ public class MeanMultiplierAnomalyStrategy implements AnomalyDetectionStrategy {
     @Override
     @Transactional
     public void recalculateForCategory(String category) {
-        List<Expense> expenses = expenseRepository.findByCategory(category);
-        if (expenses.isEmpty()) {
+        Money threshold = threshold(category);
+        if (threshold == null) {
             return;
         }
 
-        double mean = computeMean(expenses);
-        double threshold = mean * anomalyMultiplier;
-
-        List<Long> toFlag   = filterIds(expenses, threshold, true);
-        List<Long> toUnflag = filterIds(expenses, threshold, false);
+        BigDecimal bound = threshold.toBigDecimal();
+        int flagged   = expenseRepository.flagAboveThreshold(category, bound);
+        int unflagged = expenseRepository.unflagAtOrBelowThreshold(category, bound);
 
-        if (!toFlag.isEmpty())   expenseRepository.bulkUpdateAnomalyFlag(toFlag,   true);
-        if (!toUnflag.isEmpty()) expenseRepository.bulkUpdateAnomalyFlag(toUnflag, false);
-
-        log.debug("Anomaly recalc [category={}, expenses={}, mean={:.2f}, threshold={:.2f}, flagged={}]",
-                category, expenses.size(), mean, threshold, toFlag.size());
+        log.debug("Anomaly recalc [category={}, threshold={}, newlyFlagged={}, newlyUnflagged={}]",
+                category, threshold, flagged, unflagged);
     }
 
     @Override
     public boolean wouldBeAnomaly(String category, BigDecimal amount) {
-        BigDecimal avg = expenseRepository.avgAmountByCategory(category);
-        if (avg == null || avg.compareTo(BigDecimal.ZERO) == 0) {
-            return false;
-        }
-        return amount.doubleValue() > avg.doubleValue() * anomalyMultiplier;
+        Money threshold = threshold(category);
+        return threshold != null && Money.of(amount).isGreaterThan(threshold);
     }
 
-    // ── Private helpers
+    // ── Threshold
 
-    private double computeMean(List<Expense> expenses) {
-        return expenses.stream()
-                .mapToDouble(e -> e.getAmount().doubleValue())
-                .average()
-                .orElse(0.0);
+    /**
+     * floor((category mean) × multiplier) in whole cents from the running
+     * aggregate, or null for an empty category. Subclasses may source the
+     * aggregate elsewhere.
+     */
+    protected Money threshold(String category) {
+        return categoryStatsRepository.findByCategoryName(category)
+                .map(stats -> threshold(Money.of(stats.getTotal()), stats.getExpenseCount()))
+                .orElse(null);
     }
 
-    private List<Long> filterIds(List<Expense> expenses, double threshold, boolean exceedsThreshold) {
-        return expenses.stream()
-                .filter(e -> exceedsThreshold
-                        ? e.getAmount().doubleValue() > threshold
-                        : e.getAmount().doubleValue() <= threshold)
-                .map(Expense::getId)
-                .toList();
+    /** floor((total / count) × multiplier), or null when there is nothing to average. */
+    protected final Money threshold(Money total, long count) {
+        if (count <= 0 || total.signum() <= 0) {
+            return null;
+        }
+        return total.timesRatioFloor(Math.round(anomalyMultiplier * MULTIPLIER_SCALE),
+                                     Math.multiplyExact(count, MULTIPLIER_SCALE));
     }
 }
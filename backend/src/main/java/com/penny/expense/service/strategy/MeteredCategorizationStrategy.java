@@ -0,0 +1,47 @@
+package com.penny.expense.service.strategy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorator that counts every categorization by the category it produced:
+ * {@code penny.categorization{category, result=hit|miss}}, where a miss is
+ * the {@link #FALLBACK_CATEGORY} fallback for a vendor no rule matched.
+ *
+ * Counters are looked up once per category and then reused, so the CSV
+ * hot path pays one map read per row, not a registry lookup.
+ */
+public class MeteredCategorizationStrategy implements CategorizationStrategy {
+
+    private final CategorizationStrategy delegate;
+    private final MeterRegistry          meterRegistry;
+    private final Map<String, Counter>   counters = new ConcurrentHashMap<>();
+
+    public MeteredCategorizationStrategy(CategorizationStrategy delegate, MeterRegistry meterRegistry) {
+        this.delegate      = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String categorize(String vendorName) {
+        String category = delegate.categorize(vendorName);
+        counters.computeIfAbsent(category, this::counter).increment();
+        return category;
+    }
+
+    @Override
+    public Map<String, String> getRules() {
+        return delegate.getRules();
+    }
+
+    private Counter counter(String category) {
+        return Counter.builder("penny.categorization")
+                .description("Vendors categorized, by resulting category")
+                .tag("category", category)
+                .tag("result", FALLBACK_CATEGORY.equals(category) ? "miss" : "hit")
+                .register(meterRegistry);
+    }
+}
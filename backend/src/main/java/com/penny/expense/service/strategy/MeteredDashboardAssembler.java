@@ -0,0 +1,40 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Decorator that times dashboard assembly:
+ * {@code penny.dashboard.assembly{source, scope=all|scoped}}. {@code source}
+ * names the assembler that was selected (rollup, sql or columnar), so a
+ * change of {@code app.dashboard.source} shows up as a separate series.
+ * Cache hits never reach the assembler and are not timed here.
+ */
+public class MeteredDashboardAssembler implements DashboardAssembler {
+
+    private final DashboardAssembler delegate;
+    private final Timer              allTime;
+    private final Timer              scoped;
+
+    public MeteredDashboardAssembler(DashboardAssembler delegate, String source, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.allTime  = timer(source, "all", meterRegistry);
+        this.scoped   = timer(source, "scoped", meterRegistry);
+    }
+
+    @Override
+    public DashboardResponse assemble(DashboardFilter filter) {
+        return (filter.isUnscoped() ? allTime : scoped).record(() -> delegate.assemble(filter));
+    }
+
+    private static Timer timer(String source, String scope, MeterRegistry meterRegistry) {
+        return Timer.builder("penny.dashboard.assembly")
+                .description("Time to assemble the dashboard on a cache miss")
+                .tag("source", source)
+                .tag("scope", scope)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
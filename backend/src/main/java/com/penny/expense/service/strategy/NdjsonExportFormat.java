@@ -0,0 +1,61 @@
+package com.penny.expense.service.strategy;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.penny.expense.dto.ExpenseResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline-delimited JSON export: one {@code ExpenseResponse} object per
+ * line, serialised by the application's ObjectMapper so each line has
+ * exactly the shape the REST API returns.
+ */
+@Component
+public class NdjsonExportFormat implements ExpenseExportFormat {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ObjectWriter objectWriter;
+
+    public NdjsonExportFormat(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writerFor(ExpenseResponse.class);
+    }
+
+    @Override
+    public String name() {
+        return "ndjson";
+    }
+
+    @Override
+    public MediaType mediaType() {
+        return APPLICATION_NDJSON;
+    }
+
+    @Override
+    public String fileExtension() {
+        return "ndjson";
+    }
+
+    @Override
+    public RowWriter open(OutputStream out) throws IOException {
+        JsonGenerator generator = objectWriter.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return new RowWriter() {
+            @Override
+            public void write(ExpenseResponse expense) throws IOException {
+                objectWriter.writeValue(generator, expense);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void close() throws IOException {
+                generator.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.repository.CategoryStatsRepository;
+import com.penny.expense.repository.MonthlyCategoryRollupRepository;
+import com.penny.expense.repository.VendorRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rollup-backed implementation of {@link DashboardAssembler}.
+ *
+ * Charts are read from the incrementally maintained aggregate tables
+ * (monthly_category_rollup, category_stats, vendor_rollup), so their cost
+ * depends on the number of months, categories and vendors — never on the
+ * number of expenses. The values are identical to
+ * {@link DefaultDashboardAssembler}'s, which scans expenses with GROUP BY;
+ * only the order of categories within a month differs (by total here, as
+ * a rollup row keeps no dates, by latest expense there). The rollup rows
+ * are keyed by vendor and category id; the reads join the names in and
+ * return the same projections, so the same builders shape the response.
+ *
+ * The rollups only hold all-time totals, so a request scoped by date or
+ * category is handed to {@link DefaultDashboardAssembler}, whose filtered
+ * GROUP BY reads just the rows in scope.
+ */
+@Component
+@RequiredArgsConstructor
+public class RollupDashboardAssembler implements DashboardAssembler {
+
+    private static final int TOP_VENDORS_LIMIT = 5;
+
+    private final CategoryStatsRepository         categoryStatsRepository;
+    private final MonthlyCategoryRollupRepository monthlyCategoryRollupRepository;
+    private final VendorRollupRepository          vendorRollupRepository;
+    private final DefaultDashboardAssembler       scopedAssembler;
+    private final DashboardScope                  dashboardScope;
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardResponse assemble(DashboardFilter filter) {
+        if (!filter.isUnscoped()) {
+            return scopedAssembler.assemble(filter);
+        }
+        DashboardResponse.DashboardResponseBuilder builder = DashboardResponse.builder()
+                .monthlyByCategory(scopedAssembler.buildMonthlyByCategory(monthlyCategoryRollupRepository.findNonEmptyNewestFirst()))
+                .topVendors(scopedAssembler.buildTopVendors(vendorRollupRepository.findTopByTotal(PageRequest.of(0, TOP_VENDORS_LIMIT))))
+                .categoryTotals(scopedAssembler.buildCategoryTotals(categoryStatsRepository.findNonEmptyByTotalDesc()));
+        return dashboardScope.withAnomalies(builder, filter).build();
+    }
+}
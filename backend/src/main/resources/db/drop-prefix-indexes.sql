@@ -0,0 +1,14 @@
+-- One-off PostgreSQL cleanup for databases created while expenses still
+-- carried single-column indexes on category_id, date and is_anomaly. Each
+-- is the leading column of a composite index, which serves the same
+-- lookups, so they only cost space and write time. ddl-auto=update never
+-- drops an index, hence this script:
+--
+--   psql "$SPRING_DATASOURCE_URL" -f drop-prefix-indexes.sql
+--
+-- Run storage-report.sql before and after to see the index size change.
+-- Fresh databases need nothing: they never get these indexes.
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_expense_category;  -- idx_expense_category_flag_amount
+DROP INDEX CONCURRENTLY IF EXISTS idx_expense_date;      -- idx_expense_date_id
+DROP INDEX CONCURRENTLY IF EXISTS idx_expense_anomaly;   -- idx_expense_anomaly_date_id
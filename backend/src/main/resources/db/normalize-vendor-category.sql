@@ -0,0 +1,56 @@
+-- One-off PostgreSQL migration for databases created while expenses still
+-- stored vendor_name and category as strings on every row. Run it once,
+-- with the application stopped, before deploying the version that reads
+-- vendor_id / category_id:
+--
+--   psql "$SPRING_DATASOURCE_URL" -f normalize-vendor-category.sql
+--
+-- Fresh databases need nothing: ddl-auto=update creates the new schema.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS vendors (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(200) NOT NULL,
+    CONSTRAINT uk_vendor_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+INSERT INTO vendors (name)    SELECT DISTINCT vendor_name FROM expenses ON CONFLICT (name) DO NOTHING;
+INSERT INTO categories (name) SELECT DISTINCT category    FROM expenses ON CONFLICT (name) DO NOTHING;
+
+ALTER TABLE expenses
+    ADD COLUMN IF NOT EXISTS vendor_id   INTEGER,
+    ADD COLUMN IF NOT EXISTS category_id INTEGER;
+
+UPDATE expenses e
+   SET vendor_id = v.id, category_id = c.id
+  FROM vendors v, categories c
+ WHERE v.name = e.vendor_name
+   AND c.name = e.category;
+
+ALTER TABLE expenses
+    ALTER COLUMN vendor_id   SET NOT NULL,
+    ALTER COLUMN category_id SET NOT NULL,
+    ADD CONSTRAINT fk_expense_vendor   FOREIGN KEY (vendor_id)   REFERENCES vendors (id),
+    ADD CONSTRAINT fk_expense_category FOREIGN KEY (category_id) REFERENCES categories (id);
+
+-- Dropping the string columns also drops every index built on them
+ALTER TABLE expenses
+    DROP COLUMN vendor_name,
+    DROP COLUMN category;
+
+CREATE INDEX idx_expense_vendor               ON expenses (vendor_id);
+CREATE INDEX idx_expense_category_flag_amount ON expenses (category_id, is_anomaly, amount);
+CREATE INDEX idx_expense_category_date_id     ON expenses (category_id, date, id);
+
+COMMIT;
+
+-- DROP COLUMN only hides the strings; rewrite the table to give the space
+-- back (takes an exclusive lock for the duration) and refresh statistics.
+VACUUM FULL ANALYZE expenses;
@@ -0,0 +1,17 @@
+-- One-off PostgreSQL migration for databases whose rollup tables are still
+-- keyed by name (category_stats.category, monthly_category_rollup.category,
+-- vendor_rollup.vendor_name). ddl-auto=update cannot change a primary key,
+-- so the tables are dropped instead:
+--
+--   psql "$SPRING_DATASOURCE_URL" -f rekey-rollups.sql
+--
+-- Run it with the service stopped. On the next start Hibernate recreates
+-- the tables keyed by category_id / vendor_id, and RollupInitializer finds
+-- them empty, so it rebuilds them from expenses. Nothing is lost: every
+-- rollup row is derived from expenses.
+
+BEGIN;
+DROP TABLE IF EXISTS category_stats;
+DROP TABLE IF EXISTS monthly_category_rollup;
+DROP TABLE IF EXISTS vendor_rollup;
+COMMIT;
@@ -0,0 +1,55 @@
+-- Size of the expenses table and its indexes, and the latency of the
+-- dashboard's GROUP BY queries. Run it before and after
+-- normalize-vendor-category.sql or drop-prefix-indexes.sql and compare
+-- the two outputs:
+--
+--   psql "$SPRING_DATASOURCE_URL" -f storage-report.sql
+--
+-- The script detects which schema it is looking at and runs the matching
+-- form of each query. Sizes come from the catalog; latencies from
+-- EXPLAIN ANALYZE, so run it twice and read the second, warm, result.
+
+SELECT pg_size_pretty(pg_table_size('expenses'))          AS table_size,
+       pg_size_pretty(pg_indexes_size('expenses'))        AS index_size,
+       pg_size_pretty(pg_total_relation_size('expenses')) AS total_size,
+       (SELECT COUNT(*) FROM expenses)                    AS row_count;
+
+-- A current schema lists vendor, category_flag_amount, date_id,
+-- category_date_id, anomaly_date_id, amount, fingerprint and import_batch
+-- (plus the primary key); no single-column category, date or is_anomaly.
+SELECT indexrelname                                  AS index_name,
+       pg_size_pretty(pg_relation_size(indexrelid))  AS size
+  FROM pg_stat_user_indexes
+ WHERE relname = 'expenses'
+ ORDER BY pg_relation_size(indexrelid) DESC;
+
+SELECT EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_name = 'expenses' AND column_name = 'vendor_id') AS normalized \gset
+
+\if :normalized
+    EXPLAIN (ANALYZE, BUFFERS)
+    SELECT v.name, SUM(e.amount), COUNT(*) FROM expenses e JOIN vendors v ON v.id = e.vendor_id
+     GROUP BY v.id, v.name ORDER BY SUM(e.amount) DESC LIMIT 5;
+
+    EXPLAIN (ANALYZE, BUFFERS)
+    SELECT c.name, SUM(e.amount), COUNT(*) FROM expenses e JOIN categories c ON c.id = e.category_id
+     GROUP BY c.id, c.name ORDER BY SUM(e.amount) DESC;
+
+    EXPLAIN (ANALYZE, BUFFERS)
+    SELECT EXTRACT(YEAR FROM e.date), EXTRACT(MONTH FROM e.date), c.name, SUM(e.amount)
+      FROM expenses e JOIN categories c ON c.id = e.category_id
+     GROUP BY EXTRACT(YEAR FROM e.date), EXTRACT(MONTH FROM e.date), c.id, c.name;
+\else
+    EXPLAIN (ANALYZE, BUFFERS)
+    SELECT vendor_name, SUM(amount), COUNT(*) FROM expenses
+     GROUP BY vendor_name ORDER BY SUM(amount) DESC LIMIT 5;
+
+    EXPLAIN (ANALYZE, BUFFERS)
+    SELECT category, SUM(amount), COUNT(*) FROM expenses
+     GROUP BY category ORDER BY SUM(amount) DESC;
+
+    EXPLAIN (ANALYZE, BUFFERS)
+    SELECT EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date), category, SUM(amount)
+      FROM expenses
+     GROUP BY EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date), category;
+\endif
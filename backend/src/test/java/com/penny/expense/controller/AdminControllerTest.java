@@ -0,0 +1,48 @@
+package com.penny.expense.controller;
+
+import com.penny.expense.service.RollupMaintainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The rollup rebuild endpoint with a configured admin token, the rebuild
+ * itself mocked out.
+ */
+@WebMvcTest(controllers = AdminController.class, properties = "app.admin.token=s3cret")
+@DisplayName("POST /api/admin/rollups/rebuild — X-Admin-Token required")
+class AdminControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private RollupMaintainer rollupMaintainer;
+
+    @Test @DisplayName("The configured token runs the rebuild")
+    void validToken() throws Exception {
+        when(rollupMaintainer.rebuild()).thenReturn(new RollupMaintainer.RebuildCounts(3, 12, 7));
+
+        mockMvc.perform(post("/api/admin/rollups/rebuild").header("X-Admin-Token", "s3cret"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthCategories").value(12));
+    }
+
+    @Test @DisplayName("A missing or wrong token is refused before anything is rebuilt")
+    void missingOrWrongToken() throws Exception {
+        mockMvc.perform(post("/api/admin/rollups/rebuild"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/rollups/rebuild").header("X-Admin-Token", "s3cre"))
+                .andExpect(status().isUnauthorized());
+
+        verify(rollupMaintainer, never()).rebuild();
+    }
+}
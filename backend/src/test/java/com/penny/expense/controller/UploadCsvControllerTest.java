@@ -0,0 +1,119 @@
+package com.penny.expense.controller;
+
+import com.penny.expense.dto.ImportJobResponse;
+import com.penny.expense.service.ExpenseExportService;
+import com.penny.expense.service.ExpenseService;
+import com.penny.expense.service.ImportJobService;
+import com.penny.expense.service.strategy.CategorizationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The two upload-csv routes — multipart file and raw body — and the 413
+ * mapping, with the import itself mocked out.
+ */
+@WebMvcTest(ExpenseController.class)
+@DisplayName("POST /api/expenses/upload-csv — multipart, raw gzip body and size limit")
+class UploadCsvControllerTest {
+
+    private static final String CSV = "date,amount,vendor_name,description\n2024-01-15,450.00,Swiggy,Lunch\n";
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private ExpenseService         expenseService;
+    @MockBean private ImportJobService       importJobService;
+    @MockBean private ExpenseExportService   expenseExportService;
+    @MockBean private CategorizationStrategy categorizationStrategy;
+
+    private final ImportJobResponse queued = ImportJobResponse.builder().id("job-1").status("QUEUED").build();
+
+    @BeforeEach
+    void queueJobs() {
+        when(importJobService.submit(any(MultipartFile.class))).thenReturn(queued);
+    }
+
+    @Test @DisplayName("A gzip body sent with Content-Encoding: gzip is spooled as sent and queued")
+    void rawGzipBody() throws Exception {
+        byte[] body = gzip(CSV);
+        AtomicReference<byte[]> spooled = new AtomicReference<>();
+        when(importJobService.submit(any(InputStream.class), anyString(), anyString())).thenAnswer(call -> {
+            spooled.set(call.<InputStream>getArgument(0).readAllBytes());
+            return queued;
+        });
+
+        mockMvc.perform(post("/api/expenses/upload-csv").param("filename", "statement.csv")
+                        .contentType("text/csv")
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/imports/job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        // MockMvc adds a charset to text content types
+        verify(importJobService).submit(any(InputStream.class), eq("statement.csv"), startsWith("text/csv"));
+        assertThat(spooled.get()).isEqualTo(body);
+    }
+
+    @Test @DisplayName("A .csv.gz file part goes through the multipart route")
+    void multipartGzipFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "statement.csv.gz", "application/gzip", gzip(CSV));
+
+        mockMvc.perform(multipart("/api/expenses/upload-csv").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/imports/job-1"));
+
+        ArgumentCaptor<MultipartFile> submitted = ArgumentCaptor.forClass(MultipartFile.class);
+        verify(importJobService).submit(submitted.capture());
+        assertThat(submitted.getValue().getOriginalFilename()).isEqualTo("statement.csv.gz");
+    }
+
+    @Test @DisplayName("A body over the upload limit is answered with 413")
+    void overLimit() throws Exception {
+        when(importJobService.submit(any(InputStream.class), anyString(), anyString()))
+                .thenThrow(new MaxUploadSizeExceededException(1024));
+
+        mockMvc.perform(post("/api/expenses/upload-csv")
+                        .contentType("application/gzip")
+                        .content(gzip(CSV)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.status").value(413));
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
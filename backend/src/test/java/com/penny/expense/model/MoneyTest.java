@@ -0,0 +1,56 @@
+package com.penny.expense.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money — exact minor-unit arithmetic")
+class MoneyTest {
+
+    @Test @DisplayName("Converts to and from BigDecimal at scale 2, rounding half-up")
+    void convertsAtBoundary() {
+        assertThat(Money.of(new BigDecimal("450")).cents()).isEqualTo(45_000);
+        assertThat(Money.of(new BigDecimal("0.005")).cents()).isEqualTo(1);
+        assertThat(Money.of(new BigDecimal("-12.345")).cents()).isEqualTo(-1_235);
+        assertThat(Money.ofCents(123_456).toBigDecimal()).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(Money.MAX_EXPENSE_AMOUNT.toBigDecimal()).isEqualTo(new BigDecimal("9999999999.99"));
+    }
+
+    @Test @DisplayName("Sums stay exact where double drifts")
+    void staysExactWhereDoubleDrifts() {
+        Money  total = Money.ZERO;
+        double naive = 0;
+        for (int i = 0; i < 10; i++) {
+            total = total.plus(Money.of(new BigDecimal("0.10")));
+            naive += 0.10;
+        }
+        assertThat(total.toBigDecimal()).isEqualByComparingTo("1.00");
+        assertThat(naive).isNotEqualTo(1.0);
+    }
+
+    @Test @DisplayName("Overflow throws instead of wrapping")
+    void overflowIsDetected() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        assertThatThrownBy(() -> max.plus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofCents(Long.MIN_VALUE).negate()).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e20"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test @DisplayName("Threshold floor classifies amounts exactly like the real-valued mean × multiplier")
+    void thresholdFloorIsExact() {
+        // sum 100.00 over 3 rows, × 3 → exactly 100.00: 100.00 is not above it, 100.01 is
+        Money exact = Money.of(new BigDecimal("100.00")).timesRatioFloor(3_000, 3 * 1_000L);
+        assertThat(Money.of(new BigDecimal("100.00")).isGreaterThan(exact)).isFalse();
+        assertThat(Money.of(new BigDecimal("100.01")).isGreaterThan(exact)).isTrue();
+
+        // sum 10.00 over 3 rows, × 3.5 → 11.666…: 11.66 is below it, 11.67 is above
+        Money fractional = Money.of(new BigDecimal("10.00")).timesRatioFloor(3_500, 3 * 1_000L);
+        assertThat(Money.of(new BigDecimal("11.66")).isGreaterThan(fractional)).isFalse();
+        assertThat(Money.of(new BigDecimal("11.67")).isGreaterThan(fractional)).isTrue();
+    }
+}
@@ -0,0 +1,158 @@
+package com.penny.expense.service;
+
+import com.penny.expense.service.strategy.AnomalyDetectionStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AnomalyRecalculationQueue on a manual clock: coalescing, the debounce
+ * deadline and the staleness bound, each with exact recalculation counts.
+ */
+@DisplayName("AnomalyRecalculationQueue — coalescing and flush")
+class AnomalyRecalculationQueueTest {
+
+    private final Map<String, Integer> recalculations = new ConcurrentHashMap<>();
+
+    private final DashboardCache dashboardCache = new DashboardCache(new SimpleMeterRegistry());
+
+    private final AnomalyDetectionStrategy countingStrategy = new AnomalyDetectionStrategy() {
+        @Override
+        public void recalculateForCategory(String category) {
+            recalculations.merge(category, 1, Integer::sum);
+        }
+
+        @Override
+        public boolean wouldBeAnomaly(String category, BigDecimal amount) {
+            return false;
+        }
+    };
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+
+    @AfterEach
+    void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test @DisplayName("A burst of writes per category collapses into one recalculation")
+    void burstIsCoalescedPerCategory() {
+        AnomalyRecalculationQueue queue = queue(60_000, 60_000);
+        for (int i = 0; i < 50; i++) queue.enqueue("Food");
+        for (int i = 0; i < 3; i++)  queue.enqueue("Transport");
+
+        assertThat(recalculations).isEmpty();
+        queue.flush();
+        assertThat(recalculations).containsExactlyInAnyOrderEntriesOf(Map.of("Food", 1, "Transport", 1));
+
+        // The debounce checks still scheduled find nothing left to do
+        scheduler.advance(Duration.ofMinutes(2));
+        assertThat(recalculations).containsExactlyInAnyOrderEntriesOf(Map.of("Food", 1, "Transport", 1));
+    }
+
+    @Test @DisplayName("Pending work runs by itself once the debounce window passes")
+    void debouncedWorkRunsOnDeadline() {
+        AnomalyRecalculationQueue queue = queue(200, 1_000);
+        for (int i = 0; i < 20; i++) queue.enqueue("Food");
+
+        scheduler.advance(Duration.ofMillis(199));
+        assertThat(recalculations).isEmpty();
+
+        scheduler.advance(Duration.ofMillis(1));
+        assertThat(recalculations).containsExactlyEntriesOf(Map.of("Food", 1));
+
+        scheduler.advance(Duration.ofSeconds(10));
+        assertThat(recalculations).containsExactlyEntriesOf(Map.of("Food", 1));
+    }
+
+    @Test @DisplayName("Continuous writes are still recalculated within the staleness bound")
+    void stalenessIsBounded() {
+        AnomalyRecalculationQueue queue = queue(200, 500);
+        // A write every 50 ms for a second never leaves a 200 ms quiet period
+        for (int i = 0; i < 20; i++) {
+            queue.enqueue("Food");
+            scheduler.advance(Duration.ofMillis(50));
+            long elapsed = scheduler.elapsedMillis();
+            // Due 500 ms after the first write of each round: at 500 and 1,000 ms
+            assertThat(recalculations.getOrDefault("Food", 0)).as("recalculations at %d ms", elapsed)
+                    .isEqualTo(elapsed < 500 ? 0 : elapsed < 1_000 ? 1 : 2);
+        }
+
+        scheduler.advance(Duration.ofSeconds(10));
+        assertThat(recalculations).containsExactlyEntriesOf(Map.of("Food", 2));
+    }
+
+    private AnomalyRecalculationQueue queue(long debounceMs, long maxStalenessMs) {
+        return new AnomalyRecalculationQueue(countingStrategy, dashboardCache, new SimpleMeterRegistry(),
+                debounceMs, maxStalenessMs, scheduler, scheduler::nanoTime);
+    }
+
+    /**
+     * A single worker whose delayed tasks wait for {@link #advance} instead
+     * of the wall clock. Immediate tasks (flush, and checks already due) run
+     * on the worker as usual; advance() waits for them to finish.
+     */
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final AtomicLong        now     = new AtomicLong();
+        private final List<DelayedTask> delayed = new ArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        long nanoTime() {
+            return now.get();
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(now.get());
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            if (delay <= 0) return super.schedule(command, 0, TimeUnit.NANOSECONDS);
+            synchronized (delayed) {
+                delayed.add(new DelayedTask(now.get() + unit.toNanos(delay), command));
+            }
+            return null;
+        }
+
+        /** Move the clock forward and run, in deadline order, every task now due. */
+        void advance(Duration step) {
+            now.addAndGet(step.toNanos());
+            List<DelayedTask> due;
+            synchronized (delayed) {
+                due = delayed.stream()
+                        .filter(task -> task.dueAt() <= now.get())
+                        .sorted(Comparator.comparingLong(DelayedTask::dueAt))
+                        .toList();
+                delayed.removeAll(due);
+            }
+            due.forEach(task -> super.schedule(task.command(), 0, TimeUnit.NANOSECONDS));
+            try {
+                super.submit(() -> { }).get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private record DelayedTask(long dueAt, Runnable command) {}
+    }
+}
@@ -0,0 +1,110 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.BulkDeleteRequest;
+import com.penny.expense.dto.BulkDeleteResult;
+import com.penny.expense.exception.InvalidExpenseException;
+import com.penny.expense.model.CategoryStats;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.CategoryStatsRepository;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Deletes expenses through ExpenseService.deleteMatching and checks the
+ * rows removed, the rollups left behind and the categories reported.
+ */
+@SpringBootTest
+@DisplayName("Bulk delete — one DELETE per request, rollups kept in step")
+class BulkDeleteTest {
+
+    @Autowired private ExpenseService          expenseService;
+    @Autowired private ExpenseRepository       expenseRepository;
+    @Autowired private CategoryStatsRepository categoryStatsRepository;
+    @Autowired private RollupMaintainer        rollupMaintainer;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+        rollupMaintainer.rebuild();
+    }
+
+    @Test @DisplayName("Deleting one import batch leaves other rows and their totals alone")
+    void byImportBatch() {
+        UUID bad = UUID.randomUUID();
+        importRows(null,
+                expense(LocalDate.of(2024, 1, 5), "Uber", "100.00"));
+        importRows(bad,
+                expense(LocalDate.of(2024, 1, 6), "Uber", "40.00"),
+                expense(LocalDate.of(2024, 1, 7), "Swiggy", "25.00"));
+
+        BulkDeleteResult result = expenseService.deleteMatching(request(r -> r.setImportBatch(bad)));
+
+        assertThat(result.getDeleted()).isEqualTo(2);
+        assertThat(result.getCategories()).containsExactly("Food", "Transport");
+        assertThat(expenseRepository.count()).isEqualTo(1);
+        assertThat(stats("Transport").getTotal()).isEqualByComparingTo("100.00");
+        assertThat(stats("Transport").getExpenseCount()).isEqualTo(1);
+        assertThat(stats("Food").getExpenseCount()).isZero();
+    }
+
+    @Test @DisplayName("Ids and a date range combine; each bound is inclusive")
+    void byIdsAndRange() {
+        importRows(null,
+                expense(LocalDate.of(2024, 2, 1), "Uber", "10.00"),
+                expense(LocalDate.of(2024, 2, 15), "Uber", "20.00"),
+                expense(LocalDate.of(2024, 3, 1), "Uber", "30.00"));
+        List<Long> ids = expenseRepository.findAll().stream().map(Expense::getId).toList();
+
+        BulkDeleteResult result = expenseService.deleteMatching(request(r -> {
+            r.setIds(ids);
+            r.setFrom(LocalDate.of(2024, 2, 1));
+            r.setTo(LocalDate.of(2024, 2, 15));
+        }));
+
+        assertThat(result.getDeleted()).isEqualTo(2);
+        assertThat(stats("Transport").getTotal()).isEqualByComparingTo("30.00");
+    }
+
+    @Test @DisplayName("A request that would match every row is rejected")
+    void unscoped() {
+        assertThatThrownBy(() -> expenseService.deleteMatching(new BulkDeleteRequest()))
+                .isInstanceOf(InvalidExpenseException.class);
+    }
+
+    private void importRows(UUID batch, Expense... expenses) {
+        for (Expense expense : expenses) expense.setImportBatch(batch);
+        expenseService.importChunk(List.of(expenses), expenseService.duplicateDetector());
+    }
+
+    private CategoryStats stats(String category) {
+        return categoryStatsRepository.findByCategoryName(category).orElseThrow();
+    }
+
+    private static BulkDeleteRequest request(Consumer<BulkDeleteRequest> scope) {
+        BulkDeleteRequest request = new BulkDeleteRequest();
+        scope.accept(request);
+        return request;
+    }
+
+    private static Expense expense(LocalDate date, String vendor, String amount) {
+        return Expense.builder()
+                .date(date)
+                .amount(new BigDecimal(amount))
+                .vendorName(vendor)
+                .category(vendor.equals("Uber") ? "Transport" : "Food")
+                .build();
+    }
+}
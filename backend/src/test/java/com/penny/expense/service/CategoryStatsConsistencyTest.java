@@ -0,0 +1,123 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ExpenseRequest;
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.model.Category;
+import com.penny.expense.model.CategoryStats;
+import com.penny.expense.repository.CategoryRepository;
+import com.penny.expense.repository.CategoryStatsRepository;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * category_stats and the anomaly flags it drives, checked against a full
+ * recompute over the expenses after each insert, delete and re-scoring.
+ */
+@SpringBootTest
+@DisplayName("CategoryStats — running aggregates match a full recompute")
+class CategoryStatsConsistencyTest {
+
+    @Autowired private ExpenseService            expenseService;
+    @Autowired private ExpenseRepository         expenseRepository;
+    @Autowired private CategoryStatsRepository   categoryStatsRepository;
+    @Autowired private CategoryRepository        categoryRepository;
+    @Autowired private AnomalyRecalculationQueue recalculationQueue;
+    @Autowired private RollupMaintainer          rollupMaintainer;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+        rollupMaintainer.rebuild();
+    }
+
+    @Test @DisplayName("Inserts and deletes keep each category's sum and count exact")
+    void insertAndDelete() {
+        ExpenseResponse lunch = create("450.00", "Swiggy");
+        create("120.50", "Uber");
+        create("0.01", "Zomato");
+        assertConsistent();
+
+        expenseService.delete(lunch.getId());
+        assertConsistent();
+
+        expenseService.findAll().forEach(expense -> expenseService.delete(expense.getId()));
+        assertConsistent();
+    }
+
+    @Test @DisplayName("A re-scoring that moves the mean across an amount flips its flag both ways")
+    void rescoringCrossesThreshold() {
+        for (int i = 0; i < 10; i++) create("100.00", "Swiggy");
+        ExpenseResponse dinner = create("500.00", "Zomato");
+        assertConsistent();
+        assertThat(flagOf(dinner)).isTrue();             // threshold 409.09
+
+        ExpenseResponse party = create("2000.00", "Swiggy");
+        assertConsistent();
+        assertThat(flagOf(dinner)).isFalse();            // threshold 875.00
+        assertThat(flagOf(party)).isTrue();
+
+        expenseService.delete(party.getId());
+        assertConsistent();
+        assertThat(flagOf(dinner)).isTrue();
+    }
+
+    // ── Helpers
+
+    /** Settles pending recalculations, then recomputes everything from the expenses. */
+    private void assertConsistent() {
+        recalculationQueue.flush();
+        List<ExpenseResponse> expenses = expenseService.findAll();
+
+        Map<String, List<ExpenseResponse>> byCategory = expenses.stream()
+                .collect(Collectors.groupingBy(ExpenseResponse::getCategory));
+        Map<Integer, String> names = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+        Map<String, CategoryStats> stats = categoryStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(s -> names.get(s.getCategoryId()), s -> s));
+
+        byCategory.forEach((category, rows) -> {
+            BigDecimal total = rows.stream().map(ExpenseResponse::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(stats).as(category).containsKey(category);
+            assertThat(stats.get(category).getTotal()).as(category).isEqualByComparingTo(total);
+            assertThat(stats.get(category).getExpenseCount()).as(category).isEqualTo(rows.size());
+
+            BigDecimal threshold = total.multiply(BigDecimal.valueOf(3))
+                    .divide(BigDecimal.valueOf(rows.size()), 2, RoundingMode.FLOOR);
+            rows.forEach(row -> assertThat(row.isAnomaly())
+                    .as("%s %s against %s", category, row.getAmount(), threshold)
+                    .isEqualTo(row.getAmount().compareTo(threshold) > 0));
+        });
+        stats.forEach((category, s) -> {
+            if (!byCategory.containsKey(category)) {
+                assertThat(s.getExpenseCount()).as(category).isZero();
+                assertThat(s.getTotal()).as(category).isEqualByComparingTo(BigDecimal.ZERO);
+            }
+        });
+    }
+
+    private boolean flagOf(ExpenseResponse expense) {
+        return expenseService.findById(expense.getId()).isAnomaly();
+    }
+
+    private ExpenseResponse create(String amount, String vendor) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDate(LocalDate.of(2024, 3, 1));
+        request.setAmount(new BigDecimal(amount));
+        request.setVendorName(vendor);
+        request.setDescription(vendor + " " + amount);
+        return expenseService.create(request);
+    }
+}
@@ -0,0 +1,85 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.BulkDeleteRequest;
+import com.penny.expense.dto.ExpenseBatchResult;
+import com.penny.expense.dto.ImportJobResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Imports through PostgresCopyImportWriter against a real PostgreSQL, in
+ * chunks of two rows, so duplicate detection and dictionary lookups run
+ * on the transaction's connection between COPYs. A COPY left open across
+ * chunks makes those queries wait forever; the timeouts turn that into
+ * a failure.
+ *
+ * Opt-in, against a scratch database (rows dated 1999 are created and
+ * removed again):
+ *   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/penny_test \
+ *   DB_USERNAME=... DB_PASSWORD=... mvn test -Dtest=CopyImportIntegrationTest
+ */
+@SpringBootTest(properties = {"app.import.mode=copy", "app.import.chunk-size=2", "app.cors.allowed-origins=*"})
+@ActiveProfiles("prod")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = "jdbc:postgresql:.*")
+@DisplayName("COPY import — multi-chunk uploads against PostgreSQL (opt-in)")
+class CopyImportIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired private ExpenseService   expenseService;
+    @Autowired private ImportJobService importJobService;
+
+    @AfterEach
+    void cleanUp() {
+        BulkDeleteRequest fixtures = new BulkDeleteRequest();
+        fixtures.setFrom(LocalDate.of(1999, 1, 1));
+        fixtures.setTo(LocalDate.of(1999, 12, 31));
+        expenseService.deleteMatching(fixtures);
+    }
+
+    @Test @DisplayName("A statement spanning several chunks imports as a job, and re-importing it skips every row")
+    void uploadTwice() {
+        String statement = """
+                date,amount,vendor_name,description
+                1999-01-15,450.00,Swiggy,Lunch
+                1999-01-16,120.50,Uber,Ride
+                1999-01-16,120.50,Uber,Ride
+                1999-02-01,999.00,A vendor never seen before,Gadget
+                1999-02-02,35.00,Corner Store,Milk
+                """;
+
+        ImportJobResponse first  = assertTimeoutPreemptively(TIMEOUT, () -> ImportJobs.importCsv(importJobService, statement));
+        ImportJobResponse second = assertTimeoutPreemptively(TIMEOUT, () -> ImportJobs.importCsv(importJobService, statement));
+
+        assertThat(first.getRowsProcessed()).isEqualTo(5);
+        assertThat(second.getRowsProcessed()).isZero();
+        assertThat(second.getSkippedDuplicates()).isEqualTo(5);
+    }
+
+    @Test @DisplayName("A JSON batch spanning several chunks is created through COPY")
+    void batch() {
+        String batch = """
+                [{"date": "1999-03-01", "amount": 10, "vendorName": "Uber"},
+                 {"date": "1999-03-02", "amount": 20, "vendorName": "Ola"},
+                 {"date": "1999-03-03", "amount": 30, "vendorName": "Zomato"}]
+                """;
+
+        ExpenseBatchResult result = assertTimeoutPreemptively(TIMEOUT, () -> expenseService.createBatch(
+                new ByteArrayInputStream(batch.getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(result.getCreated()).isEqualTo(3);
+    }
+}
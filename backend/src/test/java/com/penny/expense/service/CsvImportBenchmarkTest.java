@@ -0,0 +1,180 @@
+package com.penny.expense.service;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.strategy.AnomalyDetectionStrategy;
+import com.penny.expense.service.strategy.ExpenseFileParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows/sec and peak heap for the chunked CSV import job against the
+ * previous parse-everything-then-saveAll path, on 10k, 100k and 1M-row files.
+ * The in-memory H2 database holds every imported row on the same heap, so
+ * {@link #compareParseMemory()} also measures both parse paths with no
+ * writer at all: what the import itself keeps on the heap.
+ *
+ * Opt-in, against the dev-profile H2 database, which shares the heap (the
+ * 1M-row round needs about 4 GB):
+ *   mvn test -Dtest=CsvImportBenchmarkTest -Dbenchmarks=true -DargLine=-Xmx4g
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@DisplayName("CSV import — chunked batches vs saveAll (opt-in)")
+class CsvImportBenchmarkTest {
+
+    private static final String[] VENDORS = {
+            "Swiggy", "Zomato", "Uber", "Ola", "Amazon", "Flipkart", "Netflix",
+            "Airtel", "Apollo Pharmacy", "HDFC EMI", "Corner Store", "Local Kirana"
+    };
+
+    @Autowired private ImportJobService         importJobService;
+    @Autowired private ExpenseFileParser        expenseFileParser;
+    @Autowired private ExpenseRepository        expenseRepository;
+    @Autowired private AnomalyDetectionStrategy anomalyDetectionStrategy;
+    @Autowired private DictionaryCache          dictionaryCache;
+    @Autowired private TransactionTemplate      transactionTemplate;
+
+    @Value("${app.import.chunk-size}")
+    private int chunkSize;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareImportPaths() throws IOException {
+        for (int rows : new int[]{10_000, 100_000, 1_000_000}) {
+            Path csv = generateCsv(rows);
+            try {
+                Measurement legacy = measure(() -> transactionTemplate.execute(status -> legacyUpload(csv)));
+                expenseRepository.deleteAllInBatch();
+                Measurement chunked = measure(() -> (int) ImportJobs.await(importJobService,
+                        importJobService.submit(new PathMultipartFile(csv)), Duration.ofHours(1)).getRowsProcessed());
+                expenseRepository.deleteAllInBatch();
+
+                assertThat(legacy.rows()).isEqualTo(rows);
+                assertThat(chunked.rows()).isEqualTo(rows);
+                System.out.printf("%,9d rows | saveAll %,8d rows/s peak %,5d MB | chunked %,8d rows/s peak %,5d MB%n",
+                        rows,
+                        legacy.rowsPerSecond(), legacy.peakHeapMb(),
+                        chunked.rowsPerSecond(), chunked.peakHeapMb());
+            } finally {
+                Files.deleteIfExists(csv);
+            }
+        }
+    }
+
+    @Test
+    void compareParseMemory() throws IOException {
+        for (int rows : new int[]{10_000, 100_000, 1_000_000}) {
+            Path csv = generateCsv(rows);
+            try {
+                Measurement whole   = measure(() -> expenseFileParser.parse(new PathMultipartFile(csv)).expenses().size());
+                Measurement chunked = measure(() -> expenseFileParser.parse(new PathMultipartFile(csv), chunkSize, chunk -> {}).accepted());
+
+                assertThat(whole.rows()).isEqualTo(rows);
+                assertThat(chunked.rows()).isEqualTo(rows);
+                System.out.printf("%,9d rows | parse all %,8d rows/s peak %,5d MB | chunked, no writer %,8d rows/s peak %,5d MB%n",
+                        rows,
+                        whole.rowsPerSecond(), whole.peakHeapMb(),
+                        chunked.rowsPerSecond(), chunked.peakHeapMb());
+            } finally {
+                Files.deleteIfExists(csv);
+            }
+        }
+    }
+
+    /** The pre-streaming upload body, kept as the baseline. */
+    private int legacyUpload(Path csv) {
+        ExpenseFileParser.ParseResult parsed = expenseFileParser.parse(new PathMultipartFile(csv));
+        parsed.expenses().forEach(dictionaryCache::resolve);
+        expenseRepository.saveAll(parsed.expenses());
+        Set<String> affected = parsed.expenses().stream()
+                .map(Expense::getCategory)
+                .collect(Collectors.toSet());
+        affected.forEach(anomalyDetectionStrategy::recalculateForCategory);
+        return parsed.expenses().size();
+    }
+
+    // ── Helpers
+
+    private static Measurement measure(Supplier<Integer> importer) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        int  rows  = importer.get();
+        long nanos = System.nanoTime() - start;
+
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new Measurement(rows, rows * 1_000_000_000L / Math.max(nanos, 1), peak / (1024 * 1024));
+    }
+
+    private static Path generateCsv(int rows) throws IOException {
+        Path file = Files.createTempFile("penny-import-", ".csv");
+        Random random = new Random(rows);
+        LocalDate start = LocalDate.of(2022, 1, 1);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("date,amount,vendor_name,description\n");
+            for (int i = 0; i < rows; i++) {
+                out.write(start.plusDays(random.nextInt(1_000)).toString());
+                out.write(',');
+                out.write(String.format("%d.%02d", 50 + random.nextInt(5_000), random.nextInt(100)));
+                out.write(',');
+                out.write(VENDORS[random.nextInt(VENDORS.length)]);
+                out.write(",generated row ");
+                out.write(Integer.toString(i));
+                out.write('\n');
+            }
+        }
+        return file;
+    }
+
+    private record Measurement(int rows, long rowsPerSecond, long peakHeapMb) {}
+
+    /** Disk-backed MultipartFile so the fixture itself never sits on the heap. */
+    private record PathMultipartFile(Path path) implements MultipartFile {
+        @Override public String getName()             { return "file"; }
+        @Override public String getOriginalFilename() { return path.getFileName().toString(); }
+        @Override public String getContentType()      { return "text/csv"; }
+        @Override public boolean isEmpty()            { return getSize() == 0; }
+        @Override public long getSize() {
+            try { return Files.size(path); } catch (IOException e) { return 0; }
+        }
+        @Override public byte[] getBytes() throws IOException        { return Files.readAllBytes(path); }
+        @Override public InputStream getInputStream() throws IOException { return Files.newInputStream(path); }
+        @Override public void transferTo(File dest) throws IOException   { Files.copy(path, dest.toPath()); }
+    }
+}
@@ -0,0 +1,63 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.DashboardResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DashboardCache — versioned entries and ETags")
+class DashboardCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DashboardCache      cache         = new DashboardCache(meterRegistry);
+    private final AtomicInteger       assemblies    = new AtomicInteger();
+
+    @Test @DisplayName("Repeated reads assemble once until a write invalidates")
+    void servesCachedEntryUntilInvalidated() {
+        DashboardCache.Entry first  = cache.get(this::assemble);
+        DashboardCache.Entry second = cache.get(this::assemble);
+        assertThat(second).isSameAs(first);
+        assertThat(assemblies).hasValue(1);
+
+        cache.invalidate();
+        DashboardCache.Entry third = cache.get(this::assemble);
+        assertThat(third.etag()).isNotEqualTo(first.etag());
+        assertThat(assemblies).hasValue(2);
+
+        assertThat(meterRegistry.counter("penny.dashboard.cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("penny.dashboard.cache.requests", "result", "miss").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("penny.dashboard.cache.invalidations").count()).isEqualTo(1);
+    }
+
+    @Test @DisplayName("The current ETag matches the entry built for that version")
+    void currentETagTracksVersion() {
+        String before = cache.currentETag();
+        assertThat(cache.get(this::assemble).etag()).isEqualTo(before);
+        assertThat(before).startsWith("\"").endsWith("\"");
+
+        cache.invalidate();
+        assertThat(cache.currentETag()).isNotEqualTo(before);
+    }
+
+    @Test @DisplayName("An entry assembled across a write is never served for the new version")
+    void writeDuringAssemblyIsNotHidden() {
+        DashboardCache.Entry racing = cache.get(() -> {
+            cache.invalidate();
+            return assemble();
+        });
+        assertThat(racing.etag()).isNotEqualTo(cache.currentETag());
+
+        DashboardCache.Entry next = cache.get(this::assemble);
+        assertThat(next).isNotSameAs(racing);
+        assertThat(next.etag()).isEqualTo(cache.currentETag());
+    }
+
+    private DashboardResponse assemble() {
+        assemblies.incrementAndGet();
+        return DashboardResponse.builder().build();
+    }
+}
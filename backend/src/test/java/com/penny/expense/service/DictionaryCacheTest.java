@@ -0,0 +1,109 @@
+package com.penny.expense.service;
+
+import com.penny.expense.model.Category;
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.Vendor;
+import com.penny.expense.repository.CategoryRepository;
+import com.penny.expense.repository.VendorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DictionaryCache against mocked dictionary repositories: which names are
+ * looked up, which are served from the LRU cache, and what an insert that
+ * loses a race resolves to.
+ */
+@DisplayName("DictionaryCache — LRU name ↔ id cache over the dictionary tables")
+class DictionaryCacheTest {
+
+    private VendorRepository   vendorRepository;
+    private CategoryRepository categoryRepository;
+    private DictionaryCache    cache;
+
+    @BeforeEach
+    void setUp() {
+        vendorRepository   = mock(VendorRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        cache = new DictionaryCache(vendorRepository, categoryRepository, mock(PlatformTransactionManager.class), 2);
+
+        stubVendor(1, "Swiggy");
+        stubVendor(2, "Uber");
+        stubVendor(3, "Airtel");
+        when(categoryRepository.findByName("Food")).thenReturn(Optional.of(new Category(10, "Food")));
+    }
+
+    @Test @DisplayName("A name is looked up once, then resolved from the cache")
+    void cachedAfterFirstLookup() {
+        assertThat(resolve("Swiggy").getVendorId()).isEqualTo(1);
+        assertThat(resolve("Swiggy").getVendorId()).isEqualTo(1);
+
+        verify(vendorRepository, times(1)).findByName("Swiggy");
+        verify(vendorRepository, never()).saveAndFlush(any());
+    }
+
+    @Test @DisplayName("Past the capacity the least recently used name is evicted")
+    void leastRecentlyUsedEvicted() {
+        resolve("Swiggy");
+        resolve("Uber");
+        resolve("Swiggy");     // Uber is now the eldest
+        resolve("Airtel");     // evicts Uber
+
+        resolve("Swiggy");
+        resolve("Uber");
+
+        verify(vendorRepository, times(1)).findByName("Swiggy");
+        verify(vendorRepository, times(2)).findByName("Uber");
+    }
+
+    @Test @DisplayName("A new name is inserted; losing the insert race resolves to the winner's id")
+    void insertRaceFallsBackToWinner() {
+        when(vendorRepository.findByName("Zepto"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new Vendor(42, "Zepto")));
+        when(vendorRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_vendor_name"));
+
+        assertThat(resolve("Zepto").getVendorId()).isEqualTo(42);
+        assertThat(resolve("Zepto").getVendorId()).isEqualTo(42);
+
+        verify(vendorRepository, times(2)).findByName("Zepto");
+    }
+
+    @Test @DisplayName("describe() fills in names by id, reusing ids already resolved")
+    void describeByIds() {
+        when(vendorRepository.findById(3)).thenReturn(Optional.of(new Vendor(3, "Airtel")));
+        resolve("Swiggy");
+
+        Expense loaded = Expense.builder().vendorId(3).categoryId(10).build();
+        cache.describe(loaded);
+        cache.describe(loaded);
+
+        assertThat(loaded.getVendorName()).isEqualTo("Airtel");
+        assertThat(loaded.getCategory()).isEqualTo("Food");
+        verify(vendorRepository, times(1)).findById(3);
+        verify(categoryRepository, never()).findById(any());
+    }
+
+    private Expense resolve(String vendorName) {
+        Expense expense = Expense.builder().vendorName(vendorName).category("Food").build();
+        cache.resolve(expense);
+        return expense;
+    }
+
+    private void stubVendor(int id, String name) {
+        when(vendorRepository.findByName(name)).thenReturn(Optional.of(new Vendor(id, name)));
+    }
+}
@@ -0,0 +1,240 @@
+package com.penny.expense.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * expenses with vendor and category names on every row vs integer keys
+ * into the vendors and categories dictionaries: table size, index size
+ * and the dashboard's GROUP BY latency, on H2 — the database this sandbox
+ * has; storage-report.sql gives the same view on PostgreSQL.
+ *
+ * Each layout gets its own file database holding the same rows and the
+ * same secondary indexes. Table size is the compacted file with primary
+ * keys only (for ids, the dictionaries included); index size is what the
+ * secondary indexes add to it. Latency is the median of five warm runs.
+ *
+ * Opt-in:
+ *   mvn test -Dtest=DictionaryStorageBenchmarkTest -Dbenchmarks=true
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@DisplayName("Dictionary tables — H2 table, index and GROUP BY cost, names vs ids (opt-in)")
+class DictionaryStorageBenchmarkTest {
+
+    private static final int      ROWS       = 1_000_000;
+    private static final int      VENDORS    = 2_000;
+    private static final String[] CATEGORIES = {"Food", "Transport", "Shopping", "Utilities", "Entertainment",
+                                                "Health", "Finance", "Other"};
+
+    private static final Layout NAMES = new Layout("names",
+            List.of("""
+                    CREATE TABLE expenses (
+                        id BIGINT PRIMARY KEY, date DATE NOT NULL, amount NUMERIC(12,2) NOT NULL,
+                        vendor_name VARCHAR(200) NOT NULL, category VARCHAR(100) NOT NULL,
+                        description VARCHAR(500), fingerprint UUID, import_batch UUID,
+                        is_anomaly BOOLEAN NOT NULL, created_at TIMESTAMP(6))"""),
+            List.of("CREATE INDEX idx_expense_vendor ON expenses (vendor_name)",
+                    "CREATE INDEX idx_expense_category_flag_amount ON expenses (category, is_anomaly, amount)",
+                    "CREATE INDEX idx_expense_date_id ON expenses (date, id)",
+                    "CREATE INDEX idx_expense_category_date_id ON expenses (category, date, id)",
+                    "CREATE INDEX idx_expense_anomaly_date_id ON expenses (is_anomaly, date, id)",
+                    "CREATE INDEX idx_expense_amount ON expenses (amount)",
+                    "CREATE UNIQUE INDEX uk_expense_fingerprint ON expenses (fingerprint)",
+                    "CREATE INDEX idx_expense_import_batch ON expenses (import_batch)"),
+            List.of("""
+                    SELECT vendor_name, SUM(amount), COUNT(*) FROM expenses
+                     GROUP BY vendor_name ORDER BY SUM(amount) DESC LIMIT 5""", """
+                    SELECT category, SUM(amount), COUNT(*) FROM expenses
+                     GROUP BY category ORDER BY SUM(amount) DESC""", """
+                    SELECT EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date), category, SUM(amount)
+                      FROM expenses
+                     GROUP BY EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date), category"""),
+            "INSERT INTO expenses (id, date, amount, vendor_name, category, description, fingerprint, "
+                    + "is_anomaly, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+    private static final Layout IDS = new Layout("ids",
+            List.of("CREATE TABLE vendors (id INTEGER PRIMARY KEY, name VARCHAR(200) NOT NULL, "
+                            + "CONSTRAINT uk_vendor_name UNIQUE (name))",
+                    "CREATE TABLE categories (id INTEGER PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                            + "CONSTRAINT uk_category_name UNIQUE (name))",
+                    """
+                    CREATE TABLE expenses (
+                        id BIGINT PRIMARY KEY, date DATE NOT NULL, amount NUMERIC(12,2) NOT NULL,
+                        vendor_id INTEGER NOT NULL, category_id INTEGER NOT NULL,
+                        description VARCHAR(500), fingerprint UUID, import_batch UUID,
+                        is_anomaly BOOLEAN NOT NULL, created_at TIMESTAMP(6))"""),
+            List.of("CREATE INDEX idx_expense_vendor ON expenses (vendor_id)",
+                    "CREATE INDEX idx_expense_category_flag_amount ON expenses (category_id, is_anomaly, amount)",
+                    "CREATE INDEX idx_expense_date_id ON expenses (date, id)",
+                    "CREATE INDEX idx_expense_category_date_id ON expenses (category_id, date, id)",
+                    "CREATE INDEX idx_expense_anomaly_date_id ON expenses (is_anomaly, date, id)",
+                    "CREATE INDEX idx_expense_amount ON expenses (amount)",
+                    "CREATE UNIQUE INDEX uk_expense_fingerprint ON expenses (fingerprint)",
+                    "CREATE INDEX idx_expense_import_batch ON expenses (import_batch)"),
+            List.of("""
+                    SELECT v.name, SUM(e.amount), COUNT(*) FROM expenses e JOIN vendors v ON v.id = e.vendor_id
+                     GROUP BY v.id, v.name ORDER BY SUM(e.amount) DESC LIMIT 5""", """
+                    SELECT c.name, SUM(e.amount), COUNT(*) FROM expenses e JOIN categories c ON c.id = e.category_id
+                     GROUP BY c.id, c.name ORDER BY SUM(e.amount) DESC""", """
+                    SELECT EXTRACT(YEAR FROM e.date), EXTRACT(MONTH FROM e.date), c.name, SUM(e.amount)
+                      FROM expenses e JOIN categories c ON c.id = e.category_id
+                     GROUP BY EXTRACT(YEAR FROM e.date), EXTRACT(MONTH FROM e.date), c.id, c.name"""),
+            "INSERT INTO expenses (id, date, amount, vendor_id, category_id, description, fingerprint, "
+                    + "is_anomaly, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+    private static final String[] QUERIES = {"top vendors", "category totals", "month x category"};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void compareNamesWithIds() throws Exception {
+        Report names = measure(NAMES);
+        Report ids   = measure(IDS);
+
+        System.out.printf("%,d rows, %,d vendors, %d categories (H2 %s, file database)%n",
+                ROWS, VENDORS, CATEGORIES.length, org.h2.engine.Constants.FULL_VERSION);
+        System.out.printf("%-18s %12s %12s%n", "", "names", "ids");
+        System.out.printf("%-18s %9.1f MB %9.1f MB%n", "table", mb(names.tableBytes()), mb(ids.tableBytes()));
+        System.out.printf("%-18s %9.1f MB %9.1f MB%n", "indexes", mb(names.indexBytes()), mb(ids.indexBytes()));
+        for (int q = 0; q < QUERIES.length; q++) {
+            System.out.printf("%-18s %9.1f ms %9.1f ms%n", QUERIES[q], names.medianMillis()[q], ids.medianMillis()[q]);
+        }
+
+        assertThat(ids.rowsPerQuery()).isEqualTo(names.rowsPerQuery());
+    }
+
+    private Report measure(Layout layout) throws SQLException, IOException {
+        String url = "jdbc:h2:file:" + dir.resolve(layout.name()).toAbsolutePath();
+        Path   file = dir.resolve(layout.name() + ".mv.db");
+
+        try (Connection connection = DriverManager.getConnection(url)) {
+            for (String ddl : layout.tables()) execute(connection, ddl);
+            seed(connection, layout == IDS);
+            execute(connection, "SHUTDOWN COMPACT");
+        }
+        long tableBytes = Files.size(file);
+
+        try (Connection connection = DriverManager.getConnection(url)) {
+            for (String ddl : layout.indexes()) execute(connection, ddl);
+            execute(connection, "SHUTDOWN COMPACT");
+        }
+        long indexBytes = Files.size(file) - tableBytes;
+
+        double[] medians = new double[QUERIES.length];
+        int[]    rows    = new int[QUERIES.length];
+        // Without this H2 hands back the previous result of an unchanged query
+        try (Connection connection = DriverManager.getConnection(url + ";OPTIMIZE_REUSE_RESULTS=FALSE")) {
+            for (int q = 0; q < QUERIES.length; q++) {
+                String sql = layout.groupBys().get(q);
+                for (int warmup = 0; warmup < 2; warmup++) rows[q] = count(connection, sql);
+                double[] millis = new double[5];
+                for (int run = 0; run < millis.length; run++) {
+                    long start = System.nanoTime();
+                    count(connection, sql);
+                    millis[run] = (System.nanoTime() - start) / 1e6;
+                }
+                Arrays.sort(millis);
+                medians[q] = millis[millis.length / 2];
+            }
+        }
+        return new Report(tableBytes, indexBytes, medians, rows);
+    }
+
+    /** The same rows for either layout: one seeded generator, names or their 1-based ids. */
+    private static void seed(Connection connection, boolean ids) throws SQLException {
+        List<String> vendors = new ArrayList<>(VENDORS);
+        for (int v = 0; v < VENDORS; v++) vendors.add(String.format("Merchant %04d Retail", v));
+        if (ids) {
+            dictionary(connection, "vendors", vendors);
+            dictionary(connection, "categories", Arrays.asList(CATEGORIES));
+        }
+
+        connection.setAutoCommit(false);
+        Random    random  = new Random(14);
+        LocalDate start   = LocalDate.of(2022, 1, 1);
+        Timestamp created = Timestamp.valueOf(start.atStartOfDay());
+        try (PreparedStatement insert = connection.prepareStatement(ids ? IDS.insert() : NAMES.insert())) {
+            for (int i = 0; i < ROWS; i++) {
+                int vendor   = random.nextInt(random.nextInt(VENDORS) + 1);   // skewed towards low ids
+                int category = vendor % CATEGORIES.length;
+                insert.setLong(1, i + 1);
+                insert.setDate(2, Date.valueOf(start.plusDays(random.nextInt(730))));
+                insert.setBigDecimal(3, BigDecimal.valueOf(50 + random.nextInt(500_000), 2));
+                if (ids) {
+                    insert.setInt(4, vendor + 1);
+                    insert.setInt(5, category + 1);
+                } else {
+                    insert.setString(4, vendors.get(vendor));
+                    insert.setString(5, CATEGORIES[category]);
+                }
+                insert.setString(6, "generated row " + i);
+                insert.setObject(7, new UUID(random.nextLong(), random.nextLong()));
+                insert.setBoolean(8, false);
+                insert.setTimestamp(9, created);
+                insert.addBatch();
+                if ((i + 1) % 10_000 == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+    }
+
+    private static void dictionary(Connection connection, String table, List<String> names) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < names.size(); i++) {
+                insert.setInt(1, i + 1);
+                insert.setString(2, names.get(i));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static int count(Connection connection, String sql) throws SQLException {
+        int rows = 0;
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+            while (result.next()) rows++;
+        }
+        return rows;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private record Layout(String name, List<String> tables, List<String> indexes, List<String> groupBys, String insert) {}
+
+    private record Report(long tableBytes, long indexBytes, double[] medianMillis, int[] rowsPerQuery) {}
+}
@@ -0,0 +1,209 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ImportJobResponse;
+import com.penny.expense.dto.ExpenseRequest;
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports overlapping statements as upload jobs, two rows per chunk so
+ * every file spans several separately committed chunks, and checks that
+ * each stored row is imported once, while identical rows within one
+ * statement are all kept.
+ */
+@SpringBootTest(properties = "app.import.chunk-size=2")
+@DisplayName("Duplicate detection — re-uploads skip rows already stored")
+class DuplicateImportTest {
+
+    @Autowired private ExpenseService    expenseService;
+    @Autowired private ImportJobService  importJobService;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private RollupMaintainer  rollupMaintainer;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+        rollupMaintainer.rebuild();
+    }
+
+    @Test @DisplayName("Uploading the same statement twice adds nothing the second time")
+    void sameFileTwice() {
+        String statement = """
+                date,amount,vendor_name,description
+                2024-01-15,450.00,Swiggy,Lunch
+                2024-01-16,120.50,Uber,Ride
+                2024-01-16,120.50,Uber,Ride
+                """;
+
+        ImportJobResponse first  = importCsv(statement);
+        ImportJobResponse second = importCsv(statement);
+
+        assertThat(first.getRowsProcessed()).isEqualTo(3);
+        assertThat(first.getSkippedDuplicates()).isZero();
+        assertThat(second.getRowsProcessed()).isZero();
+        assertThat(second.getSkippedDuplicates()).isEqualTo(3);
+        assertThat(expenseRepository.count()).isEqualTo(3);
+    }
+
+    @Test @DisplayName("An overlapping statement adds only its new rows; vendor spelling does not matter")
+    void overlappingStatements() {
+        importCsv("""
+                date,amount,vendor_name,description
+                2024-01-10,300.00,Swiggy,Dinner
+                2024-01-12,99.99,Zomato,Snack
+                2024-01-12,99.99,Zomato,Snack
+                """);
+
+        ImportJobResponse overlap = importCsv("""
+                date,amount,vendor_name,description
+                2024-01-12,99.99,  ZOMATO ,Snack
+                2024-01-12,99.99,Zomato,Snack
+                2024-01-12,99.99,Zomato,Snack
+                2024-01-20,1200.00,Airtel,Broadband
+                """);
+
+        assertThat(overlap.getSkippedDuplicates()).isEqualTo(2);
+        assertThat(overlap.getRowsProcessed()).isEqualTo(2);
+        assertThat(expenseRepository.count()).isEqualTo(5);
+    }
+
+    @Test @DisplayName("Identical rows in different chunks of one file are both kept")
+    void identicalRowsAcrossChunks() {
+        DuplicateDetector duplicates = expenseService.duplicateDetector();
+
+        int first  = expenseService.importChunk(List.of(expense("Ride"), expense("Coffee")), duplicates);
+        int second = expenseService.importChunk(List.of(expense("Coffee")), duplicates);
+
+        assertThat(first + second).isEqualTo(3);
+        assertThat(duplicates.skipped()).isZero();
+    }
+
+    @Test @DisplayName("Rows another import stored after their dates were loaded are counted as duplicates")
+    void concurrentImportOfTheSameRows() {
+        DuplicateDetector duplicates = expenseService.duplicateDetector();
+        expenseService.importChunk(List.of(expense("Ride")), duplicates);
+
+        // A second import commits "Coffee" behind the first one's back
+        expenseService.importChunk(List.of(expense("Coffee")), expenseService.duplicateDetector());
+
+        int inserted = expenseService.importChunk(List.of(expense("Coffee"), expense("Tea")), duplicates);
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(duplicates.skipped()).isEqualTo(1);
+        assertThat(expenseRepository.count()).isEqualTo(3);
+    }
+
+    @Test @DisplayName("Two jobs importing the same statement at once store each row once between them")
+    void overlappingJobs() {
+        StringBuilder statement = new StringBuilder("date,amount,vendor_name,description\n");
+        for (int row = 0; row < 400; row++) {
+            statement.append("2024-04-").append(10 + row % 20).append(",42.00,Uber,Ride ").append(row).append('\n');
+        }
+
+        ImportJobResponse one = ImportJobs.submit(importJobService, statement.toString());
+        ImportJobResponse two = ImportJobs.submit(importJobService, statement.toString());
+        one = ImportJobs.await(importJobService, one);
+        two = ImportJobs.await(importJobService, two);
+
+        assertThat(one.getStatus()).as(one.getMessage()).isEqualTo("SUCCEEDED");
+        assertThat(two.getStatus()).as(two.getMessage()).isEqualTo("SUCCEEDED");
+        assertThat(one.getRowsProcessed() + two.getRowsProcessed()).isEqualTo(400);
+        assertThat(one.getSkippedDuplicates() + two.getSkippedDuplicates()).isEqualTo(400);
+        assertThat(expenseRepository.count()).isEqualTo(400);
+    }
+
+    @Test @DisplayName("Concurrent manual entries of the same expense all get their own fingerprint")
+    void concurrentManualEntries() throws Exception {
+        int             writers = 4;
+        ExecutorService pool    = Executors.newFixedThreadPool(writers);
+        CountDownLatch  start   = new CountDownLatch(1);
+        try {
+            List<Future<ExpenseResponse>> created = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                created.add(pool.submit(() -> {
+                    start.await();
+                    return expenseService.create(request());
+                }));
+            }
+            start.countDown();
+            for (Future<ExpenseResponse> response : created) {
+                assertThat(response.get(30, TimeUnit.SECONDS).getId()).isNotNull();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(expenseRepository.count()).isEqualTo(writers);
+    }
+
+    @Test @DisplayName("The same expense entered twice by hand is kept twice, and an upload matches both")
+    void manualEntries() {
+        ExpenseResponse one = expenseService.create(request());
+        ExpenseResponse two = expenseService.create(request());
+        assertThat(two.getId()).isNotEqualTo(one.getId());
+
+        ImportJobResponse upload = importCsv("""
+                date,amount,vendor_name,description
+                2024-02-01,75.00,Corner Store,Milk
+                2024-02-01,75.00,Corner Store,Milk
+                2024-02-01,75.00,Corner Store,Milk
+                """);
+
+        assertThat(upload.getSkippedDuplicates()).isEqualTo(2);
+        assertThat(upload.getRowsProcessed()).isEqualTo(1);
+    }
+
+    @Test @DisplayName("An expense entered more often than one fingerprint lookup covers takes the next ordinals")
+    void manualEntriesPastOneLookup() {
+        for (int i = 0; i < 20; i++) expenseService.create(request());
+        assertThat(expenseRepository.count()).isEqualTo(20);
+
+        // Ordinals 0..19 were taken in order, so only the 21st copy is new
+        ImportJobResponse upload = importCsv("date,amount,vendor_name,description\n"
+                + "2024-02-01,75.00,Corner Store,Milk\n".repeat(21));
+
+        assertThat(upload.getSkippedDuplicates()).isEqualTo(20);
+        assertThat(upload.getRowsProcessed()).isEqualTo(1);
+    }
+
+    private static Expense expense(String description) {
+        return Expense.builder()
+                .date(LocalDate.of(2024, 3, 5))
+                .amount(new BigDecimal("150.00"))
+                .vendorName("Uber")
+                .description(description)
+                .category("Transport")
+                .build();
+    }
+
+    private static ExpenseRequest request() {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDate(LocalDate.of(2024, 2, 1));
+        request.setAmount(new BigDecimal("75.00"));
+        request.setVendorName("Corner Store");
+        request.setDescription("Milk");
+        return request;
+    }
+
+    private ImportJobResponse importCsv(String csv) {
+        return ImportJobs.importCsv(importJobService, csv);
+    }
+}
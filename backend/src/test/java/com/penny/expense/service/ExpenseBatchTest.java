@@ -0,0 +1,92 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ExpenseBatchResult;
+import com.penny.expense.exception.InvalidExpenseException;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Posts JSON arrays through ExpenseService.createBatch and checks the
+ * per-element results against what was stored.
+ */
+@SpringBootTest
+@DisplayName("Batch create — streamed JSON array, one result per element")
+class ExpenseBatchTest {
+
+    @Autowired private ExpenseService    expenseService;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private RollupMaintainer  rollupMaintainer;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+        rollupMaintainer.rebuild();
+    }
+
+    @Test @DisplayName("Valid elements are created; invalid ones are reported by field and skipped")
+    void mixedElements() {
+        ExpenseBatchResult result = expenseService.createBatch(json("""
+                [
+                  {"date": "2024-01-15", "amount": 450.00, "vendorName": "Swiggy", "description": "Lunch"},
+                  {"date": "2024-01-16", "amount": 0, "vendorName": "Uber"},
+                  {"date": "2024-13-01", "amount": 10, "vendorName": "Ola"},
+                  "not an object",
+                  {"date": "2024-01-17", "amount": 120.50, "vendorName": "Uber", "unknown": true}
+                ]
+                """));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getResults()).extracting(ExpenseBatchResult.Item::getStatus)
+                .containsExactly("CREATED", "INVALID", "INVALID", "INVALID", "CREATED");
+        assertThat(result.getResults().get(1).getErrors()).containsEntry("amount", "Amount must be > 0");
+        assertThat(result.getResults().get(2).getErrors()).containsKey("date");
+        assertThat(result.getResults().get(3).getErrors()).containsKey("element");
+        assertThat(expenseRepository.count()).isEqualTo(2);
+    }
+
+    @Test @DisplayName("Posting the same batch again reports every element as a duplicate")
+    void retriedBatch() {
+        String batch = """
+                [{"date": "2024-02-01", "amount": 75, "vendorName": "Corner Store"},
+                 {"date": "2024-02-01", "amount": 75, "vendorName": "Corner Store"}]
+                """;
+
+        assertThat(expenseService.createBatch(json(batch)).getCreated()).isEqualTo(2);
+        ExpenseBatchResult retry = expenseService.createBatch(json(batch));
+
+        assertThat(retry.getCreated()).isZero();
+        assertThat(retry.getDuplicates()).isEqualTo(2);
+        assertThat(retry.getResults()).extracting(ExpenseBatchResult.Item::getStatus)
+                .containsExactly("DUPLICATE", "DUPLICATE");
+        assertThat(expenseRepository.count()).isEqualTo(2);
+    }
+
+    @Test @DisplayName("A body that is not a well-formed array is rejected and stores nothing")
+    void malformedBody() {
+        assertThatThrownBy(() -> expenseService.createBatch(json("{\"date\": \"2024-01-15\"}")))
+                .isInstanceOf(InvalidExpenseException.class);
+        assertThatThrownBy(() -> expenseService.createBatch(json("""
+                [{"date": "2024-01-15", "amount": 450.00, "vendorName": "Swiggy"},
+                 {"date": "2024-01-16", "amount":
+                """)))
+                .isInstanceOf(InvalidExpenseException.class);
+
+        assertThat(expenseRepository.count()).isZero();
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
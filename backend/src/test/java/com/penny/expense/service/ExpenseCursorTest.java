@@ -0,0 +1,33 @@
+package com.penny.expense.service;
+
+import com.penny.expense.exception.InvalidExpenseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExpenseCursor — opaque keyset token")
+class ExpenseCursorTest {
+
+    @Test @DisplayName("Encoding round-trips and is URL-safe")
+    void roundTrips() {
+        ExpenseCursor cursor = new ExpenseCursor(LocalDate.of(2024, 2, 29), 9_007_199_254L);
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(ExpenseCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test @DisplayName("Tampered or foreign tokens are rejected as bad requests")
+    void rejectsGarbage() {
+        assertThatThrownBy(() -> ExpenseCursor.decode("not base64!"))
+                .isInstanceOf(InvalidExpenseException.class);
+        assertThatThrownBy(() -> ExpenseCursor.decode("MjAyNC0wMS0wMQ"))     // "2024-01-01", no id
+                .isInstanceOf(InvalidExpenseException.class);
+        assertThatThrownBy(() -> ExpenseCursor.decode("MjAyNC0xMy0wMXw1"))   // "2024-13-01|5"
+                .isInstanceOf(InvalidExpenseException.class);
+    }
+}
@@ -0,0 +1,154 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ExpenseFilter;
+import com.penny.expense.dto.ExpensePage;
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.exception.InvalidExpenseException;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset pages of GET /api/expenses against the dev database: page
+ * boundaries inside a run of equal dates, the page-size cap, each filter,
+ * and the unpaged listing.
+ */
+@SpringBootTest(properties = "app.expenses.page.max-size=4")
+@AutoConfigureMockMvc
+@DisplayName("Expense listing — keyset pages, filters and unpaged=true")
+class ExpensePagingTest {
+
+    private static final LocalDate PAYDAY = LocalDate.of(2024, 3, 10);
+
+    @Autowired private ExpenseService    expenseService;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private DictionaryCache   dictionaryCache;
+    @Autowired private MockMvc           mockMvc;
+
+    @BeforeEach
+    void seed() {
+        List<Expense> expenses = new ArrayList<>();
+        // Five rows on one date, so pages must break ties on id
+        expenses.add(expense(PAYDAY, "450.00", "Swiggy", "Food", false));
+        expenses.add(expense(PAYDAY, "120.50", "Uber", "Transport", false));
+        expenses.add(expense(PAYDAY, "9999.00", "Amazon", "Shopping", true));
+        expenses.add(expense(PAYDAY, "75.00", "Corner Store", "Other", false));
+        expenses.add(expense(PAYDAY, "300.00", "Zomato", "Food", false));
+        expenses.add(expense(PAYDAY.minusDays(9), "1200.00", "Airtel", "Utilities", false));
+        expenses.add(expense(PAYDAY.plusDays(5), "60.00", "Ola", "Transport", true));
+        expenseRepository.saveAll(expenses);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+    }
+
+    @Test @DisplayName("Paging two at a time visits every row once, newest first, across equal dates")
+    void pagesAcrossEqualDates() {
+        List<ExpenseResponse> seen   = new ArrayList<>();
+        String                cursor = null;
+        do {
+            ExpensePage page = expenseService.findPage(new ExpenseFilter(), cursor, 2);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(7);
+        assertThat(seen).extracting(ExpenseResponse::getId).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(ExpenseResponse::getDate)
+                .thenComparing(ExpenseResponse::getId).reversed());
+    }
+
+    @Test @DisplayName("A limit above the maximum is capped; a limit below 1 is refused")
+    void limitCapped() {
+        ExpensePage page = expenseService.findPage(new ExpenseFilter(), null, 100);
+
+        assertThat(page.getItems()).hasSize(4);
+        assertThat(page.getNextCursor()).isNotNull();
+        assertThatThrownBy(() -> expenseService.findPage(new ExpenseFilter(), null, 0))
+                .isInstanceOf(InvalidExpenseException.class);
+    }
+
+    @Test @DisplayName("Each filter narrows the rows; bounds are inclusive")
+    void filters() {
+        assertThat(list(f -> f.setCategory("Food")))
+                .extracting(ExpenseResponse::getVendorName).containsExactlyInAnyOrder("Swiggy", "Zomato");
+        assertThat(list(f -> f.setCategory("Nonexistent"))).isEmpty();
+
+        assertThat(list(f -> f.setFrom(PAYDAY)))
+                .extracting(ExpenseResponse::getDate).allMatch(date -> !date.isBefore(PAYDAY)).hasSize(6);
+        assertThat(list(f -> f.setTo(PAYDAY.minusDays(1))))
+                .extracting(ExpenseResponse::getVendorName).containsExactly("Airtel");
+
+        assertThat(list(f -> f.setMinAmount(new BigDecimal("1200.00"))))
+                .extracting(ExpenseResponse::getVendorName).containsExactlyInAnyOrder("Amazon", "Airtel");
+        assertThat(list(f -> f.setMaxAmount(new BigDecimal("75.00"))))
+                .extracting(ExpenseResponse::getVendorName).containsExactlyInAnyOrder("Corner Store", "Ola");
+
+        assertThat(list(f -> f.setAnomaly(true)))
+                .extracting(ExpenseResponse::getVendorName).containsExactlyInAnyOrder("Amazon", "Ola");
+        assertThat(list(f -> f.setAnomaly(false))).hasSize(5);
+    }
+
+    @Test @DisplayName("unpaged=true returns every row as a plain array; without it, a page")
+    void unpaged() throws Exception {
+        mockMvc.perform(get("/api/expenses").param("unpaged", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(7))
+                .andExpect(jsonPath("$[0].vendorName").value("Ola"));
+
+        mockMvc.perform(get("/api/expenses").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    /** Every row matching the filter, across as many pages as it takes. */
+    private List<ExpenseResponse> list(Consumer<ExpenseFilter> filterSetup) {
+        ExpenseFilter filter = new ExpenseFilter();
+        filterSetup.accept(filter);
+        List<ExpenseResponse> rows   = new ArrayList<>();
+        String                cursor = null;
+        do {
+            ExpensePage page = expenseService.findPage(filter, cursor, null);
+            rows.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return rows;
+    }
+
+    private Expense expense(LocalDate date, String amount, String vendor, String category, boolean anomaly) {
+        Expense expense = Expense.builder()
+                .date(date)
+                .amount(new BigDecimal(amount))
+                .vendorName(vendor)
+                .category(category)
+                .description(vendor + " on " + date)
+                .isAnomaly(anomaly)
+                .build();
+        dictionaryCache.resolve(expense);
+        return expense;
+    }
+}
@@ -0,0 +1,123 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.mapper.ExpenseMapper;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes allocated per row when listing 1M expenses: managed entities
+ * copied through ExpenseMapper vs the JPQL constructor projection.
+ *
+ * Opt-in, against the dev-profile H2 database (needs a few GB of heap):
+ *   mvn test -Dtest=ExpenseReadPathBenchmarkTest -Dbenchmarks=true -DargLine=-Xmx4g
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@DisplayName("Read path — entity + mapper vs DTO projection (opt-in)")
+class ExpenseReadPathBenchmarkTest {
+
+    private static final int      ROWS    = 1_000_000;
+    private static final String[] VENDORS = {"Swiggy", "Uber", "Amazon", "Netflix", "Airtel", "Apollo Pharmacy"};
+
+    @Autowired private ExpenseRepository          expenseRepository;
+    @Autowired private ExpenseMapper              expenseMapper;
+    @Autowired private DictionaryCache            dictionaryCache;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void seed() {
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Random    random = new Random(11);
+        LocalDate start  = LocalDate.of(2022, 1, 1);
+        for (int offset = 0; offset < ROWS; offset += 10_000) {
+            List<Expense> chunk = new ArrayList<>(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                chunk.add(Expense.builder()
+                        .date(start.plusDays(random.nextInt(1_000)))
+                        .amount(BigDecimal.valueOf(50 + random.nextInt(500_000), 2))
+                        .vendorName(VENDORS[random.nextInt(VENDORS.length)])
+                        .description("generated row " + (offset + i))
+                        .category("Other")
+                        .build());
+            }
+            chunk.forEach(dictionaryCache::resolve);
+            write.executeWithoutResult(status -> expenseRepository.insertBatch(chunk));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareAllocationPerRow() {
+        Supplier<List<ExpenseResponse>> entities = () -> readOnly.execute(status ->
+                expenseRepository.findAll(Sort.by(Sort.Direction.DESC, "date", "id")).stream()
+                        .map(expense -> {
+                            dictionaryCache.describe(expense);
+                            return expenseMapper.toResponse(expense);
+                        })
+                        .toList());
+        Supplier<List<ExpenseResponse>> projection = () -> readOnly.execute(status ->
+                expenseRepository.findAllResponses());
+
+        // Warm up both paths (query plans, JIT) before measuring
+        entities.get();
+        projection.get();
+
+        for (int round = 0; round < 3; round++) {
+            Measurement viaEntities   = measure(entities);
+            Measurement viaProjection = measure(projection);
+            System.out.printf("round %d: entity+mapper %,d B/row %,d ms | projection %,d B/row %,d ms (%.1f%% fewer bytes)%n",
+                    round,
+                    viaEntities.bytesPerRow(), viaEntities.millis(),
+                    viaProjection.bytesPerRow(), viaProjection.millis(),
+                    100.0 * (viaEntities.bytesPerRow() - viaProjection.bytesPerRow()) / viaEntities.bytesPerRow());
+        }
+    }
+
+    // ── Helpers
+
+    private static Measurement measure(Supplier<List<ExpenseResponse>> listing) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start       = System.nanoTime();
+        List<ExpenseResponse> rows = listing.get();
+        long millis      = (System.nanoTime() - start) / 1_000_000;
+        long allocated   = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertThat(rows).hasSize(ROWS);
+        return new Measurement(allocated / ROWS, millis);
+    }
+
+    private record Measurement(long bytesPerRow, long millis) {}
+}
@@ -0,0 +1,46 @@
+package com.penny.expense.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FingerprintFilter — no false negatives, false positives near the target rate")
+class FingerprintFilterTest {
+
+    private static final int ENTRIES = 100_000;
+
+    @Test @DisplayName("Every added fingerprint is reported as possibly present")
+    void noFalseNegatives() {
+        FingerprintFilter filter = new FingerprintFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) filter.add(fingerprint(i));
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertThat(filter.mightContain(fingerprint(i))).isTrue();
+        }
+    }
+
+    @Test @DisplayName("Unseen fingerprints are rejected at about the configured rate")
+    void falsePositiveRate() {
+        FingerprintFilter filter = new FingerprintFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) filter.add(fingerprint(i));
+
+        int falsePositives = 0;
+        for (int i = ENTRIES; i < ENTRIES * 2; i++) {
+            if (filter.mightContain(fingerprint(i))) falsePositives++;
+        }
+        assertThat(falsePositives / (double) ENTRIES).isLessThan(0.015);
+    }
+
+    @Test @DisplayName("An empty filter rejects everything")
+    void emptyFilter() {
+        assertThat(new FingerprintFilter(0, 0.01).mightContain(fingerprint(1))).isFalse();
+    }
+
+    private static UUID fingerprint(int i) {
+        return UUID.nameUUIDFromBytes(ByteBuffer.allocate(4).putInt(i).array());
+    }
+}
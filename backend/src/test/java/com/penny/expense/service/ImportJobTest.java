@@ -0,0 +1,63 @@
+package com.penny.expense.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImportJob — status transitions and progress")
+class ImportJobTest {
+
+    private final ImportJob job = new ImportJob("job-1", "expenses.csv", Path.of("unused.csv"));
+
+    @Test @DisplayName("A job runs, counts committed and rejected rows as it goes and lists row errors when done")
+    void runsToCompletion() {
+        assertThat(job.toResponse().getStatus()).isEqualTo("QUEUED");
+        assertThat(job.start()).isTrue();
+
+        job.rejected(1);
+        job.committed(500, 0);
+        job.rejected(2);
+        job.committed(250, 12);
+        assertThat(job.toResponse().getStatus()).isEqualTo("RUNNING");
+        assertThat(job.toResponse().getRowsProcessed()).isEqualTo(750);
+        assertThat(job.toResponse().getSkippedDuplicates()).isEqualTo(12);
+        assertThat(job.toResponse().getRowsFailed()).isEqualTo(3);
+
+        job.succeeded(List.of("Row 7: amount is required", "Row 9: amount is required", "Row 600: vendor_name is required"));
+        assertThat(job.toResponse().getStatus()).isEqualTo("SUCCEEDED");
+        assertThat(job.toResponse().getRowsFailed()).isEqualTo(3);
+        assertThat(job.toResponse().getErrors()).hasSize(3);
+        assertThat(job.toResponse().getRowsPerSecond()).isPositive();
+        assertThat(job.toResponse().getFinishedAt()).isNotNull();
+    }
+
+    @Test @DisplayName("Cancelling a queued job finishes it before it ever starts")
+    void cancelWhileQueued() {
+        job.cancel();
+
+        assertThat(job.start()).isFalse();
+        assertThat(job.toResponse().getStatus()).isEqualTo("CANCELLED");
+        assertThat(job.toResponse().getRowsProcessed()).isZero();
+    }
+
+    @Test @DisplayName("Cancelling a running job stops it at the next chunk, keeping committed rows")
+    void cancelWhileRunning() {
+        job.start();
+        job.committed(500, 0);
+        job.checkNotCancelled();
+
+        job.cancel();
+        assertThat(job.toResponse().getStatus()).isEqualTo("RUNNING");
+        assertThatThrownBy(job::checkNotCancelled).isInstanceOf(CancellationException.class);
+
+        job.cancelled();
+        assertThat(job.toResponse().getStatus()).isEqualTo("CANCELLED");
+        assertThat(job.toResponse().getRowsProcessed()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,60 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.ImportJobResponse;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Imports CSV text the way {@code POST /api/expenses/upload-csv} does —
+ * spooled and run as an {@link ImportJobService} job, chunk by chunk
+ * through {@link ExpenseService#importChunk} — and waits for the job.
+ */
+final class ImportJobs {
+
+    private static final Set<String> FINISHED = Set.of("SUCCEEDED", "FAILED", "CANCELLED");
+    private static final Duration    TIMEOUT  = Duration.ofSeconds(60);
+
+    private ImportJobs() {}
+
+    /** Import {@code csv} and return the job once it has succeeded. */
+    static ImportJobResponse importCsv(ImportJobService jobs, String csv) {
+        ImportJobResponse done = await(jobs, submit(jobs, csv));
+        assertThat(done.getStatus()).as(done.getMessage()).isEqualTo("SUCCEEDED");
+        return done;
+    }
+
+    /** Queue an import of {@code csv} without waiting for it. */
+    static ImportJobResponse submit(ImportJobService jobs, String csv) {
+        return jobs.submit(new MockMultipartFile("file", "statement.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** The job's final state; fails the test if it is still running after a minute. */
+    static ImportJobResponse await(ImportJobService jobs, ImportJobResponse queued) {
+        return await(jobs, queued, TIMEOUT);
+    }
+
+    static ImportJobResponse await(ImportJobService jobs, ImportJobResponse queued, Duration timeout) {
+        Instant deadline = Instant.now().plus(timeout);
+        while (Instant.now().isBefore(deadline)) {
+            ImportJobResponse current = jobs.status(queued.getId());
+            if (FINISHED.contains(current.getStatus())) {
+                return current;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("Import job " + queued.getId() + " did not finish within " + timeout);
+    }
+}
@@ -0,0 +1,137 @@
+package com.penny.expense.service;
+
+import com.penny.expense.service.strategy.CsvExpenseParser;
+import com.penny.expense.service.strategy.ExpenseFileParser;
+import com.penny.expense.service.strategy.KeywordCategorizationStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Parses a 100 MB statement from disk, as uploaded and gzip-compressed,
+ * the way an import job reads its spool. Both fixtures are generated
+ * into a temp directory once, streamed so neither is ever on the heap.
+ */
+@DisplayName("Large uploads — 100 MB plain and gzip-compressed CSV from disk")
+class LargeUploadTest {
+
+    private static final long FIXTURE_BYTES = 100L * 1024 * 1024;
+    private static final int  CHUNK_SIZE    = 500;
+
+    private static final String[] VENDORS = {
+            "Swiggy", "Zomato", "Uber", "Ola", "Amazon", "Netflix", "Airtel", "Corner Store"
+    };
+
+    @TempDir static Path dir;
+
+    private static Path plain;
+    private static Path gzip;
+    private static int  rows;
+
+    private static final CsvExpenseParser parser =
+            new CsvExpenseParser(new KeywordCategorizationStrategy(), new SimpleMeterRegistry(), 4 * 1024 * 1024, 0, Long.MAX_VALUE);
+
+    @BeforeAll
+    static void writeFixtures() throws IOException {
+        plain = dir.resolve("statement.csv");
+        gzip  = dir.resolve("statement.csv.gz");
+        try (Writer csv        = Files.newBufferedWriter(plain, StandardCharsets.UTF_8);
+             Writer compressed = new BufferedWriter(new OutputStreamWriter(
+                     new GZIPOutputStream(Files.newOutputStream(gzip), 64 * 1024), StandardCharsets.UTF_8))) {
+            Random    random  = new Random(42);
+            LocalDate start   = LocalDate.of(2022, 1, 1);
+            long      written = write("date,amount,vendor_name,description\n", csv, compressed);
+            while (written < FIXTURE_BYTES) {
+                String line = start.plusDays(random.nextInt(1_000)) + ","
+                        + (50 + random.nextInt(5_000)) + "." + (10 + random.nextInt(90)) + ","
+                        + VENDORS[random.nextInt(VENDORS.length)] + ",generated row " + rows + "\n";
+                written += write(line, csv, compressed);
+                rows++;
+            }
+        }
+    }
+
+    @Test @DisplayName("The uncompressed fixture is parsed in full")
+    void plainUpload() {
+        ExpenseFileParser.ChunkedParseResult result = parse(new SpooledUpload(plain, "statement.csv", "text/csv"));
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(result.accepted()).isEqualTo(rows);
+    }
+
+    @Test @DisplayName("The gzip fixture is inflated on the fly and yields the same rows")
+    void gzipUpload() throws IOException {
+        assertThat(Files.size(gzip)).isLessThan(Files.size(plain) / 2);
+
+        ExpenseFileParser.ChunkedParseResult result =
+                parse(new SpooledUpload(gzip, "statement.csv.gz", "application/gzip"));
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(result.accepted()).isEqualTo(rows);
+    }
+
+    @Test @DisplayName("A compressed file is recognised by content, whatever it is called")
+    void gzipWithoutExtension() {
+        ExpenseFileParser.ChunkedParseResult result =
+                parse(new SpooledUpload(gzip, "statement.csv", "application/octet-stream"));
+
+        assertThat(result.accepted()).isEqualTo(rows);
+    }
+
+    @Test @DisplayName("Inflation stops at the decompressed-size cap, reported as a file error")
+    void gzipOverInflatedCap() {
+        CsvExpenseParser capped = new CsvExpenseParser(
+                new KeywordCategorizationStrategy(), new SimpleMeterRegistry(), 4 * 1024 * 1024, 1, 1024 * 1024);
+
+        ExpenseFileParser.ChunkedParseResult result =
+                capped.parse(new SpooledUpload(gzip, "statement.csv.gz", "application/gzip"), CHUNK_SIZE, chunk -> {});
+
+        assertThat(result.errors()).anySatisfy(error -> assertThat(error).contains("decompressed upload exceeds"));
+        assertThat(result.accepted()).isLessThan(rows);
+    }
+
+    @Test @DisplayName("A request body beyond the upload limit is refused while it is spooled")
+    void bodyOverLimit() throws IOException {
+        ImportJobService jobs = new ImportJobService(null, null, CHUNK_SIZE, 1, 1, 60, DataSize.ofMegabytes(1));
+        try (InputStream body = Files.newInputStream(gzip)) {
+            assertThatThrownBy(() -> jobs.submit(body, "statement.csv.gz", "application/gzip"))
+                    .isInstanceOf(MaxUploadSizeExceededException.class);
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    private static ExpenseFileParser.ChunkedParseResult parse(SpooledUpload upload) {
+        AtomicInteger largestChunk = new AtomicInteger();
+        ExpenseFileParser.ChunkedParseResult result = parser.parse(upload, CHUNK_SIZE,
+                chunk -> largestChunk.accumulateAndGet(chunk.size(), Math::max));
+        assertThat(largestChunk.get()).isLessThanOrEqualTo(CHUNK_SIZE);
+        return result;
+    }
+
+    private static long write(String line, Writer csv, Writer compressed) throws IOException {
+        csv.write(line);
+        compressed.write(line);
+        return line.length();
+    }
+}
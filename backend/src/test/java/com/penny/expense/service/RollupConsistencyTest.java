@@ -0,0 +1,223 @@
+package com.penny.expense.service;
+
+import com.penny.expense.config.RollupInitializer;
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.dto.ExpenseRequest;
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.model.CategoryStats;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.CategoryStatsRepository;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.strategy.DefaultDashboardAssembler;
+import com.penny.expense.service.strategy.RollupDashboardAssembler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives creates, upload jobs and deletes through the services and checks
+ * that the rollup-backed dashboard matches the GROUP BY one after each
+ * step, and again after a full rebuild; that concurrent first writes
+ * to one rollup row all land; and that startup rebuilds only stale rollups.
+ */
+@SpringBootTest
+@DisplayName("Rollups — consistent with GROUP BY over expenses")
+class RollupConsistencyTest {
+
+    @Autowired private ExpenseService            expenseService;
+    @Autowired private ImportJobService          importJobService;
+    @Autowired private ExpenseRepository         expenseRepository;
+    @Autowired private RollupMaintainer          rollupMaintainer;
+    @Autowired private DefaultDashboardAssembler sqlAssembler;
+    @Autowired private RollupDashboardAssembler  rollupAssembler;
+    @Autowired private CategoryStatsRepository   categoryStatsRepository;
+    @Autowired private DictionaryCache           dictionaryCache;
+    @Autowired private TransactionTemplate       transactionTemplate;
+    @Autowired private RollupInitializer         rollupInitializer;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+        rollupMaintainer.rebuild();
+    }
+
+    @Test @DisplayName("Create, upload and delete keep every rollup in step")
+    void writesKeepRollupsConsistent() {
+        ExpenseResponse lunch = expenseService.create(request("2024-01-15", "450.00", "Swiggy"));
+        expenseService.create(request("2024-01-20", "120.50", "Uber"));
+        expenseService.create(request("2024-02-03", "75000.00", "Amazon"));
+        assertConsistent();
+
+        ImportJobs.importCsv(importJobService, """
+                date,amount,vendor_name,description
+                2024-01-16,300.00,Swiggy,Dinner
+                2024-02-10,99.99,Zomato,Snack
+                2024-03-01,1200.00,Airtel,Broadband
+                not-a-date,1.00,Uber,Bad row
+                2023-12-31,45.25,Uber,Ride
+                """);
+        assertConsistent();
+
+        expenseService.delete(lunch.getId());
+        expenseService.findAll().stream()
+                .filter(expense -> "Airtel".equals(expense.getVendorName()))
+                .forEach(expense -> expenseService.delete(expense.getId()));
+        assertConsistent();
+
+        rollupMaintainer.rebuild();
+        assertConsistent();
+    }
+
+    @Test @DisplayName("A date- and category-scoped dashboard covers only the rows in scope")
+    void scopedDashboardPrunesToScope() {
+        expenseService.create(request("2024-01-15", "450.00", "Swiggy"));
+        expenseService.create(request("2024-01-20", "120.50", "Uber"));
+        expenseService.create(request("2024-01-25", "80.00", "Zomato"));
+        expenseService.create(request("2024-02-03", "300.00", "Swiggy"));
+
+        DashboardFilter january = new DashboardFilter();
+        january.setFrom(LocalDate.of(2024, 1, 1));
+        january.setTo(LocalDate.of(2024, 1, 31));
+        DashboardResponse month = rollupAssembler.assemble(january);
+        assertThat(month.getMonthlyByCategory()).containsOnlyKeys("2024-01");
+        assertThat(month.getCategoryTotals().stream().mapToLong(DashboardResponse.CategoryStat::getCount).sum()).isEqualTo(3);
+
+        january.setCategory(month.getCategoryTotals().get(0).getCategory());
+        DashboardResponse category = rollupAssembler.assemble(january);
+        assertThat(category.getCategoryTotals()).hasSize(1);
+        assertThat(category.getCategoryTotals().get(0).getTotal())
+                .isEqualByComparingTo(month.getCategoryTotals().get(0).getTotal());
+
+        january.setCategory("No such category");
+        assertThat(rollupAssembler.assemble(january).getMonthlyByCategory()).isEmpty();
+    }
+
+    @Test @DisplayName("Writers creating the same rollup row at once all land, none is lost")
+    void concurrentFirstWritesToOneRow() throws Exception {
+        int             writers = 8;
+        ExecutorService pool    = Executors.newFixedThreadPool(writers);
+        CountDownLatch  start   = new CountDownLatch(1);
+        try {
+            List<Future<?>> applied = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                Expense expense = Expense.builder()
+                        .date(LocalDate.of(2024, 5, 1))
+                        .amount(new BigDecimal("10.00"))
+                        .vendorName("Race Vendor")
+                        .category("Race")
+                        .build();
+                dictionaryCache.resolve(expense);
+                applied.add(pool.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        rollupMaintainer.apply(RollupDelta.added(expense));
+                        sleep(50);    // keep the row uncommitted while the others arrive
+                    });
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : applied) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        CategoryStats stats = categoryStatsRepository.findByCategoryName("Race").orElseThrow();
+        assertThat(stats.getExpenseCount()).isEqualTo(writers);
+        assertThat(stats.getTotal()).isEqualByComparingTo("80.00");
+    }
+
+    @Test @DisplayName("Startup rebuilds the rollups only when they disagree with expenses")
+    void startupRebuildsOnlyStaleRollups() {
+        rollupMaintainer.rebuild();
+        expenseService.create(request("2024-01-15", "450.00", "Swiggy"));
+        expenseService.create(request("2024-02-03", "120.50", "Uber"));
+        assertThat(rollupMaintainer.isStale()).isFalse();
+
+        // Behind the services' back, as an out-of-band edit would be
+        expenseRepository.deleteAllInBatch();
+        assertThat(rollupMaintainer.isStale()).isTrue();
+
+        rollupInitializer.run(null);
+        assertThat(rollupMaintainer.isStale()).isFalse();
+        assertThat(categoryStatsRepository.totals().count()).isZero();
+    }
+
+    // ── Helpers
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void assertConsistent() {
+        DashboardResponse expected = sqlAssembler.assemble();
+        DashboardResponse actual   = rollupAssembler.assemble();
+
+        assertThat(actual.getMonthlyByCategory().keySet())
+                .containsExactlyElementsOf(expected.getMonthlyByCategory().keySet());
+        expected.getMonthlyByCategory().forEach((month, totals) ->
+                assertSameTotals(month, actual.getMonthlyByCategory().get(month), totals));
+
+        assertSameCategoryStats(actual.getCategoryTotals(), expected.getCategoryTotals());
+        assertSameVendorStats(actual.getTopVendors(), expected.getTopVendors());
+        assertThat(actual.getAnomalyCount()).isEqualTo(expected.getAnomalyCount());
+    }
+
+    private static void assertSameTotals(String month, Map<String, BigDecimal> actual, Map<String, BigDecimal> expected) {
+        assertThat(actual).as(month).containsOnlyKeys(expected.keySet());
+        expected.forEach((category, total) ->
+                assertThat(actual.get(category)).as(month + "/" + category).isEqualByComparingTo(total));
+    }
+
+    private static void assertSameCategoryStats(List<DashboardResponse.CategoryStat> actual,
+                                                List<DashboardResponse.CategoryStat> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        Comparator<DashboardResponse.CategoryStat> byCategory = Comparator.comparing(DashboardResponse.CategoryStat::getCategory);
+        List<DashboardResponse.CategoryStat> a = actual.stream().sorted(byCategory).toList();
+        List<DashboardResponse.CategoryStat> e = expected.stream().sorted(byCategory).toList();
+        for (int i = 0; i < e.size(); i++) {
+            assertThat(a.get(i).getCategory()).isEqualTo(e.get(i).getCategory());
+            assertThat(a.get(i).getTotal()).as(e.get(i).getCategory()).isEqualByComparingTo(e.get(i).getTotal());
+            assertThat(a.get(i).getCount()).as(e.get(i).getCategory()).isEqualTo(e.get(i).getCount());
+        }
+    }
+
+    private static void assertSameVendorStats(List<DashboardResponse.VendorStat> actual,
+                                              List<DashboardResponse.VendorStat> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getTotal()).isEqualByComparingTo(expected.get(i).getTotal());
+            assertThat(actual.get(i).getCount()).isEqualTo(expected.get(i).getCount());
+        }
+    }
+
+    private static ExpenseRequest request(String date, String amount, String vendor) {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setDate(LocalDate.parse(date));
+        request.setAmount(new BigDecimal(amount));
+        request.setVendorName(vendor);
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package com.penny.expense.service;
+
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.dto.ExpenseResponse;
+import com.penny.expense.exception.InvalidExpenseException;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Dashboards narrowed by category and date range, assembled from the
+ * expenses table, with at most two anomalies embedded.
+ */
+@SpringBootTest(properties = "app.dashboard.anomaly-limit=2")
+@DisplayName("Scoped dashboard — category and date filters, bounded anomalies")
+class ScopedDashboardTest {
+
+    @Autowired private ExpenseService    expenseService;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private DictionaryCache   dictionaryCache;
+
+    @BeforeEach
+    void seed() {
+        expenseRepository.saveAll(List.of(
+                expense("2024-01-05", "400.00", "Swiggy", "Food", false),
+                expense("2024-01-20", "2500.00", "Swiggy", "Food", true),
+                expense("2024-02-03", "3100.00", "Zomato", "Food", true),
+                expense("2024-02-14", "1800.00", "Zomato", "Food", true),
+                expense("2024-02-15", "250.00", "Uber", "Transport", false),
+                expense("2024-03-01", "5000.00", "Uber", "Transport", true)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+    }
+
+    @Test @DisplayName("A category scope totals only that category and embeds its largest anomalies")
+    void byCategory() {
+        DashboardResponse dashboard = dashboard("Food", null, null);
+
+        assertThat(dashboard.getCategoryTotals()).singleElement().satisfies(stat -> {
+            assertThat(stat.getCategory()).isEqualTo("Food");
+            assertThat(stat.getTotal()).isEqualByComparingTo("7800.00");
+            assertThat(stat.getCount()).isEqualTo(4);
+        });
+        assertThat(dashboard.getTopVendors()).extracting(DashboardResponse.VendorStat::getVendorName)
+                .containsExactly("Zomato", "Swiggy");
+        assertThat(dashboard.getAnomalies()).extracting(ExpenseResponse::getAmount)
+                .containsExactly(new BigDecimal("3100.00"), new BigDecimal("2500.00"));
+        assertThat(dashboard.getAnomalyCount()).isEqualTo(3);
+        assertThat(dashboard.getMoreAnomalies()).isEqualTo("/api/expenses?anomaly=true&category=Food");
+    }
+
+    @Test @DisplayName("A date scope covers only its months; a complete anomaly list has no link")
+    void byDates() {
+        DashboardResponse dashboard = dashboard(null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+
+        assertThat(dashboard.getMonthlyByCategory()).containsOnlyKeys("2024-02");
+        assertThat(dashboard.getMonthlyByCategory().get("2024-02"))
+                .containsOnlyKeys("Food", "Transport");
+        assertThat(dashboard.getAnomalies()).extracting(ExpenseResponse::getVendorName)
+                .containsExactly("Zomato", "Zomato");
+        assertThat(dashboard.getAnomalyCount()).isEqualTo(2);
+        assertThat(dashboard.getMoreAnomalies()).isNull();
+    }
+
+    @Test @DisplayName("Category and dates combine, and the link carries both")
+    void byCategoryAndDates() {
+        DashboardResponse dashboard = dashboard("Food", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29));
+
+        assertThat(dashboard.getAnomalyCount()).isEqualTo(3);
+        assertThat(dashboard.getMoreAnomalies())
+                .isEqualTo("/api/expenses?anomaly=true&category=Food&from=2024-01-01&to=2024-02-29");
+    }
+
+    @Test @DisplayName("A range ending before it starts is refused")
+    void invertedRange() {
+        assertThatThrownBy(() -> dashboard(null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1)))
+                .isInstanceOf(InvalidExpenseException.class);
+    }
+
+    private DashboardResponse dashboard(String category, LocalDate from, LocalDate to) {
+        DashboardFilter filter = new DashboardFilter();
+        filter.setCategory(category);
+        filter.setFrom(from);
+        filter.setTo(to);
+        return expenseService.getDashboard(filter).body();
+    }
+
+    private Expense expense(String date, String amount, String vendor, String category, boolean anomaly) {
+        Expense expense = Expense.builder()
+                .date(LocalDate.parse(date))
+                .amount(new BigDecimal(amount))
+                .vendorName(vendor)
+                .category(category)
+                .description(vendor)
+                .isAnomaly(anomaly)
+                .build();
+        dictionaryCache.resolve(expense);
+        return expense;
+    }
+}
@@ -0,0 +1,106 @@
+package com.penny.expense.service.columnar;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.projection.ExpenseColumnRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ColumnarExpenseStore — primitive columns, parallel scans and the memory budget")
+class ColumnarExpenseStoreTest {
+
+    private final List<ExpenseColumnRow> table = new ArrayList<>();
+
+    @Test @DisplayName("Month index matches java.time for every day across four centuries")
+    void monthIndexMatchesJavaTime() {
+        for (long day = LocalDate.of(1800, 1, 1).toEpochDay(); day <= LocalDate.of(2200, 12, 31).toEpochDay(); day++) {
+            YearMonth month = YearMonth.from(LocalDate.ofEpochDay(day));
+            assertThat(ExpenseAggregates.monthIndex((int) day))
+                    .isEqualTo(month.getYear() * 12 + month.getMonthValue() - 1);
+        }
+    }
+
+    @Test @DisplayName("A parallel scan of a large table matches a sequential sum")
+    void parallelScanMatchesSequentialTotals() {
+        long foodCents = 0;
+        long janCents  = 0;
+        for (int i = 1; i <= 200_000; i++) {
+            LocalDate date   = LocalDate.of(2024, 1 + i % 3, 1 + i % 28);
+            String category  = i % 2 == 0 ? "Food" : "Transport";
+            long   cents     = 100 + i % 997;
+            table.add(new ExpenseColumnRow((long) i, date, BigDecimal.valueOf(cents, 2), category, "Vendor" + i % 50));
+            if (category.equals("Food")) foodCents += cents;
+            if (category.equals("Food") && date.getMonthValue() == 1) janCents += cents;
+        }
+        ColumnarExpenseStore store = loadedStore(Long.MAX_VALUE);
+
+        ExpenseAggregates aggregates = store.aggregate();
+        int food = indexOf(aggregates, "Food");
+        assertThat(aggregates.categoryCents(food)).isEqualTo(foodCents);
+        assertThat(aggregates.categoryExpenses(food)).isEqualTo(100_000);
+        assertThat(aggregates.monthCount()).isEqualTo(3);
+        assertThat(aggregates.monthCategoryCents(0, food)).isEqualTo(janCents);
+        assertThat(store.categoryTotals("Food")).isEqualTo(new ColumnarExpenseStore.CategoryTotals(foodCents, 100_000));
+    }
+
+    @Test @DisplayName("Writes outside a transaction apply at once; deletes swap rows out")
+    void writesKeepColumnsCurrent() {
+        table.add(new ExpenseColumnRow(1L, LocalDate.of(2024, 1, 15), new BigDecimal("450.00"), "Food", "Swiggy"));
+        ColumnarExpenseStore store = loadedStore(Long.MAX_VALUE);
+
+        Expense taxi = expense(2L, "2024-02-01", "120.50", "Transport", "Uber");
+        store.added(taxi);
+        store.added(expense(3L, "2024-02-03", "99.99", "Food", "Zomato"));
+        assertThat(store.categoryTotals("Food")).isEqualTo(new ColumnarExpenseStore.CategoryTotals(54_999, 2));
+
+        store.removed(taxi);
+        ExpenseAggregates aggregates = store.aggregate();
+        assertThat(aggregates.categoryExpenses(indexOf(aggregates, "Transport"))).isZero();
+        assertThat(store.categoryTotals("Transport")).isEqualTo(new ColumnarExpenseStore.CategoryTotals(0, 0));
+        assertThat(store.categoryTotals("Unknown")).isEqualTo(new ColumnarExpenseStore.CategoryTotals(0, 0));
+    }
+
+    @Test @DisplayName("A table larger than the budget leaves the store unavailable")
+    void overBudgetFallsBack() {
+        for (int i = 1; i <= 10; i++) {
+            table.add(new ExpenseColumnRow((long) i, LocalDate.of(2024, 1, i), BigDecimal.ONE, "Food", "Swiggy"));
+        }
+        ColumnarExpenseStore store = loadedStore(9L * ExpenseColumns.BYTES_PER_ROW);
+
+        assertThat(store.isAvailable()).isFalse();
+        assertThat(store.aggregate()).isNull();
+        assertThat(store.categoryTotals("Food")).isNull();
+    }
+
+    // ── Helpers
+
+    private ColumnarExpenseStore loadedStore(long maxBytes) {
+        ColumnarExpenseStore store = new ColumnarExpenseStore(loader -> loader.apply(table.stream()), true, maxBytes);
+        store.reload();
+        return store;
+    }
+
+    private static int indexOf(ExpenseAggregates aggregates, String category) {
+        for (int id = 0; id < aggregates.categoryCount(); id++) {
+            if (aggregates.categoryName(id).equals(category)) return id;
+        }
+        throw new AssertionError("No category " + category);
+    }
+
+    private static Expense expense(Long id, String date, String amount, String category, String vendor) {
+        return Expense.builder()
+                .id(id)
+                .date(LocalDate.parse(date))
+                .amount(new BigDecimal(amount))
+                .category(category)
+                .vendorName(vendor)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.penny.expense.service.columnar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdIndex — open-addressing id → row map with backward-shift removal")
+class IdIndexTest {
+
+    @Test @DisplayName("Random puts and removes agree with a HashMap throughout")
+    void matchesHashMap() {
+        IdIndex            index    = new IdIndex();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random             random   = new Random(7);
+
+        for (int step = 0; step < 200_000; step++) {
+            // Narrow key range so runs collide, grow and shrink
+            long id = 1 + random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                index.put(id, step);
+                expected.put(id, step);
+            }
+        }
+
+        for (long id = 0; id <= 20_001; id++) {
+            assertThat(index.get(id)).as("id %d", id).isEqualTo(expected.getOrDefault(id, -1));
+        }
+    }
+
+    @Test @DisplayName("Removing from an indexed column set moves the last row's entry with it")
+    void columnsSwapRemove() {
+        ExpenseColumns columns = new ExpenseColumns(1_000, true);
+        for (long id = 1; id <= 100; id++) {
+            columns.add(id, 19_723, 100, 0, 0);
+        }
+
+        columns.removeAt(columns.indexOf(10));
+
+        assertThat(columns.indexOf(10)).isEqualTo(-1);
+        assertThat(columns.id(columns.indexOf(100))).isEqualTo(100);
+        assertThat(columns.size()).isEqualTo(99);
+    }
+}
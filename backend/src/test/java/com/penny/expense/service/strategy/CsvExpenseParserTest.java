@@ -0,0 +1,140 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Expense;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvExpenseParser — parallel, memory-mapped parsing matches a sequential read")
+class CsvExpenseParserTest {
+
+    private final CsvExpenseParser sequential = new CsvExpenseParser(new KeywordCategorizationStrategy(), new SimpleMeterRegistry(), Long.MAX_VALUE, 1, Long.MAX_VALUE);
+    private final CsvExpenseParser parallel   = new CsvExpenseParser(new KeywordCategorizationStrategy(), new SimpleMeterRegistry(), 0, 4, Long.MAX_VALUE);
+
+    @AfterEach
+    void shutDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test @DisplayName("Same expenses in the same order, same errors with the same row numbers")
+    void parallelMatchesSequential() {
+        MockMultipartFile file = csv(50_000);
+
+        List<Expense> expected = new ArrayList<>();
+        List<Expense> actual   = new ArrayList<>();
+        ExpenseFileParser.ChunkedParseResult one  = sequential.parse(file, 500, expected::addAll);
+        ExpenseFileParser.ChunkedParseResult many = parallel.parse(file, 500, actual::addAll);
+
+        assertThat(many.accepted()).isEqualTo(one.accepted()).isEqualTo(expected.size());
+        assertThat(many.errors()).isEqualTo(one.errors()).hasSize(50_000 / 97 + 1);
+        assertThat(many.errors().get(0)).isEqualTo("Row 2: invalid amount value: 'n/a'");
+        for (int i = 0; i < expected.size(); i++) {
+            Expense e = expected.get(i);
+            Expense a = actual.get(i);
+            assertThat(a.getDescription()).isEqualTo(e.getDescription());
+            assertThat(a.getAmount()).isEqualByComparingTo(e.getAmount());
+            assertThat(a.getCategory()).isEqualTo(e.getCategory());
+        }
+    }
+
+    @Test @DisplayName("Chunks hold exactly chunkSize rows, the last one the remainder, on either path")
+    void chunksOfChunkSize() {
+        MockMultipartFile file     = csv(1_000);   // 11 bad rows, 989 accepted
+        List<Integer>     expected = new ArrayList<>(List.of(100, 100, 100, 100, 100, 100, 100, 100, 100, 89));
+
+        for (CsvExpenseParser parser : List.of(sequential, parallel)) {
+            List<Integer> sizes = new ArrayList<>();
+            ExpenseFileParser.ChunkedParseResult result = parser.parse(file, 100, chunk -> sizes.add(chunk.size()));
+
+            assertThat(result.accepted()).isEqualTo(989);
+            assertThat(sizes).isEqualTo(expected);
+        }
+    }
+
+    @Test @DisplayName("A file with only a header parses to nothing on either path")
+    void headerOnly() {
+        MockMultipartFile file = new MockMultipartFile("file", "e.csv", "text/csv",
+                "date,amount,vendor_name\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(parallel.parse(file, 10, chunk -> {}).accepted()).isZero();
+        assertThat(parallel.parse(file, 10, chunk -> {}).errors()).isEmpty();
+    }
+
+    @Test @DisplayName("Every bad row is counted and reported as it is read; only the first 1000 messages are kept")
+    void rejectionsCountedAndCapped() {
+        StringBuilder csv = new StringBuilder("date,amount,vendor_name\n");
+        for (int i = 0; i < 3_000; i++) {
+            csv.append("2024-01-15,").append(i % 3 == 0 ? "10" : "n/a").append(",Swiggy\n");
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "e.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        for (CsvExpenseParser parser : List.of(sequential, parallel)) {
+            AtomicInteger reported = new AtomicInteger();
+            AtomicInteger reports  = new AtomicInteger();
+            ExpenseFileParser.ChunkedParseResult result = parser.parse(file, 100, chunk -> {}, rejected -> {
+                reported.addAndGet(rejected);
+                reports.incrementAndGet();
+            });
+
+            assertThat(result.accepted()).isEqualTo(1_000);
+            assertThat(result.rejected()).isEqualTo(2_000).isEqualTo(reported.get());
+            assertThat(reports.get()).isGreaterThan(1);
+            assertThat(result.errors()).hasSize(1_001)
+                    .last().isEqualTo("... and 1000 more row errors not listed");
+        }
+    }
+
+    @Test @DisplayName("Bank-export rows decode as before and each bad row keeps its message")
+    void bankExportRows() {
+        String csv = "Txn Date,Amt,Merchant,Notes\n"
+                   + "15/01/2024,\"₹1,499.00\",Swiggy,dinner\n"
+                   + "01/31/2024,$12.345,Uber,\n"
+                   + "31-04-2024,250,Airtel,recharge\n"
+                   + "2024-01-05,,Amazon,\n"
+                   + "2024-01-06,abc,Amazon,\n"
+                   + "2024-01-07,-5,Amazon,\n"
+                   + "2024-01-08,99999999999,Amazon,\n"
+                   + "Jan 9 2024,10,Amazon,\n"
+                   + "2024-01-10,10,,\n";
+
+        ExpenseFileParser.ParseResult result = sequential.parse(new MockMultipartFile("file", "bank.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.expenses()).extracting(e -> e.getDate().toString())
+                .containsExactly("2024-01-15", "2024-01-31", "2024-04-30");
+        assertThat(result.expenses()).extracting(e -> e.getAmount().toPlainString())
+                .containsExactly("1499.00", "12.35", "250.00");
+        assertThat(result.errors()).containsExactly(
+                "Row 5: amount is required",
+                "Row 6: invalid amount value: 'abc'",
+                "Row 7: amount must be greater than 0",
+                "Row 8: amount exceeds 9999999999.99",
+                "Row 9: unrecognised date format: 'Jan 9 2024'",
+                "Row 10: vendor_name is required");
+    }
+
+    /** Every 97th row has a bad amount; descriptions span lines and carry quotes. */
+    private static MockMultipartFile csv(int rows) {
+        String[] vendors = {"Swiggy", "Uber", "Airtel", "Amazon", "Corner shop"};
+        StringBuilder csv = new StringBuilder("date,amount,vendor_name,description\n");
+        for (int i = 0; i < rows; i++) {
+            String amount = i % 97 == 0 ? "n/a" : (1 + i % 500) + ".25";
+            csv.append("2024-0").append(1 + i % 9).append("-1").append(i % 10).append(',')
+               .append(amount).append(',')
+               .append(vendors[i % vendors.length]).append(',')
+               .append("\"row ").append(i).append(i % 7 == 0 ? " \"\"quoted\"\"\nsecond line" : "").append("\"\n");
+        }
+        return new MockMultipartFile("file", "expenses.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,125 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvFieldDecoder — same dates and amounts as the formatter and BigDecimal rules")
+class CsvFieldDecoderTest {
+
+    /** The formats, in order, that rows were parsed with before the decoder existed. */
+    private static final List<DateTimeFormatter> FORMATTERS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("d/M/yyyy"));
+
+    @Test @DisplayName("Formats are tried per row in their old order, with smart day clamping")
+    void dateFormats() {
+        assertThat(CsvFieldDecoder.decodeDate("2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(CsvFieldDecoder.decodeDate("05/03/2024")).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(CsvFieldDecoder.decodeDate("05/13/2024")).isEqualTo(LocalDate.of(2024, 5, 13));
+        assertThat(CsvFieldDecoder.decodeDate("31-04-2024")).isEqualTo(LocalDate.of(2024, 4, 30));
+        assertThat(CsvFieldDecoder.decodeDate("5/3/2024")).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(CsvFieldDecoder.decodeDate("2023-02-29")).isNull();
+        assertThat(CsvFieldDecoder.decodeDate("13/13/2024")).isNull();
+        assertThat(CsvFieldDecoder.decodeDate("15 Jan 2024")).isNull();
+    }
+
+    @Test @DisplayName("Amounts round half-up to the cent; each rejection has its own code")
+    void amountCodes() {
+        assertThat(CsvFieldDecoder.decodeAmount("₹1,234.56")).isEqualTo(123_456);
+        assertThat(CsvFieldDecoder.decodeAmount("$12.345")).isEqualTo(1_235);
+        assertThat(CsvFieldDecoder.decodeAmount("1E2")).isEqualTo(10_000);
+        assertThat(CsvFieldDecoder.decodeAmount("  ")).isEqualTo(CsvFieldDecoder.AMOUNT_REQUIRED);
+        assertThat(CsvFieldDecoder.decodeAmount("n/a")).isEqualTo(CsvFieldDecoder.AMOUNT_INVALID);
+        assertThat(CsvFieldDecoder.decodeAmount("0.004")).isEqualTo(CsvFieldDecoder.AMOUNT_NOT_POSITIVE);
+        assertThat(CsvFieldDecoder.decodeAmount("9999999999.995")).isEqualTo(CsvFieldDecoder.AMOUNT_TOO_LARGE);
+        assertThat(CsvFieldDecoder.decodeAmount("92233720368547758.08")).isEqualTo(CsvFieldDecoder.AMOUNT_INVALID);
+        assertThat(CsvFieldDecoder.decodeAmount("1e123456789")).isEqualTo(CsvFieldDecoder.AMOUNT_INVALID);
+    }
+
+    @Test @DisplayName("Random date-shaped strings decode exactly as the formatters would")
+    void datesMatchFormatters() {
+        Random random = new Random(21);
+        String alphabet = "0123456789/-+ ";
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder s = new StringBuilder();
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    for (int j = random.nextInt(14); j > 0; j--) s.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                case 1 -> s.append(digits(random, 1 + random.nextInt(3))).append(random.nextBoolean() ? '/' : '-')
+                           .append(digits(random, 1 + random.nextInt(3))).append(random.nextBoolean() ? '/' : '-')
+                           .append(random.nextInt(5) == 0 ? "+" : "").append(digits(random, 3 + random.nextInt(4)));
+                default -> s.append(random.nextInt(5) == 0 ? "+" : "").append(digits(random, 3 + random.nextInt(4)))
+                            .append('-').append(digits(random, 2)).append('-').append(digits(random, 2));
+            }
+            String date = s.toString().trim();
+            if (date.isEmpty()) continue;
+            assertThat(CsvFieldDecoder.decodeDate(date)).as(date).isEqualTo(viaFormatters(date));
+        }
+    }
+
+    @Test @DisplayName("Random amount-shaped strings decode exactly as BigDecimal and Money would")
+    void amountsMatchBigDecimal() {
+        Random random = new Random(21);
+        String alphabet = "0123456789.,-+eE$₹ x";
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder s = new StringBuilder();
+            for (int j = 1 + random.nextInt(random.nextBoolean() ? 8 : 24); j > 0; j--) {
+                s.append(random.nextInt(3) == 0 ? alphabet.charAt(random.nextInt(alphabet.length())) : (char) ('0' + random.nextInt(10)));
+            }
+            String amount   = s.toString().trim();
+            Long   expected = viaBigDecimal(amount);
+            if (expected != null) {
+                assertThat(CsvFieldDecoder.decodeAmount(amount)).as(amount).isEqualTo(expected);
+            }
+        }
+    }
+
+    // ── Reference rules
+
+    private static LocalDate viaFormatters(String s) {
+        for (DateTimeFormatter formatter : FORMATTERS) {
+            try {
+                return LocalDate.parse(s, formatter);
+            } catch (Exception ignored) {
+                // try next format
+            }
+        }
+        return null;
+    }
+
+    /** Null where rounding would expand a huge exponent into an equally huge number. */
+    private static Long viaBigDecimal(String raw) {
+        if (raw.isBlank()) {
+            return CsvFieldDecoder.AMOUNT_REQUIRED;
+        }
+        try {
+            BigDecimal value = new BigDecimal(raw.replace(",", "").replace("₹", "").replace("$", "").trim());
+            if (Math.abs((long) value.scale()) > 1_000) return null;
+            Money amount = Money.of(value);
+            if (amount.signum() <= 0) return CsvFieldDecoder.AMOUNT_NOT_POSITIVE;
+            if (amount.isGreaterThan(Money.MAX_EXPENSE_AMOUNT)) return CsvFieldDecoder.AMOUNT_TOO_LARGE;
+            return amount.cents();
+        } catch (NumberFormatException | ArithmeticException e) {
+            return CsvFieldDecoder.AMOUNT_INVALID;
+        }
+    }
+
+    private static String digits(Random random, int count) {
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < count; i++) digits.append((char) ('0' + random.nextInt(10)));
+        return digits.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.penny.expense.service.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvRecordSplitter — record boundaries and row numbers")
+class CsvRecordSplitterTest {
+
+    @Test @DisplayName("Newlines inside quotes never end a segment, and rows count records, not lines")
+    void quotedNewlinesStayInsideRecords() {
+        String csv = "date,amount,vendor_name,description\n"
+                   + "2024-01-01,1.00,Uber,\"two\nlines\"\n"
+                   + "2024-01-02,2.00,Ola,\"say \"\"hi\"\"\n,again\"\n"
+                   + "2024-01-03,3.00,Swiggy,\"back\\\"slash\n\"\n"
+                   + "2024-01-04,4.00,Zomato,last";
+
+        CsvRecordSplitter.Split split = CsvRecordSplitter.split(bytes(csv), 1);
+
+        assertThat(split.headerEnd()).isEqualTo(csv.indexOf('\n') + 1);
+        assertThat(split.segments()).extracting(CsvRecordSplitter.Segment::firstRow).containsExactly(2, 3, 4, 5);
+        assertThat(split.segments()).allSatisfy(segment ->
+                assertThat(csv.substring(segment.start(), segment.end())).startsWith("2024-01-0"));
+        assertThat(split.segments().get(3).end()).isEqualTo(csv.length());
+    }
+
+    @Test @DisplayName("Segments are contiguous and together cover every byte after the header")
+    void segmentsCoverTheFile() {
+        StringBuilder csv = new StringBuilder("date,amount,vendor_name\n");
+        for (int i = 0; i < 1_000; i++) {
+            csv.append("2024-01-01,").append(i).append(".00,\"Vendor\n").append(i).append("\"\n");
+        }
+
+        CsvRecordSplitter.Split split = CsvRecordSplitter.split(bytes(csv.toString()), 500);
+        List<CsvRecordSplitter.Segment> segments = split.segments();
+
+        assertThat(segments.size()).isGreaterThan(10);
+        assertThat(segments.get(0).start()).isEqualTo(split.headerEnd());
+        for (int i = 1; i < segments.size(); i++) {
+            assertThat(segments.get(i).start()).isEqualTo(segments.get(i - 1).end());
+        }
+        assertThat(segments.get(segments.size() - 1).end()).isEqualTo(csv.length());
+    }
+
+    @Test @DisplayName("A header without data yields no segments")
+    void headerOnly() {
+        assertThat(CsvRecordSplitter.split(bytes("date,amount\n"), 1).segments()).isEmpty();
+        assertThat(CsvRecordSplitter.split(bytes("date,amount"), 1).segments()).isEmpty();
+    }
+
+    private static ByteBuffer bytes(String csv) {
+        return ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,173 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.dto.DashboardFilter;
+import com.penny.expense.dto.DashboardResponse;
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.DictionaryCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The GROUP BY dashboard against the per-entity builders it replaced,
+ * kept here verbatim as the reference: same values, and the same order
+ * for months, the categories within a month, category totals and top
+ * vendors. The fixture has no ties the old builders left to row order.
+ */
+@SpringBootTest
+@DisplayName("DefaultDashboardAssembler — same values and order as the per-entity builders")
+class DefaultDashboardAssemblerTest {
+
+    private static final int TOP_VENDORS_LIMIT = 5;
+
+    @Autowired private DefaultDashboardAssembler assembler;
+    @Autowired private ExpenseRepository         expenseRepository;
+    @Autowired private DictionaryCache           dictionaryCache;
+
+    private final List<Expense> seeded = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        // Within a month, the category with the latest expense is not the largest
+        seed("2024-01-03", "4000.00", "Amazon");
+        seed("2024-01-10", "450.00", "Swiggy");
+        seed("2024-01-18", "120.50", "Uber");
+        seed("2024-01-18", "75.25", "Uber");
+        seed("2024-01-25", "999.00", "Airtel");
+        seed("2024-02-02", "310.00", "Zomato");
+        seed("2024-02-14", "2600.00", "Flipkart");
+        seed("2024-02-20", "60.00", "Ola");
+        seed("2024-03-05", "1500.00", "Apollo Pharmacy");
+        seed("2024-03-09", "35.00", "Swiggy");
+        expenseRepository.saveAll(seeded);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+    }
+
+    @Test @DisplayName("The all-time dashboard matches the reference builders")
+    void allTime() {
+        assertSameAs(assembler.assemble(), seeded);
+    }
+
+    @Test @DisplayName("A date-scoped dashboard matches the reference builders over the rows in scope")
+    void scoped() {
+        DashboardFilter filter = new DashboardFilter();
+        filter.setFrom(LocalDate.of(2024, 1, 10));
+        filter.setTo(LocalDate.of(2024, 2, 20));
+
+        List<Expense> inScope = seeded.stream()
+                .filter(e -> !e.getDate().isBefore(filter.getFrom()) && !e.getDate().isAfter(filter.getTo()))
+                .toList();
+        assertSameAs(assembler.assemble(filter), inScope);
+    }
+
+    // ── Helpers
+
+    private static void assertSameAs(DashboardResponse actual, List<Expense> expenses) {
+        // As the old assembler loaded them: findAll(Sort.by(DESC, "date"))
+        List<Expense> all = expenses.stream().sorted(Comparator.comparing(Expense::getDate).reversed()).toList();
+
+        Map<String, Map<String, BigDecimal>> expectedMonthly = buildMonthlyByCategory(all);
+        assertThat(actual.getMonthlyByCategory().keySet()).containsExactlyElementsOf(expectedMonthly.keySet());
+        expectedMonthly.forEach((month, totals) -> {
+            Map<String, BigDecimal> actualTotals = actual.getMonthlyByCategory().get(month);
+            assertThat(actualTotals.keySet()).as(month).containsExactlyElementsOf(totals.keySet());
+            totals.forEach((category, total) ->
+                    assertThat(actualTotals.get(category)).as(month + "/" + category).isEqualByComparingTo(total));
+        });
+
+        List<DashboardResponse.CategoryStat> expectedCategories = buildCategoryTotals(all);
+        assertThat(actual.getCategoryTotals()).extracting(DashboardResponse.CategoryStat::getCategory)
+                .containsExactlyElementsOf(expectedCategories.stream().map(DashboardResponse.CategoryStat::getCategory).toList());
+        for (int i = 0; i < expectedCategories.size(); i++) {
+            assertThat(actual.getCategoryTotals().get(i).getTotal()).isEqualByComparingTo(expectedCategories.get(i).getTotal());
+            assertThat(actual.getCategoryTotals().get(i).getCount()).isEqualTo(expectedCategories.get(i).getCount());
+        }
+
+        List<DashboardResponse.VendorStat> expectedVendors = buildTopVendors(all);
+        assertThat(actual.getTopVendors()).extracting(DashboardResponse.VendorStat::getVendorName)
+                .containsExactlyElementsOf(expectedVendors.stream().map(DashboardResponse.VendorStat::getVendorName).toList());
+        for (int i = 0; i < expectedVendors.size(); i++) {
+            assertThat(actual.getTopVendors().get(i).getTotal()).isEqualByComparingTo(expectedVendors.get(i).getTotal());
+            assertThat(actual.getTopVendors().get(i).getCount()).isEqualTo(expectedVendors.get(i).getCount());
+        }
+    }
+
+    private void seed(String date, String amount, String vendor) {
+        Expense expense = Expense.builder()
+                .date(LocalDate.parse(date))
+                .amount(new BigDecimal(amount))
+                .vendorName(vendor)
+                .category(new KeywordCategorizationStrategy().categorize(vendor))
+                .description(vendor)
+                .isAnomaly(false)
+                .build();
+        dictionaryCache.resolve(expense);
+        seeded.add(expense);
+    }
+
+    // ── Reference: the per-entity builders the GROUP BY queries replaced
+
+    private static Map<String, Map<String, BigDecimal>> buildMonthlyByCategory(List<Expense> expenses) {
+        Map<String, Map<String, BigDecimal>> result = new LinkedHashMap<>();
+        for (Expense e : expenses) {
+            String month = String.format("%d-%02d",
+                    e.getDate().getYear(), e.getDate().getMonthValue());
+            result.computeIfAbsent(month, k -> new LinkedHashMap<>())
+                    .merge(e.getCategory(), e.getAmount(), BigDecimal::add);
+        }
+        return result;
+    }
+
+    private static List<DashboardResponse.CategoryStat> buildCategoryTotals(List<Expense> expenses) {
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        Map<String, Long>       counts = new LinkedHashMap<>();
+        for (Expense e : expenses) {
+            totals.merge(e.getCategory(), e.getAmount(), BigDecimal::add);
+            counts.merge(e.getCategory(), 1L, Long::sum);
+        }
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
+                .map(entry -> DashboardResponse.CategoryStat.builder()
+                        .category(entry.getKey())
+                        .total(entry.getValue())
+                        .count(counts.getOrDefault(entry.getKey(), 0L))
+                        .build())
+                .toList();
+    }
+
+    private static List<DashboardResponse.VendorStat> buildTopVendors(List<Expense> expenses) {
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        Map<String, Long>       counts = new LinkedHashMap<>();
+        for (Expense e : expenses) {
+            totals.merge(e.getVendorName(), e.getAmount(), BigDecimal::add);
+            counts.merge(e.getVendorName(), 1L, Long::sum);
+        }
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
+                .limit(TOP_VENDORS_LIMIT)
+                .map(entry -> DashboardResponse.VendorStat.builder()
+                        .vendorName(entry.getKey())
+                        .total(entry.getValue())
+                        .count(counts.getOrDefault(entry.getKey(), 0L))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.penny.expense.service.strategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.penny.expense.dto.ExpenseResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Export formats — row framing and escaping")
+class ExpenseExportFormatTest {
+
+    // Same date handling as Spring Boot's auto-configured ObjectMapper
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final List<ExpenseResponse> expenses = List.of(
+            expense(1L, "Swiggy", "Lunch, with \"team\"", "Food"),
+            expense(2L, "Uber", "Line one\nline two", "Transport"),
+            expense(3L, "Airtel", null, "Utilities"));
+
+    @Test @DisplayName("CSV quotes only fields that need it and keeps one record per row")
+    void csvEscapesFields() throws IOException {
+        String csv = export(new CsvExportFormat());
+
+        assertThat(csv).startsWith("id,date,amount,vendor_name,description,category,is_anomaly\n");
+        assertThat(csv).contains("1,2024-01-15,450.00,Swiggy,\"Lunch, with \"\"team\"\"\",Food,false\n");
+        assertThat(csv).contains("2,2024-01-15,450.00,Uber,\"Line one\nline two\",Transport,false\n");
+        assertThat(csv).endsWith("3,2024-01-15,450.00,Airtel,,Utilities,false\n");
+    }
+
+    @Test @DisplayName("NDJSON writes one complete JSON object per line")
+    void ndjsonFramesOneObjectPerLine() throws IOException {
+        String ndjson = export(new NdjsonExportFormat(objectMapper));
+
+        String[] lines = ndjson.split("\n");
+        assertThat(ndjson).endsWith("\n");
+        assertThat(lines).hasSize(3);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2);
+        assertThat(second.get("description").asText()).isEqualTo("Line one\nline two");
+        assertThat(second.get("date").asText()).isEqualTo("2024-01-15");
+    }
+
+    private String export(ExpenseExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ExpenseExportFormat.RowWriter writer = format.open(out)) {
+            for (ExpenseResponse expense : expenses) writer.write(expense);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ExpenseResponse expense(long id, String vendor, String description, String category) {
+        return ExpenseResponse.builder()
+                .id(id)
+                .date(LocalDate.of(2024, 1, 15))
+                .amount(new BigDecimal("450.00"))
+                .vendorName(vendor)
+                .description(description)
+                .category(category)
+                .build();
+    }
+}
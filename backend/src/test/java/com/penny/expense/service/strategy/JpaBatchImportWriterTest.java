@@ -0,0 +1,86 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.repository.ExpenseRepository;
+import com.penny.expense.service.DictionaryCache;
+import org.hibernate.SessionEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JpaBatchImportWriter against the dev database, counting the JDBC batches
+ * Hibernate executes: each appended chunk is one batch, even when it is
+ * larger than the global hibernate.jdbc.batch_size of 50.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session.events.auto="
+        + "com.penny.expense.service.strategy.JpaBatchImportWriterTest$BatchCounter")
+@DisplayName("JpaBatchImportWriter — one JDBC batch per chunk")
+class JpaBatchImportWriterTest {
+
+    @Autowired private ExpenseRepository   expenseRepository;
+    @Autowired private DictionaryCache     dictionaryCache;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        expenseRepository.deleteAllInBatch();
+    }
+
+    @Test @DisplayName("Three chunks of 120, 120 and 30 rows are written as three batches")
+    void oneBatchPerChunk() {
+        JpaBatchImportWriter writer = new JpaBatchImportWriter(expenseRepository);
+        List<List<Expense>> chunks = List.of(expenses(0, 120), expenses(120, 120), expenses(240, 30));
+
+        BatchCounter.BATCHES.set(0);
+        long written = transactionTemplate.execute(status -> {
+            try (ExpenseImportWriter.ImportSession session = writer.begin()) {
+                chunks.forEach(session::append);
+                return session.complete();
+            }
+        });
+
+        assertThat(written).isEqualTo(270);
+        assertThat(BatchCounter.BATCHES).hasValue(3);
+        assertThat(expenseRepository.count()).isEqualTo(270);
+    }
+
+    private List<Expense> expenses(int first, int count) {
+        List<Expense> chunk = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            Expense expense = Expense.builder()
+                    .date(LocalDate.of(2024, 1, 1).plusDays(i % 28))
+                    .amount(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                    .vendorName("Swiggy")
+                    .category("Food")
+                    .description("row " + i)
+                    .isAnomaly(false)
+                    .build();
+            dictionaryCache.resolve(expense);
+            chunk.add(expense);
+        }
+        return chunk;
+    }
+
+    /** Registered on every Hibernate session of this test's context. */
+    public static class BatchCounter implements SessionEventListener {
+
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+}
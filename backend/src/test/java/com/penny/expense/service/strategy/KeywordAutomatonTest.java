@@ -0,0 +1,129 @@
+package com.penny.expense.service.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the compiled automaton against the original linear
+ * {@code contains} scan it replaced, on generated vendor strings.
+ *
+ * The throughput comparison is opt-in:
+ *   mvn test -Dtest=KeywordAutomatonTest -Dbenchmarks=true
+ */
+@DisplayName("KeywordAutomaton — parity with linear scan")
+class KeywordAutomatonTest {
+
+    private static final String[] NOISE = {
+            "pvt ltd", "india", "store", "#4411", "online", "payments", "pos", "upi",
+            "bangalore", "mumbai", "ref", "txn", "card", "services", "co", "inc"
+    };
+
+    private KeywordCategorizationStrategy strategy;
+    private Map<String, String>           rules;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new KeywordCategorizationStrategy();
+        rules    = strategy.getRules();
+    }
+
+    @Test @DisplayName("Every keyword maps to the same category as the linear scan")
+    void everyKeywordAgrees() {
+        for (String keyword : rules.keySet()) {
+            assertThat(strategy.categorize(keyword)).as(keyword).isEqualTo(linearScan(keyword));
+            assertThat(strategy.categorize("XX " + keyword.toUpperCase(Locale.ROOT) + " 01"))
+                    .as(keyword).isEqualTo(linearScan("XX " + keyword + " 01"));
+        }
+    }
+
+    @Test @DisplayName("Overlapping keywords keep insertion-order priority")
+    void overlappingKeywordsKeepPriority() {
+        assertThat(strategy.categorize("uber eats")).isEqualTo("Food");
+        assertThat(strategy.categorize("eats via uber")).isEqualTo("Transport");
+        assertThat(strategy.categorize("Metro Hospital")).isEqualTo(linearScan("metro hospital"));
+        assertThat(strategy.categorize("Olaplex Salon")).isEqualTo("Transport");
+    }
+
+    @Test @DisplayName("200k generated vendors agree with the linear scan")
+    void generatedVendorsAgree() {
+        List<String> keywords = List.copyOf(rules.keySet());
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            String vendor = generateVendor(random, keywords);
+            assertThat(strategy.categorize(vendor)).as(vendor).isEqualTo(linearScan(vendor));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    @DisplayName("Throughput: automaton vs linear scan (opt-in)")
+    void throughputComparison() {
+        List<String> keywords = List.copyOf(rules.keySet());
+        Random random = new Random(7);
+        String[] vendors = new String[4_000_000];
+        for (int i = 0; i < vendors.length; i++) vendors[i] = generateVendor(random, keywords);
+
+        for (int round = 0; round < 3; round++) {
+            long linearNanos    = time(vendors, this::linearScan);
+            long automatonNanos = time(vendors, strategy::categorize);
+            System.out.printf("round %d: linear %,d vendors/s, automaton %,d vendors/s (%.1fx)%n",
+                    round,
+                    vendors.length * 1_000_000_000L / linearNanos,
+                    vendors.length * 1_000_000_000L / automatonNanos,
+                    (double) linearNanos / automatonNanos);
+        }
+    }
+
+    // ── Helpers
+
+    /** The pre-automaton implementation, kept verbatim as the reference. */
+    private String linearScan(String vendorName) {
+        if (vendorName == null || vendorName.isBlank()) {
+            return "Other";
+        }
+        String normalised = vendorName.toLowerCase().trim();
+        return rules.entrySet().stream()
+                .filter(entry -> normalised.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse("Other");
+    }
+
+    private static String generateVendor(Random random, List<String> keywords) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextInt(3) == 0) sb.append(NOISE[random.nextInt(NOISE.length)]).append(' ');
+        switch (random.nextInt(4)) {
+            case 0 -> sb.append(keywords.get(random.nextInt(keywords.size())));
+            case 1 -> sb.append(keywords.get(random.nextInt(keywords.size()))).append(' ')
+                        .append(keywords.get(random.nextInt(keywords.size())));
+            case 2 -> {
+                String keyword = keywords.get(random.nextInt(keywords.size()));
+                sb.append(keyword, 0, Math.max(1, keyword.length() - 1));
+            }
+            default -> {
+                for (int i = 0, n = 4 + random.nextInt(10); i < n; i++) sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        if (random.nextBoolean()) sb.append(' ').append(NOISE[random.nextInt(NOISE.length)]);
+        String vendor = sb.toString();
+        return random.nextBoolean() ? vendor.toUpperCase(Locale.ROOT) : vendor;
+    }
+
+    private static long time(String[] vendors, java.util.function.Function<String, String> categorize) {
+        long sink  = 0;
+        long start = System.nanoTime();
+        for (String vendor : vendors) sink += categorize.apply(vendor).length();
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isPositive();
+        return elapsed;
+    }
+}
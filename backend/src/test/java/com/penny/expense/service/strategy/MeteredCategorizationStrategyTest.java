@@ -0,0 +1,32 @@
+package com.penny.expense.service.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MeteredCategorizationStrategy — hit/miss counters per category")
+class MeteredCategorizationStrategyTest {
+
+    private final SimpleMeterRegistry    meterRegistry = new SimpleMeterRegistry();
+    private final CategorizationStrategy strategy      =
+            new MeteredCategorizationStrategy(new KeywordCategorizationStrategy(), meterRegistry);
+
+    @Test @DisplayName("Counts matched vendors as hits and the fallback as a miss")
+    void countsHitsAndMisses() {
+        assertThat(strategy.categorize("Swiggy Order")).isEqualTo("Food");
+        assertThat(strategy.categorize("ZOMATO")).isEqualTo("Food");
+        assertThat(strategy.categorize("Corner Stationers")).isEqualTo(CategorizationStrategy.FALLBACK_CATEGORY);
+
+        assertThat(meterRegistry.counter("penny.categorization", "category", "Food", "result", "hit").count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.counter("penny.categorization", "category", "Other", "result", "miss").count())
+                .isEqualTo(1);
+    }
+
+    @Test @DisplayName("Rules pass through unchanged")
+    void delegatesRules() {
+        assertThat(strategy.getRules()).isEqualTo(new KeywordCategorizationStrategy().getRules());
+    }
+}
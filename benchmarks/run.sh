@@ -0,0 +1,23 @@
+#!/usr/bin/env sh
+# Build and run the JMH suite with the allocation profiler, writing JSON
+# results named after the current commit so runs can be compared:
+#
+#   benchmarks/run.sh                          # everything
+#   benchmarks/run.sh CsvParseBenchmark        # one class (any JMH regexp / options)
+#
+# Compare two runs with:
+#   java -cp benchmarks/target/benchmarks.jar com.penny.benchmarks.CompareResults \
+#       benchmarks/results/<base>.json benchmarks/results/<head>.json
+set -eu
+
+cd "$(dirname "$0")/.."
+
+mvn -B -q -pl benchmarks -am package -DskipTests
+
+rev=$(git rev-parse --short HEAD)
+if [ -n "$(git status --porcelain -- backend benchmarks)" ]; then
+    rev="$rev-dirty"
+fi
+mkdir -p benchmarks/results
+
+java -jar benchmarks/target/benchmarks.jar -prof gc -rf json -rff "benchmarks/results/$rev.json" "$@"
@@ -0,0 +1,95 @@
+package com.penny.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (as written by {@code run.sh}) and
+ * prints, per benchmark and parameter set, the change in score and in
+ * bytes allocated per operation.
+ *
+ *   java -cp benchmarks/target/benchmarks.jar com.penny.benchmarks.CompareResults \
+ *       benchmarks/results/BASE.json benchmarks/results/HEAD.json [threshold-percent]
+ *
+ * Exits 1 when any score or allocation got worse by more than the
+ * threshold (default 10%), so it can gate a CI step.
+ */
+public final class CompareResults {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private record Result(double score, String unit, Double allocPerOp) {}
+
+    private CompareResults() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CompareResults <base.json> <head.json> [threshold-percent]");
+            System.exit(2);
+        }
+        Map<String, Result> base      = read(Path.of(args[0]));
+        Map<String, Result> head      = read(Path.of(args[1]));
+        double              threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        boolean regressed = false;
+        System.out.printf("%-80s %14s %14s %8s %12s %12s %8s%n",
+                "benchmark", "base", "head", "Δ%", "base B/op", "head B/op", "Δ%");
+        for (Map.Entry<String, Result> entry : new TreeMap<>(head).entrySet()) {
+            Result before = base.get(entry.getKey());
+            Result after  = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f  (new)%n", entry.getKey(), "-", after.score());
+                continue;
+            }
+            double scoreChange = change(before.score(), after.score());
+            Double allocChange = before.allocPerOp() == null || after.allocPerOp() == null
+                    ? null : change(before.allocPerOp(), after.allocPerOp());
+            // Scores are time per op, so higher is worse for both columns
+            boolean worse = scoreChange > threshold || (allocChange != null && allocChange > threshold);
+            regressed |= worse;
+
+            System.out.printf("%-80s %14.3f %14.3f %+7.1f%% %12s %12s %8s%s%n",
+                    entry.getKey(), before.score(), after.score(), scoreChange,
+                    bytes(before.allocPerOp()), bytes(after.allocPerOp()),
+                    allocChange == null ? "-" : String.format("%+.1f%%", allocChange),
+                    worse ? "  REGRESSED" : "");
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    /** Results keyed by benchmark name plus its parameters, in file order. */
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode alloc   = allocNorm(run.path("secondaryMetrics"));
+            results.put(key.toString(), new Result(primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(), alloc == null ? null : alloc.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    /** JMH before 1.36 prefixes profiler metrics with a middle dot. */
+    private static JsonNode allocNorm(JsonNode secondary) {
+        JsonNode metric = secondary.get(ALLOC_NORM);
+        return metric != null ? metric : secondary.get("·" + ALLOC_NORM);
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static String bytes(Double perOp) {
+        return perOp == null ? "-" : String.format("%.1f", perOp);
+    }
+}
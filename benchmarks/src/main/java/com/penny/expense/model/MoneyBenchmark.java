@@ -0,0 +1,128 @@
+package com.penny.expense.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal vs {@link Money} (long minor units) on the three money hot
+ * paths: summing amounts, folding rows into per-category rollups, and
+ * classifying rows against an anomaly threshold. Scores are ns per row;
+ * the gc profiler adds bytes allocated per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int      ROWS       = 100_000;
+    private static final String[] CATEGORIES = {"Food", "Transport", "Shopping", "Utilities", "Health", "Other"};
+
+    private BigDecimal[] decimals;
+    private long[]       cents;
+    private String[]     categories;
+
+    private BigDecimal decimalThreshold;
+    private double     doubleThreshold;
+    private Money      moneyThreshold;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(12);
+        decimals   = new BigDecimal[ROWS];
+        cents      = new long[ROWS];
+        categories = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            long amount = 50 + random.nextInt(2_000_000);
+            decimals[i]   = BigDecimal.valueOf(amount, 2);
+            cents[i]      = amount;
+            categories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        }
+
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) sum = sum.add(amount);
+        decimalThreshold = sum.divide(BigDecimal.valueOf(ROWS), 10, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(3));
+        doubleThreshold  = decimalThreshold.doubleValue();
+        moneyThreshold   = Money.of(sum).timesRatioFloor(3_000, ROWS * 1_000L);
+    }
+
+    // ── Sum
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) total = total.add(amount);
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Money sumMoney() {
+        Money total = Money.ZERO;
+        for (long amount : cents) total = total.plus(Money.ofCents(amount));
+        return total;
+    }
+
+    // ── Per-category rollup fold
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Map<String, BigDecimal> rollupBigDecimal() {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (int i = 0; i < ROWS; i++) totals.merge(categories[i], decimals[i], BigDecimal::add);
+        return totals;
+    }
+
+    /** Mutable long accumulator per key, as RollupDelta keeps them. */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Map<String, long[]> rollupMinorUnits() {
+        Map<String, long[]> totals = new HashMap<>();
+        for (int i = 0; i < ROWS; i++) {
+            long[] total = totals.computeIfAbsent(categories[i], key -> new long[1]);
+            total[0] = Math.addExact(total[0], cents[i]);
+        }
+        return totals;
+    }
+
+    // ── Anomaly classification
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void thresholdDouble(Blackhole blackhole) {
+        for (BigDecimal amount : decimals) blackhole.consume(amount.doubleValue() > doubleThreshold);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void thresholdBigDecimal(Blackhole blackhole) {
+        for (BigDecimal amount : decimals) blackhole.consume(amount.compareTo(decimalThreshold) > 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void thresholdMoney(Blackhole blackhole) {
+        long threshold = moneyThreshold.cents();
+        for (long amount : cents) blackhole.consume(amount > threshold);
+    }
+}
@@ -0,0 +1,96 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MeanMultiplierAnomalyStrategy}'s mean-times-multiplier threshold
+ * and the per-row comparison against it, with the category aggregate held
+ * in memory so only the arithmetic is timed. {@code threshold} computes
+ * one threshold per row; {@code classify} is the full
+ * {@code wouldBeAnomaly} path, BigDecimal amount in. Scores are ns per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnomalyThresholdBenchmark {
+
+    private static final int      ROWS       = 100_000;
+    private static final String[] CATEGORIES = {"Food", "Transport", "Shopping", "Utilities", "Health", "Other"};
+
+    private InMemoryStatsStrategy strategy;
+    private String[]              categories;
+    private BigDecimal[]          amounts;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Random random = new Random(12);
+        Map<String, long[]> stats = new HashMap<>();
+        categories = new String[ROWS];
+        amounts    = new BigDecimal[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            long cents = 50 + random.nextInt(2_000_000);
+            categories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            amounts[i]    = BigDecimal.valueOf(cents, 2);
+            long[] sumAndCount = stats.computeIfAbsent(categories[i], key -> new long[2]);
+            sumAndCount[0] += cents;
+            sumAndCount[1]++;
+        }
+
+        strategy = new InMemoryStatsStrategy(stats);
+        // Injected by Spring in the service; the default from application.properties
+        Field multiplier = MeanMultiplierAnomalyStrategy.class.getDeclaredField("anomalyMultiplier");
+        multiplier.setAccessible(true);
+        multiplier.setDouble(strategy, 3.0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void threshold(Blackhole blackhole) {
+        for (String category : categories) blackhole.consume(strategy.threshold(category));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void classify(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) blackhole.consume(strategy.wouldBeAnomaly(categories[i], amounts[i]));
+    }
+
+    /** Sources the running sum and count from a map, as ColumnarAnomalyStrategy does from its store. */
+    static final class InMemoryStatsStrategy extends MeanMultiplierAnomalyStrategy {
+
+        private final Map<String, long[]> stats;
+
+        InMemoryStatsStrategy(Map<String, long[]> stats) {
+            super(null, null);
+            this.stats = stats;
+        }
+
+        @Override
+        protected Money threshold(String category) {
+            long[] sumAndCount = stats.get(category);
+            return sumAndCount == null ? null : threshold(Money.ofCents(sumAndCount[0]), sumAndCount[1]);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.penny.expense.service.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KeywordCategorizationStrategy#categorize} over vendor strings that
+ * match a rule ({@code hit}) and strings that match none ({@code miss}).
+ * A miss scans the whole string, so it is the slower of the two. Scores
+ * are ns per vendor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategorizationBenchmark {
+
+    private static final int      VENDORS = 1_024;
+    private static final String[] HITS    = {
+            "SWIGGY*ORDER 88412", "Uber Eats Bengaluru", "STARBUCKS COFFEE #221", "Amazon Marketplace",
+            "Netflix.com", "Apollo Pharmacy", "AIR INDIA WEB", "HDFC Bank EMI 0042"};
+    private static final String[] MISSES  = {
+            "Corner Stationers", "Ravi Tailoring Works", "NORTHWIND TRADERS LTD", "Local Hardware 17",
+            "Lakeside Florist", "Blue Door Bakery Co", "P. Sharma & Sons", "Municipal Parking Lot 4"};
+
+    @Param({"hit", "miss"})
+    public String vendors;
+
+    private KeywordCategorizationStrategy strategy;
+    private String[]                      names;
+
+    @Setup
+    public void setUp() {
+        strategy = new KeywordCategorizationStrategy();
+        String[] source = "hit".equals(vendors) ? HITS : MISSES;
+        Random   random = new Random(7);
+        names = new String[VENDORS];
+        for (int i = 0; i < VENDORS; i++) {
+            // Distinct instances, so nothing is cached on the String itself
+            names[i] = new String(source[random.nextInt(source.length)]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VENDORS)
+    public void categorize(Blackhole blackhole) {
+        for (String name : names) blackhole.consume(strategy.categorize(name));
+    }
+}
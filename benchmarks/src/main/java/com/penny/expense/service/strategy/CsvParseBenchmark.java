@@ -0,0 +1,123 @@
+package com.penny.expense.service.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link CsvExpenseParser} one step at a time — date, amount, a whole row —
+ * and end to end over an in-memory file. {@code dateFormat} picks which of
+ * the accepted formats the dates use: formats are tried in order, so a
+ * later one pays for every shape check before it. Scores are ns per row
+ * (or per value).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvParseBenchmark {
+
+    private static final int      ROWS    = 10_000;
+    private static final String   HEADER  = "date,amount,vendor_name,description";
+    private static final String[] VENDORS = {
+            "Swiggy", "Uber", "Amazon", "Netflix", "Corner Stationers", "Apollo Pharmacy", "Local Hardware 17"};
+
+    @Param({"iso", "dd/MM/yyyy", "d/M/yyyy"})
+    public String dateFormat;
+
+    private CsvExpenseParser     parser;
+    private Map<String, Integer> columnIndex;
+    private String[][]           rows;
+    private String[]             dates;
+    private String[]             amounts;
+    private MockMultipartFile    file;
+    private final List<String>   errors = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        // Sequential path only: the threshold is never reached
+        parser      = new CsvExpenseParser(new KeywordCategorizationStrategy(), new SimpleMeterRegistry(), Long.MAX_VALUE, 1, Long.MAX_VALUE);
+        columnIndex = parser.buildColumnIndex(HEADER.split(","));
+
+        Random        random = new Random(12);
+        StringBuilder csv    = new StringBuilder(HEADER).append('\n');
+        rows    = new String[ROWS][];
+        dates   = new String[ROWS];
+        amounts = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+            dates[i]   = format(date);
+            amounts[i] = i % 10 == 0
+                    ? String.format("%,d.%02d", 1_000 + random.nextInt(100_000), random.nextInt(100))
+                    : (1 + random.nextInt(5_000)) + "." + String.format("%02d", random.nextInt(100));
+            String vendor = VENDORS[random.nextInt(VENDORS.length)];
+            rows[i] = new String[] {dates[i], amounts[i], vendor, "Order " + i};
+            csv.append(dates[i]).append(",\"").append(amounts[i]).append("\",")
+               .append(vendor).append(",Order ").append(i).append('\n');
+        }
+        file = new MockMultipartFile("file", "bench.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() {
+        parser.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void parseDate(Blackhole blackhole) {
+        for (String date : dates) blackhole.consume(parser.parseDate(date));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void parseAmount(Blackhole blackhole) {
+        for (String amount : amounts) blackhole.consume(parser.parseAmount(amount));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void parseRow(Blackhole blackhole) {
+        Consumer<String> rejected = errors::add;
+        for (String[] row : rows) blackhole.consume(parser.parseRow(row, columnIndex, 2, rejected));
+    }
+
+    /** Reader, tokenizer, row parsing and chunking together. */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ExpenseFileParser.ParseResult parseFile() {
+        return parser.parse(file);
+    }
+
+    private String format(LocalDate date) {
+        return switch (dateFormat) {
+            case "dd/MM/yyyy" -> String.format("%02d/%02d/%d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+            case "d/M/yyyy"   -> date.getDayOfMonth() + "/" + date.getMonthValue() + "/" + date.getYear();
+            default           -> date.toString();
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.penny.expense.service.strategy;
+
+import com.penny.expense.repository.projection.CategoryTotal;
+import com.penny.expense.repository.projection.MonthlyCategoryTotal;
+import com.penny.expense.repository.projection.VendorTotal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three {@link DefaultDashboardAssembler} builders over synthetic
+ * projection rows, the shape the aggregate queries return. Real query
+ * results are far smaller; the large sizes show how each builder scales
+ * and what it allocates per row. Scores are ms per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DashboardBuildersBenchmark {
+
+    private static final String[] CATEGORIES = {
+            "Food", "Transport", "Shopping", "Utilities", "Health", "Entertainment", "Finance", "Other"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private DefaultDashboardAssembler  assembler;
+    private List<MonthlyCategoryTotal> monthly;
+    private List<CategoryTotal>        categoryTotals;
+    private List<VendorTotal>          vendorTotals;
+
+    @Setup
+    public void setUp() {
+        // The builders touch neither the repository nor the scope
+        assembler = new DefaultDashboardAssembler(null, null);
+
+        Random random = new Random(12);
+        monthly        = new ArrayList<>(rows);
+        categoryTotals = new ArrayList<>(rows);
+        vendorTotals   = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // Newest month first, one row per month and category, as the query orders them
+            int        monthsBack = i / CATEGORIES.length;
+            BigDecimal total      = BigDecimal.valueOf(100 + random.nextInt(10_000_000), 2);
+            long       count      = 1 + random.nextInt(500);
+            monthly.add(new MonthlyCategoryTotal(2024 - monthsBack / 12, 12 - monthsBack % 12,
+                    CATEGORIES[i % CATEGORIES.length], total));
+            categoryTotals.add(new CategoryTotal("Category " + i, total, count));
+            vendorTotals.add(new VendorTotal("Vendor " + i, total, count));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Map<String, BigDecimal>> monthlyByCategory() {
+        return assembler.buildMonthlyByCategory(monthly);
+    }
+
+    @Benchmark
+    public Object categoryTotals() {
+        return assembler.buildCategoryTotals(categoryTotals);
+    }
+
+    @Benchmark
+    public Object topVendors() {
+        return assembler.buildTopVendors(vendorTotals);
+    }
+}
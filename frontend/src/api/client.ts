@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { Expense, ExpenseRequest, DashboardResponse, CsvUploadResult } from '../types';
+import type { Expense, ExpenseFilter, ExpensePage, ExpenseRequest, DashboardResponse, ImportJob } from '../types';
 
 const client = axios.create({
   baseURL: import.meta.env.API_BASE_URL || '/api',
@@ -8,8 +8,8 @@ const client = axios.create({
 
 export const api = {
   // Expenses
-  listExpenses: () =>
-    client.get<Expense[]>('/expenses').then(r => r.data),
+  listExpenses: (filter: ExpenseFilter = {}, cursor?: string, limit?: number) =>
+    client.get<ExpensePage>('/expenses', { params: { ...filter, cursor, limit } }).then(r => r.data),
 
   getExpense: (id: number) =>
     client.get<Expense>(`/expenses/${id}`).then(r => r.data),
@@ -24,11 +24,17 @@ export const api = {
   uploadCsv: (file: File) => {
     const fd = new FormData();
     fd.append('file', file);
-    return client.post<CsvUploadResult>('/expenses/upload-csv', fd, {
+    return client.post<ImportJob>('/expenses/upload-csv', fd, {
       headers: { 'Content-Type': 'multipart/form-data' },
     }).then(r => r.data);
   },
 
+  getImport: (id: string) =>
+    client.get<ImportJob>(`/imports/${id}`).then(r => r.data),
+
+  cancelImport: (id: string) =>
+    client.delete<ImportJob>(`/imports/${id}`).then(r => r.data),
+
   // Dashboard
   getDashboard: () =>
     client.get<DashboardResponse>('/expenses/dashboard').then(r => r.data),
@@ -1,6 +1,6 @@
 import { useState, useEffect, useCallback } from 'react';
 import { api } from '../api/client';
-import type { Expense, DashboardResponse } from '../types';
+import type { Expense, ExpenseFilter, DashboardResponse } from '../types';
 
 // Generic fetch hook
 function useFetch<T>(fetcher: () => Promise<T>, deps: unknown[] = []) {
@@ -26,8 +26,48 @@ function useFetch<T>(fetcher: () => Promise<T>, deps: unknown[] = []) {
   return { data, loading, error, refetch: load };
 }
 
-export function useExpenses() {
-  return useFetch<Expense[]>(() => api.listExpenses());
+// Cursor-paginated expense list: first page on filter change, more on demand
+export function useExpenses(filter: ExpenseFilter) {
+  const [items, setItems] = useState<Expense[]>([]);
+  const [cursor, setCursor] = useState<string | null>(null);
+  const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [error, setError] = useState<string | null>(null);
+  const key = JSON.stringify(filter);
+
+  const load = useCallback(async () => {
+    setLoading(true);
+    setError(null);
+    try {
+      const page = await api.listExpenses(filter);
+      setItems(page.items);
+      setCursor(page.nextCursor);
+    } catch (e: unknown) {
+      setError(e instanceof Error ? e.message : 'Unknown error');
+    } finally {
+      setLoading(false);
+    }
+  // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [key]);
+
+  const loadMore = useCallback(async () => {
+    if (!cursor) return;
+    setLoadingMore(true);
+    try {
+      const page = await api.listExpenses(filter, cursor);
+      setItems(prev => [...prev, ...page.items]);
+      setCursor(page.nextCursor);
+    } catch (e: unknown) {
+      setError(e instanceof Error ? e.message : 'Unknown error');
+    } finally {
+      setLoadingMore(false);
+    }
+  // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [key, cursor]);
+
+  useEffect(() => { load(); }, [load]);
+
+  return { data: items, loading, loadingMore, error, hasMore: cursor !== null, loadMore, refetch: load };
 }
 
 export function useDashboard() {
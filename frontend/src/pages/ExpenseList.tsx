@@ -9,17 +9,17 @@ import { clsx } from 'clsx';
 const CATEGORIES = ['All','Food','Transport','Shopping','Entertainment','Utilities','Health','Finance','Other'];
 
 export const ExpenseList: React.FC = () => {
-  const { data: expenses, loading, error, refetch } = useExpenses();
   const [search, setSearch] = useState('');
   const [cat, setCat] = useState('All');
   const [deleting, setDeleting] = useState<number | null>(null);
+  // Category is filtered by the API; search text narrows the pages loaded so far
+  const { data: expenses, loading, loadingMore, error, hasMore, loadMore, refetch } =
+    useExpenses(cat === 'All' ? {} : { category: cat });
 
-  const filtered = (expenses ?? []).filter(e => {
-    const matchCat = cat === 'All' || e.category === cat;
+  const filtered = expenses.filter(e => {
     const q = search.toLowerCase();
-    const matchSearch = !q || e.vendorName.toLowerCase().includes(q) ||
+    return !q || e.vendorName.toLowerCase().includes(q) ||
       e.category.toLowerCase().includes(q) || (e.description ?? '').toLowerCase().includes(q);
-    return matchCat && matchSearch;
   });
 
   const handleDelete = async (id: number) => {
@@ -61,7 +61,9 @@ export const ExpenseList: React.FC = () => {
         </select>
       </div>
 
-      <p className="text-slate-500 text-xs mb-4 font-mono">{filtered.length} expenses</p>
+      <p className="text-slate-500 text-xs mb-4 font-mono">
+        {filtered.length} expenses{hasMore && ' loaded'}
+      </p>
 
       {filtered.length === 0 ? <Empty text="No expenses match your filters" /> : (
         <div className="overflow-x-auto">
@@ -104,6 +106,14 @@ export const ExpenseList: React.FC = () => {
           </table>
         </div>
       )}
+
+      {hasMore && (
+        <div className="flex justify-center mt-6">
+          <Button variant="ghost" onClick={loadMore} disabled={loadingMore}>
+            {loadingMore ? 'Loading…' : 'Load more'}
+          </Button>
+        </div>
+      )}
     </Card>
   );
 };
@@ -3,7 +3,7 @@ import toast from 'react-hot-toast';
 import { Upload, FileText, CheckCircle, AlertCircle, Download } from 'lucide-react';
 import { api } from '../api/client';
 import { Card, Button } from '../components/ui';
-import type { CsvUploadResult } from '../types';
+import type { CsvUploadResult, ImportJob } from '../types';
 
 const SAMPLE_CSV = `date,amount,vendor_name,description
 2024-01-10,350.00,Swiggy,Dinner
@@ -17,6 +17,21 @@ const SAMPLE_CSV = `date,amount,vendor_name,description
 2024-01-18,599.00,Spotify,Annual plan
 2024-01-19,850.00,1mg,Medicines`;
 
+const POLL_INTERVAL_MS = 1000;
+
+const isRunning = (job: ImportJob) => job.status === 'QUEUED' || job.status === 'RUNNING';
+
+/** Poll the import until it finishes, reporting progress along the way. */
+async function waitForImport(job: ImportJob, onProgress: (job: ImportJob) => void): Promise<ImportJob> {
+  let current = job;
+  while (isRunning(current)) {
+    onProgress(current);
+    await new Promise(resolve => setTimeout(resolve, POLL_INTERVAL_MS));
+    current = await api.getImport(current.id);
+  }
+  return current;
+}
+
 function downloadSample() {
   const a = document.createElement('a');
   a.href = 'data:text/csv,' + encodeURIComponent(SAMPLE_CSV);
@@ -29,6 +44,7 @@ export const UploadCsv: React.FC<{ onSuccess: () => void }> = ({ onSuccess }) =>
   const [file, setFile] = useState<File | null>(null);
   const [uploading, setUploading] = useState(false);
   const [result, setResult] = useState<CsvUploadResult | null>(null);
+  const [job, setJob] = useState<ImportJob | null>(null);
   const [dragOver, setDragOver] = useState(false);
 
   const handleFile = (f: File) => { setFile(f); setResult(null); };
@@ -36,21 +52,29 @@ export const UploadCsv: React.FC<{ onSuccess: () => void }> = ({ onSuccess }) =>
   const handleDrop = (e: React.DragEvent) => {
     e.preventDefault(); setDragOver(false);
     const f = e.dataTransfer.files[0];
-    if (f?.name.endsWith('.csv')) handleFile(f);
-    else toast.error('Please drop a .csv file');
+    if (f && /\.csv(\.gz)?$/i.test(f.name)) handleFile(f);
+    else toast.error('Please drop a .csv or .csv.gz file');
   };
 
   const handleUpload = async () => {
     if (!file) return;
     setUploading(true);
     try {
-      const res = await api.uploadCsv(file);
-      setResult(res);
-      toast.success(`Imported ${res.added} expenses`);
-      if (res.added > 0) onSuccess();
+      const finished = await waitForImport(await api.uploadCsv(file), setJob);
+      setResult({
+        added: finished.rowsProcessed,
+        skippedDuplicates: finished.skippedDuplicates,
+        failed: finished.rowsFailed,
+        errors: finished.errors,
+      });
+      if (finished.status === 'SUCCEEDED') toast.success(`Imported ${finished.rowsProcessed} expenses`);
+      else if (finished.status === 'CANCELLED') toast(`Import cancelled after ${finished.rowsProcessed} expenses`);
+      else toast.error(`Import failed: ${finished.message ?? 'unknown error'}`);
+      if (finished.rowsProcessed > 0) onSuccess();
     } catch {
       toast.error('Upload failed — check that the backend is running');
     } finally {
+      setJob(null);
       setUploading(false);
     }
   };
@@ -68,11 +92,11 @@ export const UploadCsv: React.FC<{ onSuccess: () => void }> = ({ onSuccess }) =>
             dragOver ? 'border-lime-400 bg-lime-400/5' : 'border-slate-700 hover:border-slate-500 bg-slate-800/40'
           }`}
         >
-          <input ref={inputRef} type="file" accept=".csv"
+          <input ref={inputRef} type="file" accept=".csv,.gz"
             onChange={e => e.target.files?.[0] && handleFile(e.target.files[0])}
             className="hidden" />
           <Upload className="mx-auto mb-3 text-slate-500 w-8 h-8" />
-          <p className="font-semibold text-slate-300 mb-1">Drop your CSV here</p>
+          <p className="font-semibold text-slate-300 mb-1">Drop your CSV (or .csv.gz) here</p>
           <p className="text-slate-500 text-sm">or click to browse</p>
         </div>
 
@@ -90,8 +114,13 @@ export const UploadCsv: React.FC<{ onSuccess: () => void }> = ({ onSuccess }) =>
         <div className="flex gap-3 mt-4">
           <Button onClick={handleUpload} disabled={!file || uploading}>
             <Upload className="w-4 h-4" />
-            {uploading ? 'Importing…' : 'Import'}
+            {uploading ? (job ? `Importing… ${job.rowsProcessed} rows` : 'Uploading…') : 'Import'}
           </Button>
+          {job && (
+            <Button variant="ghost" onClick={() => api.cancelImport(job.id)}>
+              Cancel
+            </Button>
+          )}
         </div>
 
         {/* Result */}
@@ -100,7 +129,9 @@ export const UploadCsv: React.FC<{ onSuccess: () => void }> = ({ onSuccess }) =>
             <div className="flex items-center gap-2 mb-2">
               {result.added > 0 ? <CheckCircle className="w-4 h-4 text-lime-400" /> : <AlertCircle className="w-4 h-4 text-slate-400" />}
               <span className="font-semibold text-sm text-slate-200">
-                {result.added} imported · {result.failed} failed
+                {result.added} imported
+                {result.skippedDuplicates > 0 && ` · ${result.skippedDuplicates} already imported`}
+                {' · '}{result.failed} failed
               </span>
             </div>
             {result.errors.length > 0 && (
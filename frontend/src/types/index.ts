@@ -16,6 +16,20 @@ export interface ExpenseRequest {
   description?: string;
 }
 
+export interface ExpenseFilter {
+  category?: string;
+  from?: string;
+  to?: string;
+  minAmount?: number;
+  maxAmount?: number;
+  anomaly?: boolean;
+}
+
+export interface ExpensePage {
+  items: Expense[];
+  nextCursor: string | null;
+}
+
 export interface VendorStat {
   vendorName: string;
   total: number;
@@ -34,10 +48,29 @@ export interface DashboardResponse {
   categoryTotals: CategoryStat[];
   anomalies: Expense[];
   anomalyCount: number;
+  moreAnomalies: string | null;
+}
+
+export type ImportStatus = 'QUEUED' | 'RUNNING' | 'SUCCEEDED' | 'FAILED' | 'CANCELLED';
+
+export interface ImportJob {
+  id: string;
+  fileName: string;
+  status: ImportStatus;
+  rowsProcessed: number;
+  skippedDuplicates: number;
+  rowsFailed: number;
+  rowsPerSecond: number;
+  errors: string[];
+  message: string | null;
+  submittedAt: string;
+  startedAt: string | null;
+  finishedAt: string | null;
 }
 
 export interface CsvUploadResult {
   added: number;
+  skippedDuplicates: number;
   failed: number;
   errors: string[];
 }
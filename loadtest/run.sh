@@ -0,0 +1,22 @@
+#!/usr/bin/env sh
+# Build the load-test harness and run it against an in-process service on
+# H2, writing a JSON summary named after the current commit:
+#
+#   loadtest/run.sh                                   # 1M expenses, default mix, 60s
+#   loadtest/run.sh --expenses=100000 --concurrency=32 --mix=list:1,dashboard:1
+#
+# Options are listed in LoadTestOptions. JAVA_OPTS overrides the heap.
+set -eu
+
+cd "$(dirname "$0")/.."
+
+mvn -B -q -pl loadtest -am package -DskipTests
+
+rev=$(git rev-parse --short HEAD)
+if [ -n "$(git status --porcelain -- backend loadtest)" ]; then
+    rev="$rev-dirty"
+fi
+
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:--Xmx4g} -jar loadtest/target/penny-loadtest-1.0.0.jar \
+    --commit="$rev" --out="loadtest/results/$rev.json" "$@"
@@ -0,0 +1,93 @@
+package com.penny.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * The REST calls a scenario can mix, each named as it appears in
+ * {@code --mix} and in the summary. Parameters (ids, categories, date
+ * ranges, new expenses) are drawn from the worker's seeded random source.
+ */
+enum Endpoint {
+
+    /** First page of the list, newest first. */
+    LIST("list", (target, random) -> target.get("/api/expenses?limit=50")),
+
+    /** A list page narrowed to one category and a 90-day window. */
+    LIST_FILTERED("list-filtered", (target, random) -> {
+        LocalDate from = target.randomDate(random, 90);
+        return target.get("/api/expenses?limit=50&category=" + target.randomCategory(random)
+                + "&from=" + from + "&to=" + from.plusDays(89));
+    }),
+
+    /** One expense by id, from anywhere in the seeded range. */
+    DETAIL("detail", (target, random) -> target.get("/api/expenses/" + target.randomId(random))),
+
+    /** A new expense; invalidates the cached dashboard and queues a recalculation. */
+    CREATE("create", (target, random) -> target.post("/api/expenses", target.newExpenseJson())),
+
+    /** The all-time dashboard, cached between writes. */
+    DASHBOARD("dashboard", (target, random) -> target.get("/api/expenses/dashboard")),
+
+    /** The dashboard for one category over a quarter; assembled on every request. */
+    DASHBOARD_SCOPED("dashboard-scoped", (target, random) -> {
+        LocalDate from = target.randomDate(random, 90);
+        return target.get("/api/expenses/dashboard?category=" + target.randomCategory(random)
+                + "&from=" + from + "&to=" + from.plusDays(89));
+    }),
+
+    /** A full NDJSON export — every row; only sensible at small scale or low weight. */
+    EXPORT("export", (target, random) -> target.get("/api/expenses/export?format=ndjson"));
+
+    private final String                                  key;
+    private final BiFunction<Target, Random, HttpRequest> request;
+
+    Endpoint(String key, BiFunction<Target, Random, HttpRequest> request) {
+        this.key     = key;
+        this.request = request;
+    }
+
+    String key() {
+        return key;
+    }
+
+    HttpRequest request(Target target, Random random) {
+        return request.apply(target, random);
+    }
+
+    static Endpoint of(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) return endpoint;
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "'");
+    }
+
+    /** What the requests are built against: the running app and the data seeded into it. */
+    interface Target {
+
+        URI baseUri();
+
+        long randomId(Random random);
+
+        String randomCategory(Random random);
+
+        /** Start of a window of {@code spanDays} inside the seeded date range. */
+        LocalDate randomDate(Random random, int spanDays);
+
+        String newExpenseJson();
+
+        default HttpRequest get(String path) {
+            return HttpRequest.newBuilder(baseUri().resolve(path)).GET().build();
+        }
+
+        default HttpRequest post(String path, String json) {
+            return HttpRequest.newBuilder(baseUri().resolve(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.penny.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Response times and outcomes for one endpoint. Every sample is kept (a
+ * run of a few hundred thousand requests is a few MB), so percentiles are
+ * exact rather than bucketed.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int    count;
+    private long   errors;
+
+    synchronized void record(long elapsedNanos, boolean success) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+        if (!success) errors++;
+    }
+
+    /** Summary over everything recorded, with throughput over {@code windowNanos}. */
+    synchronized LoadTestSummary.EndpointStats summarize(String name, long windowNanos) {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        double seconds = windowNanos / 1e9;
+        return new LoadTestSummary.EndpointStats(
+                name,
+                count,
+                errors,
+                seconds > 0 ? count / seconds : 0,
+                millis(percentile(sorted, 50)),
+                millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)),
+                millis(count == 0 ? 0 : sorted[count - 1]),
+                millis(count == 0 ? 0 : (long) Arrays.stream(sorted).average().orElse(0)));
+    }
+
+    /** Nearest-rank percentile. */
+    private static long percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,203 @@
+package com.penny.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.penny.expense.ExpenseApplication;
+import com.penny.expense.model.Expense;
+import com.penny.expense.service.AnomalyRecalculationQueue;
+import com.penny.expense.service.DuplicateDetector;
+import com.penny.expense.service.ExpenseService;
+import com.penny.expense.service.strategy.CategorizationStrategy;
+import com.penny.expense.service.strategy.KeywordCategorizationStrategy;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Load-test entry point. Starts the service in-process on the H2 dev
+ * profile and a random port, seeds it with {@link SyntheticExpenseGenerator}
+ * through the same chunked import path a CSV upload job uses (so rollups,
+ * dictionaries and anomaly flags are all in place), then drives the REST
+ * API with {@link ScenarioRunner} and writes a {@link LoadTestSummary}.
+ *
+ * See {@link LoadTestOptions} for the flags; {@code loadtest/run.sh} builds
+ * and runs it with the commit id in the file name.
+ */
+public final class LoadTest {
+
+    private static final int SEED_CHUNK = 5_000;
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper    json    = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        Instant startedAt = Instant.now();
+
+        try (ConfigurableApplicationContext app = start()) {
+            CategorizationStrategy    categorization = app.getBean(KeywordCategorizationStrategy.class);
+            SyntheticExpenseGenerator generator      = new SyntheticExpenseGenerator(
+                    options.seed(), categorization, options.outlierRate(), LocalDate.now(), options.days());
+
+            double seedingSeconds = seed(app, generator, options.expenses());
+
+            URI           baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort());
+            SeededTarget  target  = new SeededTarget(baseUri, app.getBean(JdbcTemplate.class), categorization, generator, json);
+            HttpClient    client  = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            System.out.printf("Running %s for %ds (after %ds warm-up) with %d workers%n",
+                    options.mix(), options.duration().toSeconds(), options.warmup().toSeconds(), options.concurrency());
+            ScenarioRunner.Result result = new ScenarioRunner(client, target, options.mix(), options.concurrency(), options.seed())
+                    .run(options.warmup(), options.duration());
+
+            Map<String, Integer> mix = new LinkedHashMap<>();
+            options.mix().forEach((endpoint, weight) -> mix.put(endpoint.key(), weight));
+            LoadTestSummary summary = new LoadTestSummary(startedAt, options.commit(), options.seed(),
+                    options.expenses(), seedingSeconds, options.concurrency(),
+                    options.warmup().toSeconds(), options.duration().toSeconds(), mix,
+                    result.total(), result.endpoints());
+
+            print(summary);
+            write(summary, options, json);
+        }
+    }
+
+    // ── Private helpers
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ExpenseApplication.class)
+                .profiles("dev")
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.h2.console.enabled", "false",
+                        "logging.level.root", "WARN"))
+                .run();
+    }
+
+    /** Import {@code count} rows chunk by chunk, as one file, and settle anomaly flags; returns seconds taken. */
+    private static double seed(ConfigurableApplicationContext app, SyntheticExpenseGenerator generator, long count) {
+        ExpenseService    expenseService = app.getBean(ExpenseService.class);
+        DuplicateDetector duplicates     = expenseService.duplicateDetector();
+        long              started        = System.nanoTime();
+        long              seeded         = 0;
+        while (seeded < count) {
+            List<Expense> chunk = generator.next((int) Math.min(SEED_CHUNK, count - seeded));
+            expenseService.importChunk(chunk, duplicates);
+            seeded += chunk.size();
+            if (seeded % 100_000 < SEED_CHUNK || seeded == count) {
+                System.out.printf("Seeded %,d / %,d expenses%n", seeded, count);
+            }
+        }
+        app.getBean(AnomalyRecalculationQueue.class).flush();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("Seeding took %.1fs%n", seconds);
+        return seconds;
+    }
+
+    private static void print(LoadTestSummary summary) {
+        System.out.printf("%n%-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LoadTestSummary.EndpointStats stats : summary.endpoints()) {
+            printRow(stats);
+        }
+        printRow(summary.total());
+    }
+
+    private static void printRow(LoadTestSummary.EndpointStats stats) {
+        System.out.printf("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                stats.endpoint(), stats.requests(), stats.errors(), stats.throughputPerSecond(),
+                stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.maxMs());
+    }
+
+    private static void write(LoadTestSummary summary, LoadTestOptions options, ObjectMapper json) throws IOException {
+        if (options.out().getParent() != null) {
+            Files.createDirectories(options.out().getParent());
+        }
+        json.writeValue(options.out().toFile(), summary);
+        System.out.println("\nSummary written to " + options.out());
+    }
+
+    /** Request parameters drawn from what was actually seeded. */
+    private static final class SeededTarget implements Endpoint.Target {
+
+        private final URI                       baseUri;
+        private final long                      minId;
+        private final long                      maxId;
+        private final String[]                  categories;
+        private final LocalDate                 oldest;
+        private final long                      spanDays;
+        private final SyntheticExpenseGenerator generator;
+        private final ObjectMapper              json;
+
+        SeededTarget(URI baseUri, JdbcTemplate jdbc, CategorizationStrategy categorization,
+                     SyntheticExpenseGenerator generator, ObjectMapper json) {
+            this.baseUri    = baseUri;
+            this.minId      = jdbc.queryForObject("SELECT MIN(id) FROM expenses", Long.class);
+            this.maxId      = jdbc.queryForObject("SELECT MAX(id) FROM expenses", Long.class);
+            this.oldest     = generator.oldestDate();
+            this.spanDays   = ChronoUnit.DAYS.between(oldest, LocalDate.now()) + 1;
+            this.generator  = generator;
+            this.json       = json;
+
+            TreeSet<String> names = new TreeSet<>(categorization.getRules().values());
+            names.add(CategorizationStrategy.FALLBACK_CATEGORY);
+            this.categories = names.toArray(String[]::new);
+        }
+
+        @Override
+        public URI baseUri() {
+            return baseUri;
+        }
+
+        @Override
+        public long randomId(Random random) {
+            return minId + (long) (random.nextDouble() * (maxId - minId + 1));
+        }
+
+        @Override
+        public String randomCategory(Random random) {
+            return categories[random.nextInt(categories.length)];
+        }
+
+        @Override
+        public LocalDate randomDate(Random random, int spanDays) {
+            return oldest.plusDays(random.nextInt((int) Math.max(1, this.spanDays - spanDays + 1)));
+        }
+
+        @Override
+        public String newExpenseJson() {
+            Map<String, Object> request;
+            // The generator's random source is shared by all workers
+            synchronized (generator) {
+                request = generator.nextRequest();
+            }
+            try {
+                return json.writeValueAsString(request);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.penny.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line options, all {@code --name=value}:
+ *
+ * <pre>
+ *   --expenses=1000000      rows to seed before the run
+ *   --days=730              seeded dates span this many days back from today
+ *   --outlier-rate=0.02     share of rows inflated 4–15× (anomaly candidates)
+ *   --concurrency=16        closed-loop workers, one request in flight each
+ *   --warmup=10s            run, but do not record, for this long first
+ *   --duration=60s          recorded window
+ *   --mix=list:35,...       endpoint weights; see {@link Endpoint} for names
+ *   --seed=42               data and request choices are reproducible per seed
+ *   --commit=...            recorded in the summary
+ *   --out=loadtest/results/summary.json
+ * </pre>
+ */
+record LoadTestOptions(
+        long                   expenses,
+        int                    days,
+        double                 outlierRate,
+        int                    concurrency,
+        Duration               warmup,
+        Duration               duration,
+        Map<Endpoint, Integer> mix,
+        long                   seed,
+        String                 commit,
+        Path                   out
+) {
+
+    static final String DEFAULT_MIX = "list:35,list-filtered:15,detail:20,create:10,dashboard:15,dashboard-scoped:5";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Long.parseLong(take(values, "expenses", "1000000")),
+                Integer.parseInt(take(values, "days", "730")),
+                Double.parseDouble(take(values, "outlier-rate", "0.02")),
+                Integer.parseInt(take(values, "concurrency", "16")),
+                duration(take(values, "warmup", "10s")),
+                duration(take(values, "duration", "60s")),
+                mix(take(values, "mix", DEFAULT_MIX)),
+                Long.parseLong(take(values, "seed", "42")),
+                take(values, "commit", "unknown"),
+                Path.of(take(values, "out", "loadtest/results/summary.json")));
+
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.concurrency() < 1 || options.days() < 1 || options.expenses() < 1) {
+            throw new IllegalArgumentException("expenses, days and concurrency must be at least 1");
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String fallback) {
+        String value = values.remove(name);
+        return value != null ? value : fallback;
+    }
+
+    /** {@code 90s}, {@code 2m} or a plain number of seconds. */
+    private static Duration duration(String value) {
+        if (value.endsWith("m")) return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("s")) return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static Map<Endpoint, Integer> mix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts  = entry.trim().split(":");
+            int      weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            if (weight > 0) mix.put(Endpoint.of(parts[0]), weight);
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix needs at least one endpoint with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,37 @@
+package com.penny.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-readable result of one run, written as JSON. Latencies are in
+ * milliseconds; throughput is completed requests per second over the
+ * measured window (warm-up excluded).
+ */
+record LoadTestSummary(
+        Instant              startedAt,
+        String               commit,
+        long                 seed,
+        long                 expenses,
+        double               seedingSeconds,
+        int                  concurrency,
+        long                 warmupSeconds,
+        long                 durationSeconds,
+        Map<String, Integer> mix,
+        EndpointStats        total,
+        List<EndpointStats>  endpoints
+) {
+
+    record EndpointStats(
+            String endpoint,
+            long   requests,
+            long   errors,
+            double throughputPerSecond,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            double meanMs
+    ) {}
+}
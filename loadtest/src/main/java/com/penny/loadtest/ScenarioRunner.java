@@ -0,0 +1,121 @@
+package com.penny.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load: {@code concurrency} workers each send one request,
+ * wait for the full response, and immediately send the next, picking the
+ * endpoint by the weights of the mix. Requests that complete during the
+ * warm-up are not recorded.
+ *
+ * Worker {@code i} draws from {@code new Random(seed + i)}, so a run with
+ * the same seed and concurrency sends the same sequence of requests per
+ * worker. A request counts as an error on any non-2xx status or I/O
+ * failure.
+ */
+final class ScenarioRunner {
+
+    private final HttpClient      client;
+    private final Endpoint.Target target;
+    private final Endpoint[]      endpoints;
+    private final int[]           cumulativeWeights;
+    private final int             concurrency;
+    private final long            seed;
+
+    private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+    private final LatencyRecorder                total     = new LatencyRecorder();
+
+    ScenarioRunner(HttpClient client, Endpoint.Target target, Map<Endpoint, Integer> mix, int concurrency, long seed) {
+        this.client            = client;
+        this.target            = target;
+        this.endpoints         = mix.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        this.concurrency       = concurrency;
+        this.seed              = seed;
+
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += mix.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+            recorders.put(endpoints[i], new LatencyRecorder());
+        }
+    }
+
+    /** Run the warm-up and the measured window; returns per-endpoint stats and the total. */
+    Result run(Duration warmup, Duration duration) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt      = measureFrom + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                Random random = new Random(seed + i);
+                running.add(workers.submit(() -> work(random, measureFrom, stopAt)));
+            }
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long window = duration.toNanos();
+        List<LoadTestSummary.EndpointStats> stats = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> stats.add(recorder.summarize(endpoint.key(), window)));
+        return new Result(total.summarize("total", window), stats);
+    }
+
+    record Result(LoadTestSummary.EndpointStats total, List<LoadTestSummary.EndpointStats> endpoints) {}
+
+    // ── Private helpers
+
+    private void work(Random random, long measureFrom, long stopAt) {
+        while (System.nanoTime() < stopAt && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = pick(random);
+            long     started  = System.nanoTime();
+            boolean  success;
+            try {
+                HttpResponse<Void> response = client.send(endpoint.request(target, random),
+                        HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long finished = System.nanoTime();
+            if (finished >= measureFrom && finished < stopAt) {
+                recorders.get(endpoint).record(finished - started, success);
+                total.record(finished - started, success);
+            }
+        }
+    }
+
+    private Endpoint pick(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) return endpoints[i];
+        }
+        return endpoints[endpoints.length - 1];
+    }
+}
@@ -0,0 +1,163 @@
+package com.penny.loadtest;
+
+import com.penny.expense.model.Expense;
+import com.penny.expense.model.Money;
+import com.penny.expense.service.strategy.CategorizationStrategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic stream of realistic-looking expenses. The same seed always
+ * yields the same rows, so two runs seed identical data.
+ *
+ * Vendors: every keyword from the categorization rules plus a set of
+ * unmatched local vendors (which fall back to "Other"), drawn with Zipf
+ * weights so a few vendors dominate, as on a real statement. Categories
+ * are assigned by the service's own {@link CategorizationStrategy}.
+ *
+ * Amounts: log-normal around a per-category median, so most rows are
+ * ordinary and the tail is long; about {@code outlierRate} of rows are
+ * multiplied 4–15×, which puts them above the 3× category-mean anomaly
+ * threshold.
+ *
+ * Dates: spread over the last {@code days} days, weekends about 40% busier
+ * than weekdays.
+ */
+final class SyntheticExpenseGenerator {
+
+    private static final Map<String, Integer> MEDIAN_RUPEES = Map.of(
+            "Food", 350, "Transport", 600, "Shopping", 1_800, "Utilities", 2_500,
+            "Entertainment", 700, "Health", 1_200, "Finance", 12_000);
+    private static final int    DEFAULT_MEDIAN_RUPEES = 900;
+    private static final double SIGMA                 = 0.6;
+    private static final double WEEKEND_WEIGHT        = 1.4;
+    private static final double ZIPF_EXPONENT         = 1.1;
+
+    private static final String[] LOCAL_VENDORS = {
+            "Corner Stationers", "Ravi Tailoring Works", "Northwind Traders", "Local Hardware 17",
+            "Lakeside Florist", "Blue Door Bakery", "P. Sharma & Sons", "Municipal Parking",
+            "City Laundry", "Green Leaf Nursery", "Sai Xerox Centre", "Metro Key Makers"};
+
+    private final Random                 random;
+    private final CategorizationStrategy categorizationStrategy;
+    private final double                 outlierRate;
+    private final LocalDate              today;
+    private final int                    days;
+    private final String[]               vendors;
+    private final double[]               cumulativeWeights;
+    private long                         sequence;
+
+    SyntheticExpenseGenerator(long seed, CategorizationStrategy categorizationStrategy,
+                              double outlierRate, LocalDate today, int days) {
+        this.random                 = new Random(seed);
+        this.categorizationStrategy = categorizationStrategy;
+        this.outlierRate            = outlierRate;
+        this.today                  = today;
+        this.days                   = days;
+
+        List<String> names = new ArrayList<>();
+        categorizationStrategy.getRules().keySet().forEach(keyword -> names.add(titleCase(keyword)));
+        names.addAll(List.of(LOCAL_VENDORS));
+        // Shuffled with the seed, so which vendors are popular is reproducible but not alphabetical
+        Collections.shuffle(names, random);
+
+        this.vendors           = names.toArray(String[]::new);
+        this.cumulativeWeights = new double[vendors.length];
+        double total = 0;
+        for (int i = 0; i < vendors.length; i++) {
+            total += 1 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < vendors.length; i++) {
+            cumulativeWeights[i] /= total;
+        }
+    }
+
+    /** The next {@code count} expenses, categorized and ready to import. */
+    List<Expense> next(int count) {
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expenses.add(next());
+        }
+        return expenses;
+    }
+
+    Expense next() {
+        String vendor   = vendor();
+        String category = categorizationStrategy.categorize(vendor);
+        return Expense.builder()
+                .date(date())
+                .amount(amount(category))
+                .vendorName(vendor)
+                .description("Synthetic #" + (++sequence))
+                .category(category)
+                .build();
+    }
+
+    /** A vendor, date and amount as a create request would carry them. */
+    Map<String, Object> nextRequest() {
+        Expense expense = next();
+        return Map.of(
+                "date", expense.getDate().toString(),
+                "amount", expense.getAmount(),
+                "vendorName", expense.getVendorName(),
+                "description", expense.getDescription());
+    }
+
+    LocalDate oldestDate() {
+        return today.minusDays(days - 1L);
+    }
+
+    // ── Private helpers
+
+    private String vendor() {
+        double draw = random.nextDouble();
+        int    low  = 0;
+        int    high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] < draw) low = mid + 1;
+            else high = mid;
+        }
+        return vendors[low];
+    }
+
+    private LocalDate date() {
+        while (true) {
+            LocalDate date    = today.minusDays(random.nextInt(days));
+            boolean   weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (weekend || random.nextDouble() < 1 / WEEKEND_WEIGHT) {
+                return date;
+            }
+        }
+    }
+
+    private BigDecimal amount(String category) {
+        double rupees = MEDIAN_RUPEES.getOrDefault(category, DEFAULT_MEDIAN_RUPEES)
+                * Math.exp(SIGMA * random.nextGaussian());
+        if (random.nextDouble() < outlierRate) {
+            rupees *= 4 + random.nextDouble() * 11;
+        }
+        BigDecimal amount = BigDecimal.valueOf(rupees).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal max    = Money.MAX_EXPENSE_AMOUNT.toBigDecimal();
+        return amount.signum() <= 0 ? new BigDecimal("0.01") : amount.min(max);
+    }
+
+    private static String titleCase(String keyword) {
+        StringBuilder name = new StringBuilder(keyword.length());
+        boolean       upper = true;
+        for (char c : keyword.toCharArray()) {
+            name.append(upper ? Character.toUpperCase(c) : c);
+            upper = c == ' ';
+        }
+        return name.toString();
+    }
+}